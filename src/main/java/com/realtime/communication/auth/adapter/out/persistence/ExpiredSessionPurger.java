@@ -0,0 +1,61 @@
+package com.realtime.communication.auth.adapter.out.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Deletes user_sessions rows that expired longer than the retention period ago.
+ * Rows go in small batches, each its own short statement, so the purge never holds many row
+ * locks at once; SKIP LOCKED lets purgers on several nodes run without waiting on each other.
+ */
+@Component
+class ExpiredSessionPurger {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExpiredSessionPurger.class);
+    private static final String PURGE_SQL = """
+        DELETE FROM user_sessions WHERE id IN (
+          SELECT id FROM user_sessions WHERE expires_at < ? LIMIT ? FOR UPDATE SKIP LOCKED
+        )
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Duration retention;
+
+    ExpiredSessionPurger(JdbcTemplate jdbcTemplate,
+                         @Value("${app.auth.session-purge.batch-size:1000}") int batchSize,
+                         @Value("${app.auth.session-purge.retention-hours:168}") long retentionHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth.session-purge.interval-ms:600000}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.ofInstant(Instant.now().minus(retention), ZoneOffset.UTC);
+        long purged = 0;
+        try {
+            int deleted;
+            do {
+                deleted = jdbcTemplate.update(PURGE_SQL, cutoff, batchSize);
+                purged += deleted;
+            } while (deleted == batchSize);
+        } catch (DataAccessException e) {
+            logger.error("Failed to purge expired sessions after {} rows, will retry", purged, e);
+            return;
+        }
+        if (purged > 0) {
+            logger.info("Purged {} expired sessions", purged);
+        }
+    }
+}
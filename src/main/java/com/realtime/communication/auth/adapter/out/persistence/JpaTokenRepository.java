@@ -3,27 +3,41 @@ package com.realtime.communication.auth.adapter.out.persistence;
 import com.realtime.communication.auth.application.port.TokenRepository;
 import com.realtime.communication.auth.domain.model.UserId;
 import com.realtime.communication.auth.domain.model.UserSession;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
- * JPA implementation of TokenRepository
+ * JPA implementation of TokenRepository.
+ * Sessions are only ever inserted (see AssignedIdEntity) and then revoked with bulk updates,
+ * so no session is looked up before it is written.
  */
 @Repository
 interface JpaTokenRepositoryInterface extends JpaRepository<UserSessionJpaEntity, UUID> {
     Optional<UserSessionJpaEntity> findByRefreshToken(String refreshToken);
-    
+
+    List<UserSessionJpaEntity> findByUserIdAndRevokedFalseAndExpiresAtAfter(UUID userId, Instant now);
+
     @Modifying
     @Query("UPDATE UserSessionJpaEntity s SET s.revoked = true WHERE s.userId = :userId")
     void revokeByUserId(UUID userId);
+
+    @Modifying
+    @Query("UPDATE UserSessionJpaEntity s SET s.revoked = true "
+        + "WHERE s.refreshToken = :refreshToken AND s.revoked = false")
+    int revokeByRefreshToken(String refreshToken);
 }
 
 @Repository
+@ConditionalOnProperty(name = "app.auth.session-store", havingValue = "jpa", matchIfMissing = true)
 class JpaTokenRepositoryImpl implements TokenRepository {
 
     private final JpaTokenRepositoryInterface jpaRepository;
@@ -45,15 +59,31 @@ class JpaTokenRepositoryImpl implements TokenRepository {
     }
 
     @Override
-    public void revokeByUserId(UUID userId) {
+    @Transactional
+    public boolean rotate(String refreshToken, UserSession replacement) {
+        if (jpaRepository.revokeByRefreshToken(refreshToken) == 0) {
+            return false;
+        }
+        jpaRepository.save(toEntity(replacement));
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public List<UserSession> revokeByUserId(UUID userId) {
+        List<UserSession> active = jpaRepository.findByUserIdAndRevokedFalseAndExpiresAtAfter(userId, Instant.now())
+            .stream()
+            .map(this::toDomain)
+            .toList();
         jpaRepository.revokeByUserId(userId);
+        return active;
     }
 
     private UserSessionJpaEntity toEntity(UserSession session) {
         UserSessionJpaEntity entity = new UserSessionJpaEntity();
         entity.setId(session.getId());
         entity.setUserId(session.getUserId().getValue());
-        entity.setAccessToken(session.getAccessToken());
+        entity.setAccessTokenId(session.getAccessTokenId());
         entity.setRefreshToken(session.getRefreshToken());
         entity.setDeviceInfo(session.getDeviceInfo());
         entity.setCreatedAt(session.getCreatedAt());
@@ -66,7 +96,7 @@ class JpaTokenRepositoryImpl implements TokenRepository {
         return new UserSession(
             entity.getId(),
             new UserId(entity.getUserId()),
-            entity.getAccessToken(),
+            entity.getAccessTokenId(),
             entity.getRefreshToken(),
             entity.getDeviceInfo(),
             entity.getExpiresAt()
@@ -0,0 +1,39 @@
+package com.realtime.communication.auth.adapter.out.persistence;
+
+import com.realtime.communication.auth.application.port.AccessTokenDenylist;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Redis implementation of AccessTokenDenylist.
+ * One key per denied token id that expires together with the token, so a check is a single
+ * EXISTS and the denylist never holds more than the tokens that are still otherwise valid.
+ */
+@Repository
+class RedisAccessTokenDenylist implements AccessTokenDenylist {
+
+    private static final String DENIED_PREFIX = "auth:denied-token:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    RedisAccessTokenDenylist(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void deny(String tokenId, Instant expiresAt) {
+        Duration remaining = Duration.between(Instant.now(), expiresAt);
+        if (remaining.isNegative() || remaining.isZero()) {
+            return;
+        }
+        redisTemplate.opsForValue().set(DENIED_PREFIX + tokenId, "1", remaining);
+    }
+
+    @Override
+    public boolean isDenied(String tokenId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(DENIED_PREFIX + tokenId));
+    }
+}
@@ -0,0 +1,188 @@
+package com.realtime.communication.auth.adapter.out.persistence;
+
+import com.realtime.communication.auth.application.port.TokenRepository;
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.auth.domain.model.UserSession;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis implementation of TokenRepository.
+ * Each session is a hash keyed by its refresh token that expires with the session, so lookups are
+ * a single HGETALL and expired sessions need no cleanup. Revoking deletes the hash. Rotation checks,
+ * consumes the old session and stores the new one in one script, so a refresh token works only once.
+ * Every change is also handed to the session audit log, which writes it to Postgres asynchronously.
+ *
+ * <p>Keys: auth:session:{refreshToken} (session fields) and auth:user-sessions:{userId} (refresh
+ * tokens of the user's sessions). The scripts derive keys from arguments, so this assumes a
+ * non-clustered Redis.
+ */
+@Repository
+@ConditionalOnProperty(name = "app.auth.session-store", havingValue = "redis")
+class RedisTokenRepository implements TokenRepository {
+
+    private static final String SESSION_PREFIX = "auth:session:";
+    private static final String USER_SESSIONS_PREFIX = "auth:user-sessions:";
+
+    // KEYS: session, user sessions; ARGV: refresh token, expires at (epoch ms), ttl (ms), field/value pairs
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('HSET', KEYS[1], unpack(ARGV, 4))
+        redis.call('PEXPIREAT', KEYS[1], ARGV[2])
+        redis.call('SADD', KEYS[2], ARGV[1])
+        if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[3]) then
+          redis.call('PEXPIRE', KEYS[2], ARGV[3])
+        end
+        return 1
+        """, Long.class);
+
+    // KEYS: old session, new session, user sessions;
+    // ARGV: user id, old token, new token, expires at (epoch ms), ttl (ms), field/value pairs
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('HGET', KEYS[1], 'userId') ~= ARGV[1] then
+          return 0
+        end
+        redis.call('DEL', KEYS[1])
+        redis.call('SREM', KEYS[3], ARGV[2])
+        redis.call('HSET', KEYS[2], unpack(ARGV, 6))
+        redis.call('PEXPIREAT', KEYS[2], ARGV[4])
+        redis.call('SADD', KEYS[3], ARGV[3])
+        if redis.call('PTTL', KEYS[3]) < tonumber(ARGV[5]) then
+          redis.call('PEXPIRE', KEYS[3], ARGV[5])
+        end
+        return 1
+        """, Long.class);
+
+    // KEYS: user sessions; ARGV: session prefix. Returns the fields of each deleted session.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>("""
+        local sessions = {}
+        local tokens = redis.call('SMEMBERS', KEYS[1])
+        for _, token in ipairs(tokens) do
+          local key = ARGV[1] .. token
+          local fields = redis.call('HGETALL', key)
+          if #fields > 0 then
+            table.insert(fields, 'refreshToken')
+            table.insert(fields, token)
+            sessions[#sessions + 1] = fields
+          end
+          redis.call('DEL', key)
+        end
+        redis.call('DEL', KEYS[1])
+        return sessions
+        """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Optional<SessionAuditLog> auditLog;
+
+    RedisTokenRepository(StringRedisTemplate redisTemplate, Optional<SessionAuditLog> auditLog) {
+        this.redisTemplate = redisTemplate;
+        this.auditLog = auditLog;
+    }
+
+    @Override
+    public UserSession save(UserSession session) {
+        String userId = session.getUserId().getValue().toString();
+        if (session.isRevoked()) {
+            redisTemplate.delete(SESSION_PREFIX + session.getRefreshToken());
+            redisTemplate.opsForSet().remove(USER_SESSIONS_PREFIX + userId, session.getRefreshToken());
+            auditLog.ifPresent(log -> log.recordRevoked(session.getRefreshToken()));
+            return session;
+        }
+        List<String> args = new ArrayList<>(List.of(session.getRefreshToken(),
+            Long.toString(session.getExpiresAt().toEpochMilli()), Long.toString(ttlMillis(session))));
+        args.addAll(fieldsOf(session));
+        redisTemplate.execute(SAVE_SCRIPT,
+            List.of(SESSION_PREFIX + session.getRefreshToken(), USER_SESSIONS_PREFIX + userId), args.toArray());
+        auditLog.ifPresent(log -> log.recordIssued(session));
+        return session;
+    }
+
+    @Override
+    public Optional<UserSession> findByRefreshToken(String refreshToken) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(SESSION_PREFIX + refreshToken);
+        if (fields == null || fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(toDomain(refreshToken, fields));
+    }
+
+    @Override
+    public boolean rotate(String refreshToken, UserSession replacement) {
+        String userId = replacement.getUserId().getValue().toString();
+        List<String> keys = List.of(SESSION_PREFIX + refreshToken,
+            SESSION_PREFIX + replacement.getRefreshToken(), USER_SESSIONS_PREFIX + userId);
+        List<String> args = new ArrayList<>(List.of(userId, refreshToken, replacement.getRefreshToken(),
+            Long.toString(replacement.getExpiresAt().toEpochMilli()), Long.toString(ttlMillis(replacement))));
+        args.addAll(fieldsOf(replacement));
+        Long rotated = redisTemplate.execute(ROTATE_SCRIPT, keys, args.toArray());
+        if (rotated == null || rotated == 0) {
+            return false;
+        }
+        auditLog.ifPresent(log -> log.recordRotated(refreshToken, replacement));
+        return true;
+    }
+
+    @Override
+    public List<UserSession> revokeByUserId(UUID userId) {
+        List<?> deleted = redisTemplate.execute(REVOKE_ALL_SCRIPT,
+            List.of(USER_SESSIONS_PREFIX + userId), SESSION_PREFIX);
+        auditLog.ifPresent(log -> log.recordRevokedForUser(userId));
+        if (deleted == null) {
+            return List.of();
+        }
+        List<UserSession> sessions = new ArrayList<>(deleted.size());
+        for (Object entry : deleted) {
+            List<?> pairs = (List<?>) entry;
+            Map<Object, Object> fields = new HashMap<>();
+            for (int i = 0; i + 1 < pairs.size(); i += 2) {
+                fields.put(pairs.get(i), pairs.get(i + 1));
+            }
+            sessions.add(toDomain((String) fields.get("refreshToken"), fields));
+        }
+        return sessions;
+    }
+
+    private static UserSession toDomain(String refreshToken, Map<Object, Object> fields) {
+        return new UserSession(
+            UUID.fromString((String) fields.get("id")),
+            new UserId(UUID.fromString((String) fields.get("userId"))),
+            (String) fields.get("accessTokenId"),
+            refreshToken,
+            (String) fields.get("deviceInfo"),
+            Instant.ofEpochMilli(Long.parseLong((String) fields.get("expiresAt")))
+        );
+    }
+
+    private static long ttlMillis(UserSession session) {
+        return Math.max(1, session.getExpiresAt().toEpochMilli() - System.currentTimeMillis());
+    }
+
+    private static List<String> fieldsOf(UserSession session) {
+        List<String> fields = new ArrayList<>(List.of(
+            "id", session.getId().toString(),
+            "userId", session.getUserId().getValue().toString(),
+            "createdAt", Long.toString(session.getCreatedAt().toEpochMilli()),
+            "expiresAt", Long.toString(session.getExpiresAt().toEpochMilli())
+        ));
+        if (session.getAccessTokenId() != null) {
+            fields.add("accessTokenId");
+            fields.add(session.getAccessTokenId());
+        }
+        if (session.getDeviceInfo() != null) {
+            fields.add("deviceInfo");
+            fields.add(session.getDeviceInfo());
+        }
+        return fields;
+    }
+}
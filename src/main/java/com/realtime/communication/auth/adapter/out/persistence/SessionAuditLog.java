@@ -0,0 +1,94 @@
+package com.realtime.communication.auth.adapter.out.persistence;
+
+import com.realtime.communication.auth.domain.model.UserSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Writes session changes made in the Redis token store to user_sessions as an audit trail.
+ * Writes run on the bounded sessionAuditExecutor and are never read back for authentication,
+ * so a slow or failing database only costs audit rows, never logins or refreshes.
+ */
+@Component
+@ConditionalOnProperty(name = "app.auth.session-audit.enabled", havingValue = "true", matchIfMissing = true)
+class SessionAuditLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionAuditLog.class);
+    private static final String INSERT_SQL = """
+        INSERT INTO user_sessions (id, user_id, access_token_id, refresh_token, device_info, created_at, expires_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT DO NOTHING
+        """;
+    private static final String REVOKE_SQL = "UPDATE user_sessions SET revoked = TRUE WHERE refresh_token = ?";
+    private static final String REVOKE_USER_SQL =
+        "UPDATE user_sessions SET revoked = TRUE WHERE user_id = ? AND revoked = FALSE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    SessionAuditLog(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Async("sessionAuditExecutor")
+    public void recordIssued(UserSession session) {
+        try {
+            insert(session);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to audit session {} of user {}", session.getId(), session.getUserId(), e);
+        }
+    }
+
+    @Async("sessionAuditExecutor")
+    public void recordRotated(String refreshToken, UserSession replacement) {
+        try {
+            jdbcTemplate.update(REVOKE_SQL, refreshToken);
+            insert(replacement);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to audit rotation to session {} of user {}",
+                replacement.getId(), replacement.getUserId(), e);
+        }
+    }
+
+    @Async("sessionAuditExecutor")
+    public void recordRevoked(String refreshToken) {
+        try {
+            jdbcTemplate.update(REVOKE_SQL, refreshToken);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to audit session revocation", e);
+        }
+    }
+
+    @Async("sessionAuditExecutor")
+    public void recordRevokedForUser(UUID userId) {
+        try {
+            jdbcTemplate.update(REVOKE_USER_SQL, userId);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to audit revocation of sessions of user {}", userId, e);
+        }
+    }
+
+    private void insert(UserSession session) {
+        jdbcTemplate.update(INSERT_SQL,
+            session.getId(),
+            session.getUserId().getValue(),
+            session.getAccessTokenId(),
+            session.getRefreshToken(),
+            session.getDeviceInfo(),
+            toUtc(session.getCreatedAt()),
+            toUtc(session.getExpiresAt()));
+    }
+
+    private static LocalDateTime toUtc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
@@ -1,5 +1,6 @@
 package com.realtime.communication.auth.adapter.out.persistence;
 
+import com.realtime.communication.shared.infrastructure.persistence.AssignedIdEntity;
 import jakarta.persistence.*;
 import java.time.Instant;
 import java.util.UUID;
@@ -9,7 +10,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "user_sessions")
-public class UserSessionJpaEntity {
+public class UserSessionJpaEntity extends AssignedIdEntity {
 
     @Id
     private UUID id;
@@ -17,8 +18,8 @@ public class UserSessionJpaEntity {
     @Column(name = "user_id", nullable = false)
     private UUID userId;
 
-    @Column(name = "access_token", nullable = false, length = 512)
-    private String accessToken;
+    @Column(name = "access_token_id", length = 36)
+    private String accessTokenId;
 
     @Column(name = "refresh_token", unique = true, nullable = false)
     private String refreshToken;
@@ -43,6 +44,7 @@ public class UserSessionJpaEntity {
     }
 
     // Getters and Setters
+    @Override
     public UUID getId() {
         return id;
     }
@@ -59,12 +61,12 @@ public class UserSessionJpaEntity {
         this.userId = userId;
     }
 
-    public String getAccessToken() {
-        return accessToken;
+    public String getAccessTokenId() {
+        return accessTokenId;
     }
 
-    public void setAccessToken(String accessToken) {
-        this.accessToken = accessToken;
+    public void setAccessTokenId(String accessTokenId) {
+        this.accessTokenId = accessTokenId;
     }
 
     public String getRefreshToken() {
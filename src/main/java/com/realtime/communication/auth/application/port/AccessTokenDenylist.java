@@ -0,0 +1,12 @@
+package com.realtime.communication.auth.application.port;
+
+import java.time.Instant;
+
+/**
+ * Port interface for revoking access tokens before they expire.
+ * Tokens are identified by their jti; entries are only needed until the token would expire anyway.
+ */
+public interface AccessTokenDenylist {
+    void deny(String tokenId, Instant expiresAt);
+    boolean isDenied(String tokenId);
+}
@@ -0,0 +1,11 @@
+package com.realtime.communication.auth.application.port;
+
+import com.realtime.communication.auth.domain.model.UserId;
+
+/**
+ * Port interface for closing a user's open real-time connections on every node.
+ * Connections are authenticated once when they are opened, so revoking tokens alone leaves them alive.
+ */
+public interface ConnectionTerminator {
+    void terminateConnections(UserId userId);
+}
@@ -0,0 +1,16 @@
+package com.realtime.communication.auth.application.port;
+
+/**
+ * Port interface for password hashing.
+ * Implementations may run hashing off the caller's thread and reject work when saturated
+ * by throwing ServiceUnavailableException.
+ */
+public interface PasswordHasher {
+    String hash(String plainPassword);
+    boolean matches(String plainPassword, String hash);
+
+    /**
+     * Whether the hash was produced with a different cost factor than the configured one.
+     */
+    boolean needsRehash(String hash);
+}
@@ -2,6 +2,7 @@ package com.realtime.communication.auth.application.port;
 
 import com.realtime.communication.auth.domain.model.UserSession;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,8 +10,22 @@ import java.util.UUID;
  * Port interface for Token repository
  */
 public interface TokenRepository {
+
+    /**
+     * Stores a new session. Sessions are never updated through save; they are revoked or rotated.
+     */
     UserSession save(UserSession session);
     Optional<UserSession> findByRefreshToken(String refreshToken);
-    void revokeByUserId(UUID userId);
+
+    /**
+     * Atomically replaces the session holding the refresh token with the replacement.
+     * Returns false if that session is gone, e.g. it was rotated or revoked concurrently.
+     */
+    boolean rotate(String refreshToken, UserSession replacement);
+
+    /**
+     * Revokes all sessions of the user and returns the ones that were still active.
+     */
+    List<UserSession> revokeByUserId(UUID userId);
 }
 
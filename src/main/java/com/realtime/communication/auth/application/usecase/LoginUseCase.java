@@ -2,34 +2,42 @@ package com.realtime.communication.auth.application.usecase;
 
 import com.realtime.communication.auth.application.dto.LoginRequest;
 import com.realtime.communication.auth.application.dto.LoginResponse;
+import com.realtime.communication.auth.application.port.PasswordHasher;
 import com.realtime.communication.auth.application.port.TokenRepository;
 import com.realtime.communication.auth.application.port.UserRepository;
 import com.realtime.communication.auth.domain.model.*;
 import com.realtime.communication.auth.infrastructure.security.JwtTokenProvider;
 import com.realtime.communication.shared.domain.exception.UnauthorizedException;
+import com.realtime.communication.shared.util.UuidV7;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.Instant;
 import java.util.UUID;
 
 /**
- * Use case for user login
+ * Use case for user login.
+ * The password is verified before the write transaction starts, so a slow hash never holds
+ * a database connection.
  */
 @Service
 public class LoginUseCase {
     private final UserRepository userRepository;
     private final TokenRepository tokenRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PasswordHasher passwordHasher;
+    private final TransactionOperations transactionOperations;
 
     public LoginUseCase(UserRepository userRepository, TokenRepository tokenRepository,
-                       JwtTokenProvider jwtTokenProvider) {
+                       JwtTokenProvider jwtTokenProvider, PasswordHasher passwordHasher,
+                       TransactionOperations transactionOperations) {
         this.userRepository = userRepository;
         this.tokenRepository = tokenRepository;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.passwordHasher = passwordHasher;
+        this.transactionOperations = transactionOperations;
     }
 
-    @Transactional
     public LoginResponse execute(LoginRequest request) {
         // Find user by username
         Username username = new Username(request.username());
@@ -41,27 +49,36 @@ public class LoginUseCase {
             throw new UnauthorizedException("User account is blocked");
         }
 
-        // Verify password
-        HashedPassword hashedPassword = HashedPassword.fromHash(user.getPasswordHash());
-        if (!hashedPassword.matches(request.password())) {
+        // Verify password (outside any transaction, on the hashing pool)
+        if (!passwordHasher.matches(request.password(), user.getPasswordHash())) {
             throw new UnauthorizedException("Invalid credentials");
         }
 
+        // Upgrade the stored hash if it was made with a different cost factor
+        if (passwordHasher.needsRehash(user.getPasswordHash())) {
+            user.changePassword(passwordHasher.hash(request.password()));
+        }
+
+        return transactionOperations.execute(status -> completeLogin(user));
+    }
+
+    private LoginResponse completeLogin(User user) {
         // Update user status to online
         user.updateStatus(UserStatus.ONLINE);
         userRepository.save(user);
 
         // Generate tokens
-        String accessToken = jwtTokenProvider.generateAccessToken(user.getId().getValue().toString());
+        String accessTokenId = UUID.randomUUID().toString();
+        String accessToken = jwtTokenProvider.generateAccessToken(user.getId().getValue().toString(), accessTokenId);
         String refreshToken = jwtTokenProvider.generateRefreshToken();
         Long expiresIn = jwtTokenProvider.getAccessTokenExpirationMs();
 
         // Create user session
         Instant expiresAt = Instant.now().plusMillis(expiresIn);
         UserSession session = new UserSession(
-            UUID.randomUUID(),
+            UuidV7.generate(),
             user.getId(),
-            accessToken,
+            accessTokenId,
             refreshToken,
             "web", // TODO: Extract from request headers
             expiresAt
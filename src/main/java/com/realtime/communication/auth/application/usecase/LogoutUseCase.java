@@ -1,9 +1,12 @@
 package com.realtime.communication.auth.application.usecase;
 
+import com.realtime.communication.auth.application.port.AccessTokenDenylist;
+import com.realtime.communication.auth.application.port.ConnectionTerminator;
 import com.realtime.communication.auth.application.port.TokenRepository;
 import com.realtime.communication.auth.application.port.UserRepository;
 import com.realtime.communication.auth.domain.model.User;
 import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.auth.domain.model.UserSession;
 import com.realtime.communication.auth.domain.model.UserStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,10 +20,15 @@ import java.util.UUID;
 public class LogoutUseCase {
     private final UserRepository userRepository;
     private final TokenRepository tokenRepository;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final ConnectionTerminator connectionTerminator;
 
-    public LogoutUseCase(UserRepository userRepository, TokenRepository tokenRepository) {
+    public LogoutUseCase(UserRepository userRepository, TokenRepository tokenRepository,
+                         AccessTokenDenylist accessTokenDenylist, ConnectionTerminator connectionTerminator) {
         this.userRepository = userRepository;
         this.tokenRepository = tokenRepository;
+        this.accessTokenDenylist = accessTokenDenylist;
+        this.connectionTerminator = connectionTerminator;
     }
 
     @Transactional
@@ -32,7 +40,14 @@ public class LogoutUseCase {
             userRepository.save(user);
         });
 
-        // Revoke all user sessions
-        tokenRepository.revokeByUserId(userId);
+        // Revoke all user sessions and deny their access tokens until they expire
+        for (UserSession session : tokenRepository.revokeByUserId(userId)) {
+            if (session.getAccessTokenId() != null) {
+                accessTokenDenylist.deny(session.getAccessTokenId(), session.getExpiresAt());
+            }
+        }
+
+        // Open WebSocket sessions were authenticated at CONNECT and would outlive the denylisting
+        connectionTerminator.terminateConnections(id);
     }
 }
@@ -1,30 +1,35 @@
 package com.realtime.communication.auth.application.usecase;
 
 import com.realtime.communication.auth.application.dto.LoginResponse;
+import com.realtime.communication.auth.application.port.AccessTokenDenylist;
 import com.realtime.communication.auth.application.port.TokenRepository;
 import com.realtime.communication.auth.domain.model.UserSession;
 import com.realtime.communication.auth.infrastructure.security.JwtTokenProvider;
 import com.realtime.communication.shared.domain.exception.UnauthorizedException;
+import com.realtime.communication.shared.util.UuidV7;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.UUID;
 
 /**
- * Use case for refreshing access token
+ * Use case for refreshing access token.
+ * The access token of the replaced session is denylisted, so logout, which only sees the sessions
+ * that still exist, leaves no earlier access token of the user valid.
  */
 @Service
 public class RefreshTokenUseCase {
     private final TokenRepository tokenRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenDenylist accessTokenDenylist;
 
-    public RefreshTokenUseCase(TokenRepository tokenRepository, JwtTokenProvider jwtTokenProvider) {
+    public RefreshTokenUseCase(TokenRepository tokenRepository, JwtTokenProvider jwtTokenProvider,
+                               AccessTokenDenylist accessTokenDenylist) {
         this.tokenRepository = tokenRepository;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.accessTokenDenylist = accessTokenDenylist;
     }
 
-    @Transactional
     public LoginResponse execute(String refreshToken) {
         // Find session by refresh token
         UserSession session = tokenRepository.findByRefreshToken(refreshToken)
@@ -36,25 +41,30 @@ public class RefreshTokenUseCase {
         }
 
         // Generate new tokens
-        String newAccessToken = jwtTokenProvider.generateAccessToken(session.getUserId().getValue().toString());
+        String newAccessTokenId = UUID.randomUUID().toString();
+        String newAccessToken = jwtTokenProvider.generateAccessToken(
+            session.getUserId().getValue().toString(), newAccessTokenId);
         String newRefreshToken = jwtTokenProvider.generateRefreshToken();
         Long expiresIn = jwtTokenProvider.getAccessTokenExpirationMs();
 
-        // Update session
+        // Replace the old session with the new one
         Instant expiresAt = Instant.now().plusMillis(expiresIn);
         UserSession newSession = new UserSession(
-            UUID.randomUUID(),
+            UuidV7.generate(),
             session.getUserId(),
-            newAccessToken,
+            newAccessTokenId,
             newRefreshToken,
             session.getDeviceInfo(),
             expiresAt
         );
 
-        // Revoke old session
-        session.revoke();
-        tokenRepository.save(session);
-        tokenRepository.save(newSession);
+        // Rotation consumes the old refresh token, so a concurrent refresh with it fails
+        if (!tokenRepository.rotate(refreshToken, newSession)) {
+            throw new UnauthorizedException("Invalid refresh token");
+        }
+        if (session.getAccessTokenId() != null) {
+            accessTokenDenylist.deny(session.getAccessTokenId(), session.getExpiresAt());
+        }
 
         return new LoginResponse(newAccessToken, newRefreshToken, expiresIn);
     }
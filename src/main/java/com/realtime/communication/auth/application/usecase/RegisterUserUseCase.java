@@ -1,24 +1,26 @@
 package com.realtime.communication.auth.application.usecase;
 
 import com.realtime.communication.auth.application.dto.RegisterRequest;
+import com.realtime.communication.auth.application.port.PasswordHasher;
 import com.realtime.communication.auth.application.port.UserRepository;
 import com.realtime.communication.auth.domain.model.*;
 import com.realtime.communication.shared.domain.exception.ValidationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
- * Use case for user registration
+ * Use case for user registration.
+ * Not transactional: the only write is a single save, and hashing must not hold a connection.
  */
 @Service
 public class RegisterUserUseCase {
     private final UserRepository userRepository;
+    private final PasswordHasher passwordHasher;
 
-    public RegisterUserUseCase(UserRepository userRepository) {
+    public RegisterUserUseCase(UserRepository userRepository, PasswordHasher passwordHasher) {
         this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
     }
 
-    @Transactional
     public User execute(RegisterRequest request) {
         // Check if username already exists
         Username username = new Username(request.username());
@@ -34,7 +36,7 @@ public class RegisterUserUseCase {
 
         // Create new user
         UserId userId = UserId.generate();
-        HashedPassword password = HashedPassword.fromPlainText(request.password());
+        HashedPassword password = HashedPassword.fromPlainText(request.password(), passwordHasher::hash);
 
         User user = new User(userId, username, email, password.getHash());
         user.updateProfile(request.displayName(), null, null);
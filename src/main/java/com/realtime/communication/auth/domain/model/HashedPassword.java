@@ -3,6 +3,8 @@ package com.realtime.communication.auth.domain.model;
 import com.realtime.communication.shared.domain.exception.ValidationException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import java.util.function.UnaryOperator;
+
 /**
  * Value object representing a hashed password
  */
@@ -17,8 +19,15 @@ public class HashedPassword {
     }
 
     public static HashedPassword fromPlainText(String plainPassword) {
+        return fromPlainText(plainPassword, encoder::encode);
+    }
+
+    /**
+     * Validate the password and hash it with the given function, e.g. a configured PasswordHasher.
+     */
+    public static HashedPassword fromPlainText(String plainPassword, UnaryOperator<String> hashFunction) {
         validatePassword(plainPassword);
-        return new HashedPassword(encoder.encode(plainPassword));
+        return new HashedPassword(hashFunction.apply(plainPassword));
     }
 
     public static HashedPassword fromHash(String hash) {
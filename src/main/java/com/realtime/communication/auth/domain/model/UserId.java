@@ -1,5 +1,6 @@
 package com.realtime.communication.auth.domain.model;
 
+import com.realtime.communication.shared.util.UuidV7;
 import lombok.Value;
 
 import java.util.UUID;
@@ -12,7 +13,7 @@ public class UserId {
     UUID value;
 
     public static UserId generate() {
-        return new UserId(UUID.randomUUID());
+        return new UserId(UuidV7.generate());
     }
 
     public static UserId of(String value) {
@@ -10,18 +10,18 @@ import java.util.UUID;
 public class UserSession {
     private final UUID id;
     private final UserId userId;
-    private String accessToken;
+    private String accessTokenId;
     private String refreshToken;
     private String deviceInfo;
     private Instant createdAt;
     private Instant expiresAt;
     private boolean revoked;
 
-    public UserSession(UUID id, UserId userId, String accessToken, String refreshToken,
+    public UserSession(UUID id, UserId userId, String accessTokenId, String refreshToken,
                       String deviceInfo, Instant expiresAt) {
         this.id = id;
         this.userId = userId;
-        this.accessToken = accessToken;
+        this.accessTokenId = accessTokenId;
         this.refreshToken = refreshToken;
         this.deviceInfo = deviceInfo;
         this.createdAt = Instant.now();
@@ -50,8 +50,11 @@ public class UserSession {
         return userId;
     }
 
-    public String getAccessToken() {
-        return accessToken;
+    /**
+     * The jti of the session's current access token; the token itself is never stored.
+     */
+    public String getAccessTokenId() {
+        return accessTokenId;
     }
 
     public String getRefreshToken() {
@@ -0,0 +1,41 @@
+package com.realtime.communication.auth.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor for the asynchronous session audit writes.
+ * Other Executor beans exist (the STOMP channels, the schedulers), so Boot does not configure a
+ * default @Async executor and plain @Async would start a thread per call. Audit rows are best
+ * effort: a few threads share a small queue, and writes beyond it are dropped and counted rather
+ * than piling up threads that wait for pooled connections.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.auth.session-audit.enabled", havingValue = "true", matchIfMissing = true)
+public class SessionAuditConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor sessionAuditExecutor(@Value("${app.auth.session-audit.threads:2}") int threads,
+                                                       @Value("${app.auth.session-audit.queue-capacity:1000}")
+                                                       int queueCapacity,
+                                                       MeterRegistry meterRegistry) {
+        Counter droppedCounter = Counter.builder("auth.session_audit.dropped")
+            .description("Session audit writes discarded because the audit queue was full")
+            .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("session-audit-");
+        executor.setRejectedExecutionHandler((task, pool) -> droppedCounter.increment());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(5);
+        return executor;
+    }
+}
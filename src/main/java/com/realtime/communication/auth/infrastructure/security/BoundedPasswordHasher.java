@@ -0,0 +1,129 @@
+package com.realtime.communication.auth.infrastructure.security;
+
+import com.realtime.communication.auth.application.port.PasswordHasher;
+import com.realtime.communication.shared.domain.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt implementation of the PasswordHasher port running on a bounded, CPU-sized pool.
+ * Request threads wait for the result, but at most one hash per pool thread burns CPU at a time;
+ * work beyond the queue capacity, or that cannot finish within the timeout, is rejected at once
+ * with ServiceUnavailableException instead of piling up behind a login storm.
+ */
+@Component
+public class BoundedPasswordHasher implements PasswordHasher {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final BCryptPasswordEncoder encoder;
+    private final int strength;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordHasher(@Value("${app.security.password.bcrypt-strength:10}") int strength,
+                                 @Value("${app.security.password.hashing-threads:0}") int threads,
+                                 @Value("${app.security.password.queue-capacity:64}") int queueCapacity,
+                                 @Value("${app.security.password.timeout-ms:5000}") long timeoutMillis,
+                                 MeterRegistry meterRegistry) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.timeoutMillis = timeoutMillis;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+            new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.password.queue.depth", executor, pool -> pool.getQueue().size())
+            .description("Password hashing tasks waiting for a thread")
+            .register(meterRegistry);
+        this.hashTimer = Timer.builder("auth.password.hashing")
+            .tag("operation", "hash")
+            .description("Time spent computing password hashes")
+            .register(meterRegistry);
+        this.verifyTimer = Timer.builder("auth.password.hashing")
+            .tag("operation", "verify")
+            .description("Time spent computing password hashes")
+            .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("auth.password.queue.wait")
+            .description("Time password hashing tasks wait for a thread")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.rejected")
+            .description("Password hashing requests shed because the pool was saturated")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String hash(String plainPassword) {
+        return run(hashTimer, () -> encoder.encode(plainPassword));
+    }
+
+    @Override
+    public boolean matches(String plainPassword, String hash) {
+        return run(verifyTimer, () -> encoder.matches(plainPassword, hash));
+    }
+
+    @Override
+    public boolean needsRehash(String hash) {
+        Matcher matcher = BCRYPT_COST.matcher(hash);
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Timer timer, Supplier<T> work) {
+        long enqueuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return timer.record(work);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("Too many concurrent logins, retry later", e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException("Password hashing timed out, retry later", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
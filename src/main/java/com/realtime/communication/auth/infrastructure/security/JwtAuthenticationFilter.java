@@ -1,5 +1,6 @@
 package com.realtime.communication.auth.infrastructure.security;
 
+import com.realtime.communication.auth.application.port.AccessTokenDenylist;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,9 +22,11 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenDenylist accessTokenDenylist;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, AccessTokenDenylist accessTokenDenylist) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.accessTokenDenylist = accessTokenDenylist;
     }
 
     @Override
@@ -32,14 +35,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String userId = jwtTokenProvider.getUserIdFromToken(jwt);
+            if (StringUtils.hasText(jwt)) {
+                // Single parse: signature, expiry and subject come from one verification.
+                // The denylist is checked on every request, cached verification included.
+                jwtTokenProvider.verify(jwt)
+                    .filter(token -> token.tokenId() == null || !accessTokenDenylist.isDenied(token.tokenId()))
+                    .ifPresent(token -> {
+                        UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(token.userId(), null, Collections.emptyList());
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    });
             }
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
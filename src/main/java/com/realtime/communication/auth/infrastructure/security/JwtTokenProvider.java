@@ -1,41 +1,75 @@
 package com.realtime.communication.auth.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
- * JWT Token Provider for generating and validating JWT tokens
+ * JWT Token Provider for generating and validating JWT tokens.
+ * Tokens are parsed and verified in one pass by a parser built once for the key. Verified tokens
+ * are cached by their SHA-256 digest (raw bearer tokens are never kept) until the token expires
+ * or the cache TTL elapses, whichever comes first, so repeat requests skip signature checks.
+ * Revocation is not checked here; callers consult the AccessTokenDenylist with the token id.
  */
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser parser;
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
     private final long accessTokenExpirationMs;
     private final long refreshTokenExpirationMs;
 
     public JwtTokenProvider(
             @Value("${jwt.secret:mySecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLong}") String secret,
             @Value("${jwt.access-token-expiration:3600000}") long accessTokenExpirationMs,
-            @Value("${jwt.refresh-token-expiration:604800000}") long refreshTokenExpirationMs) {
+            @Value("${jwt.refresh-token-expiration:604800000}") long refreshTokenExpirationMs,
+            @Value("${jwt.verified-cache.max-size:100000}") long verifiedCacheMaxSize,
+            @Value("${jwt.verified-cache.ttl-seconds:300}") long verifiedCacheTtlSeconds) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new TokenExpiry(Duration.ofSeconds(verifiedCacheTtlSeconds)))
+                .build();
         this.accessTokenExpirationMs = accessTokenExpirationMs;
         this.refreshTokenExpirationMs = refreshTokenExpirationMs;
     }
 
     public String generateAccessToken(String userId) {
+        return generateAccessToken(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * @param tokenId value of the jti claim; sessions keep only this id, and it is what gets denylisted
+     */
+    public String generateAccessToken(String userId, String tokenId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenExpirationMs);
 
         return Jwts.builder()
                 .subject(userId)
+                .id(tokenId)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(secretKey)
@@ -46,29 +80,66 @@ public class JwtTokenProvider {
         return UUID.randomUUID().toString();
     }
 
-    public String getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
-    }
+    /**
+     * Verify signature and expiry of an access token and return its claims.
+     *
+     * @return the verified claims, or empty if the token is malformed, forged or expired
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        ByteBuffer key = ByteBuffer.wrap(sha256(token));
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return Optional.of(cached);
+        }
 
-    public boolean validateToken(String token) {
+        VerifiedToken verified;
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Date expiration = claims.getExpiration();
+            if (claims.getSubject() == null || expiration == null) {
+                return Optional.empty();
+            }
+            verified = new VerifiedToken(claims.getSubject(), claims.getId(), expiration.toInstant());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
+        verifiedTokens.put(key, verified);
+        return Optional.of(verified);
     }
 
     public long getAccessTokenExpirationMs() {
         return accessTokenExpirationMs;
     }
+
+    private static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Keeps a verified token no longer than the token itself is valid.
+     */
+    private record TokenExpiry(Duration maxTtl) implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken token, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(), token.expiresAt());
+            return Math.max(0, Math.min(remaining.toNanos(), maxTtl.toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken token, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken token, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,10 @@
+package com.realtime.communication.auth.infrastructure.security;
+
+import java.time.Instant;
+
+/**
+ * Claims of an access token whose signature and expiry have been verified.
+ * The token id (jti) is null for tokens issued before it was added.
+ */
+public record VerifiedToken(String userId, String tokenId, Instant expiresAt) {
+}
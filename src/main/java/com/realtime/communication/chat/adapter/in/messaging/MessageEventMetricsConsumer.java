@@ -0,0 +1,70 @@
+package com.realtime.communication.chat.adapter.in.messaging;
+
+import com.realtime.communication.chat.adapter.out.messaging.KafkaMessageEventPublisher;
+import com.realtime.communication.chat.adapter.out.messaging.MessageEventDeserializer;
+import com.realtime.communication.shared.application.event.Event;
+import com.realtime.communication.shared.infrastructure.messaging.BatchEventConsumer;
+import com.realtime.communication.shared.infrastructure.messaging.RedisPendingRetries;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Consumes message-events in batches and records how long events take to reach consumers,
+ * from the moment they occurred, through the outbox and Kafka, per event type.
+ */
+@Component
+@ConditionalOnProperty(name = "app.kafka.message-events.metrics-consumer.enabled", havingValue = "true",
+    matchIfMissing = true)
+class MessageEventMetricsConsumer extends BatchEventConsumer {
+
+    private static final String NAME = "message-event-metrics";
+    private static final String GROUP_ID = "${app.kafka.message-events.metrics-consumer.group-id:" + NAME + "}";
+
+    private final MeterRegistry meterRegistry;
+
+    MessageEventMetricsConsumer(KafkaTemplate<String, byte[]> kafkaTemplate,
+                                StringRedisTemplate redisTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.kafka.consumer.parallelism:4}") int parallelism,
+                                @Value("${app.kafka.consumer.max-attempts:3}") int maxAttempts,
+                                @Value("${app.kafka.consumer.retry-backoff-ms:5000}") long retryBackoffMillis,
+                                @Value("${app.kafka.consumer.retry-key-ttl-ms:3600000}") long retryKeyTtlMillis) {
+        super(NAME, new MessageEventDeserializer(), kafkaTemplate,
+            new RedisPendingRetries(redisTemplate, NAME, retryKeyTtlMillis),
+            meterRegistry, parallelism, maxAttempts, retryBackoffMillis);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @KafkaListener(topics = KafkaMessageEventPublisher.MESSAGE_EVENTS_TOPIC, groupId = GROUP_ID,
+        containerFactory = "batchEventListenerContainerFactory")
+    public void onEvents(List<ConsumerRecord<String, byte[]>> records, Consumer<?, ?> consumer) {
+        consume(records, consumer);
+    }
+
+    @KafkaListener(topics = KafkaMessageEventPublisher.MESSAGE_EVENTS_TOPIC + RETRY_SUFFIX, groupId = GROUP_ID,
+        containerFactory = "batchEventListenerContainerFactory")
+    public void onRetries(List<ConsumerRecord<String, byte[]>> records, Consumer<?, ?> consumer) {
+        consume(records, consumer);
+    }
+
+    @Override
+    protected void handle(Event event) {
+        Timer.builder("message.events.latency")
+            .description("Time from an event occurring to its consumption from Kafka")
+            .tag("type", event.getEventType())
+            .register(meterRegistry)
+            .record(Duration.between(event.getOccurredOn(), Instant.now()));
+    }
+}
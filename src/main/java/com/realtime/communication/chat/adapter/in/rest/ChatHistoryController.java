@@ -4,7 +4,9 @@ import com.realtime.communication.auth.domain.model.UserId;
 import com.realtime.communication.chat.application.dto.MessageDTO;
 import com.realtime.communication.chat.application.usecase.LoadConversationHistoryUseCase;
 import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.MessageCursor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -40,5 +42,23 @@ public class ChatHistoryController {
 
         return ResponseEntity.ok(messages);
     }
-}
 
+    @GetMapping("/{conversationId}/history")
+    public ResponseEntity<Slice<MessageDTO>> getConversationHistorySlice(
+            @PathVariable UUID conversationId,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal String userId) {
+
+        Slice<MessageDTO> messages = loadConversationHistoryUseCase.execute(
+            new ConversationId(conversationId),
+            new UserId(UUID.fromString(userId)),
+            MessageCursor.parse(before),
+            MessageCursor.parse(after),
+            size
+        );
+
+        return ResponseEntity.ok(messages);
+    }
+}
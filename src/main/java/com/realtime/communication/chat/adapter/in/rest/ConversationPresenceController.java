@@ -0,0 +1,44 @@
+package com.realtime.communication.chat.adapter.in.rest;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.dto.ConversationPresenceDTO;
+import com.realtime.communication.chat.application.usecase.GetConversationPresenceUseCase;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * REST controller for conversation presence
+ */
+@RestController
+@RequestMapping("/api/v1/conversations")
+public class ConversationPresenceController {
+
+    private final GetConversationPresenceUseCase getConversationPresenceUseCase;
+
+    public ConversationPresenceController(GetConversationPresenceUseCase getConversationPresenceUseCase) {
+        this.getConversationPresenceUseCase = getConversationPresenceUseCase;
+    }
+
+    @GetMapping("/{conversationId}/presence")
+    public ResponseEntity<ConversationPresenceDTO> getConversationPresence(
+            @PathVariable UUID conversationId,
+            @RequestParam(required = false) String participantsVersion,
+            @AuthenticationPrincipal String userId) {
+
+        ConversationPresenceDTO presence = getConversationPresenceUseCase.execute(
+            new ConversationId(conversationId),
+            new UserId(UUID.fromString(userId)),
+            participantsVersion
+        );
+
+        return ResponseEntity.ok(presence);
+    }
+}
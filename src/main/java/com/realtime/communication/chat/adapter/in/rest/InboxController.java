@@ -0,0 +1,44 @@
+package com.realtime.communication.chat.adapter.in.rest;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.dto.InboxEntryDTO;
+import com.realtime.communication.chat.application.usecase.GetInboxUseCase;
+import com.realtime.communication.chat.domain.model.InboxCursor;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * REST controller for the user's conversation list
+ */
+@RestController
+@RequestMapping("/api/v1/conversations")
+public class InboxController {
+
+    private final GetInboxUseCase getInboxUseCase;
+
+    public InboxController(GetInboxUseCase getInboxUseCase) {
+        this.getInboxUseCase = getInboxUseCase;
+    }
+
+    @GetMapping
+    public ResponseEntity<Slice<InboxEntryDTO>> getInbox(
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal String userId) {
+
+        Slice<InboxEntryDTO> inbox = getInboxUseCase.execute(
+            new UserId(UUID.fromString(userId)),
+            InboxCursor.parse(before),
+            size
+        );
+
+        return ResponseEntity.ok(inbox);
+    }
+}
@@ -0,0 +1,31 @@
+package com.realtime.communication.chat.adapter.in.rest;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.usecase.GetUnreadCountsUseCase;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * REST controller for unread message counts
+ */
+@RestController
+@RequestMapping("/api/v1/conversations")
+public class UnreadCountController {
+
+    private final GetUnreadCountsUseCase getUnreadCountsUseCase;
+
+    public UnreadCountController(GetUnreadCountsUseCase getUnreadCountsUseCase) {
+        this.getUnreadCountsUseCase = getUnreadCountsUseCase;
+    }
+
+    @GetMapping("/unread")
+    public ResponseEntity<Map<UUID, Long>> getUnreadCounts(@AuthenticationPrincipal String userId) {
+        return ResponseEntity.ok(getUnreadCountsUseCase.execute(new UserId(UUID.fromString(userId))));
+    }
+}
@@ -0,0 +1,55 @@
+package com.realtime.communication.chat.adapter.in.websocket;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.realtime.communication.chat.adapter.out.messaging.PreEncodedMessage;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * STOMP encoder that builds each pre-encoded broadcast frame once and reuses the bytes.
+ * Recipient frames of a {@link PreEncodedMessage} differ only in the subscription header, so
+ * frames are cached by (message-id, subscription id); clients that use the same subscription id
+ * (e.g. stomp.js "sub-0") receive the very same byte array. Other frames are encoded as usual.
+ * The cache is bounded by the total size of the cached frames, and a frame only needs to live as
+ * long as its broadcast is being written out.
+ */
+public class BroadcastFrameCachingStompEncoder extends StompEncoder {
+
+    private static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+
+    private final Cache<FrameKey, byte[]> frames;
+
+    public BroadcastFrameCachingStompEncoder() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    public BroadcastFrameCachingStompEncoder(long maxBytes) {
+        this.frames = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((FrameKey key, byte[] frame) -> frame.length)
+            .expireAfterWrite(Duration.ofSeconds(2))
+            .build();
+    }
+
+    @Override
+    public byte[] encode(Map<String, Object> headers, byte[] payload) {
+        if (!PreEncodedMessage.isPreEncoded(headers)) {
+            return super.encode(headers, payload);
+        }
+        String messageId = SimpMessageHeaderAccessor.getFirstNativeHeader(
+            StompHeaderAccessor.STOMP_MESSAGE_ID_HEADER, headers);
+        String subscriptionId = SimpMessageHeaderAccessor.getFirstNativeHeader(
+            StompHeaderAccessor.STOMP_SUBSCRIPTION_HEADER, headers);
+        if (messageId == null || subscriptionId == null) {
+            return super.encode(headers, payload);
+        }
+        return frames.get(new FrameKey(messageId, subscriptionId), key -> super.encode(headers, payload));
+    }
+
+    private record FrameKey(String messageId, String subscriptionId) {}
+}
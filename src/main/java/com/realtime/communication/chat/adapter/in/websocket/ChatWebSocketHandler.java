@@ -8,6 +8,8 @@ import com.realtime.communication.auth.application.usecase.LogoutUseCase;
 import com.realtime.communication.auth.application.usecase.RefreshTokenUseCase;
 import com.realtime.communication.auth.application.usecase.RegisterUserUseCase;
 import com.realtime.communication.auth.domain.model.User;
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.port.PresenceGateway;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,31 +23,51 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.socket.messaging.AbstractSubProtocolEvent;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
-import java.util.UUID;
-
 /**
- * WebSocket event handler for STOMP sessions
+ * WebSocket event handler for STOMP sessions.
+ * Drives presence: a user is online while at least one authenticated session is open.
  */
 @Component
 public class ChatWebSocketHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(ChatWebSocketHandler.class);
 
+    private final PresenceGateway presenceGateway;
+
+    public ChatWebSocketHandler(PresenceGateway presenceGateway) {
+        this.presenceGateway = presenceGateway;
+    }
+
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectedEvent event) {
         StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
         String sessionId = headerAccessor.getSessionId();
         logger.info("WebSocket connected: sessionId={}", sessionId);
+
+        UserId userId = userOf(event);
+        if (userId != null && sessionId != null) {
+            presenceGateway.sessionConnected(userId, sessionId);
+        }
     }
 
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
-        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
-        String sessionId = headerAccessor.getSessionId();
+        String sessionId = event.getSessionId();
         logger.info("WebSocket disconnected: sessionId={}", sessionId);
+
+        UserId userId = userOf(event);
+        if (userId != null) {
+            presenceGateway.sessionDisconnected(userId, sessionId);
+        }
+    }
+
+    private static UserId userOf(AbstractSubProtocolEvent event) {
+        // Only sessions authenticated at STOMP CONNECT count
+        return event.getUser() instanceof StompPrincipal principal ? principal.userId() : null;
     }
 }
 
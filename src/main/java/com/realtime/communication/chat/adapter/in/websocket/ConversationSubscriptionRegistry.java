@@ -0,0 +1,146 @@
+package com.realtime.communication.chat.adapter.in.websocket;
+
+import com.realtime.communication.chat.adapter.out.messaging.ConversationDestinations;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.broker.AbstractSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.PathMatcher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Simple broker subscription registry with a direct index for conversation destinations.
+ * Exact /topic/conversation/{id} and /topic/conversation/{id}/typing subscriptions are kept in a
+ * map from destination to subscribers, so resolving a broadcast is a lookup instead of a match
+ * against every subscription. Other destinations and subscriptions with a selector go to a
+ * DefaultSubscriptionRegistry. The fallback is consulted for conversation broadcasts only while it
+ * holds a subscription that can match one: a pattern, or a selector subscription on a conversation.
+ * As in DefaultSubscriptionRegistry, selectors are only evaluated once a selector header name is set.
+ */
+public class ConversationSubscriptionRegistry extends AbstractSubscriptionRegistry {
+
+    private static final MultiValueMap<String, String> NO_SUBSCRIBERS =
+        CollectionUtils.unmodifiableMultiValueMap(new LinkedMultiValueMap<>(0));
+
+    private final DefaultSubscriptionRegistry fallback = new DefaultSubscriptionRegistry();
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    // destination -> (session id -> subscription ids)
+    private final Map<String, Map<String, List<String>>> subscribersByDestination = new ConcurrentHashMap<>();
+    // session id -> (subscription id -> destination), for indexed subscriptions only
+    private final Map<String, Map<String, String>> destinationsBySession = new ConcurrentHashMap<>();
+    // session id -> ids of the fallback registry's subscriptions that can match a conversation destination
+    private final Map<String, Set<String>> fallbackConversationSubscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger fallbackConversationSubscriptionCount = new AtomicInteger();
+
+    @Nullable
+    private String selectorHeaderName;
+
+    /**
+     * Set the name of the subscription header holding a selector expression, or null to ignore selectors.
+     * SimpleBrokerMessageHandler only forwards its own setting to a DefaultSubscriptionRegistry.
+     */
+    public void setSelectorHeaderName(@Nullable String selectorHeaderName) {
+        this.selectorHeaderName = selectorHeaderName;
+        fallback.setSelectorHeaderName(selectorHeaderName);
+    }
+
+    @Override
+    protected void addSubscriptionInternal(String sessionId, String subscriptionId,
+                                           String destination, Message<?> message) {
+        boolean conversation = ConversationDestinations.conversationIdOf(destination) != null;
+        if (!conversation || hasSelector(message)) {
+            fallback.registerSubscription(message);
+            if ((conversation || pathMatcher.isPattern(destination)) && fallbackConversationSubscriptions
+                    .computeIfAbsent(sessionId, id -> ConcurrentHashMap.newKeySet())
+                    .add(subscriptionId)) {
+                fallbackConversationSubscriptionCount.incrementAndGet();
+            }
+            return;
+        }
+        destinationsBySession.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+            .put(subscriptionId, destination);
+        subscribersByDestination.compute(destination, (d, sessions) -> {
+            Map<String, List<String>> result = sessions != null ? sessions : new ConcurrentHashMap<>();
+            result.computeIfAbsent(sessionId, id -> new CopyOnWriteArrayList<>()).add(subscriptionId);
+            return result;
+        });
+    }
+
+    @Override
+    protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
+        Map<String, String> subscriptions = destinationsBySession.get(sessionId);
+        String destination = subscriptions != null ? subscriptions.remove(subscriptionId) : null;
+        if (destination != null) {
+            removeSubscriber(destination, sessionId, subscriptionId);
+            return;
+        }
+        fallback.unregisterSubscription(message);
+        Set<String> matching = fallbackConversationSubscriptions.get(sessionId);
+        if (matching != null && matching.remove(subscriptionId)) {
+            fallbackConversationSubscriptionCount.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void unregisterAllSubscriptions(String sessionId) {
+        Map<String, String> subscriptions = destinationsBySession.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.forEach((subscriptionId, destination) ->
+                removeSubscriber(destination, sessionId, subscriptionId));
+        }
+        Set<String> matching = fallbackConversationSubscriptions.remove(sessionId);
+        if (matching != null) {
+            fallbackConversationSubscriptionCount.addAndGet(-matching.size());
+        }
+        fallback.unregisterAllSubscriptions(sessionId);
+    }
+
+    @Override
+    protected MultiValueMap<String, String> findSubscriptionsInternal(String destination, Message<?> message) {
+        if (ConversationDestinations.conversationIdOf(destination) == null) {
+            return fallback.findSubscriptions(message);
+        }
+        Map<String, List<String>> indexed = subscribersByDestination.get(destination);
+        MultiValueMap<String, String> subscribers =
+            indexed != null ? CollectionUtils.toMultiValueMap(indexed) : NO_SUBSCRIBERS;
+        if (fallbackConversationSubscriptionCount.get() == 0) {
+            return subscribers;
+        }
+
+        MultiValueMap<String, String> fallbackMatches = fallback.findSubscriptions(message);
+        if (fallbackMatches.isEmpty()) {
+            return subscribers;
+        }
+        MultiValueMap<String, String> merged = new LinkedMultiValueMap<>();
+        subscribers.forEach(merged::addAll);
+        fallbackMatches.forEach(merged::addAll);
+        return merged;
+    }
+
+    private void removeSubscriber(String destination, String sessionId, String subscriptionId) {
+        subscribersByDestination.computeIfPresent(destination, (d, sessions) -> {
+            sessions.computeIfPresent(sessionId, (id, subscriptionIds) -> {
+                subscriptionIds.remove(subscriptionId);
+                return subscriptionIds.isEmpty() ? null : subscriptionIds;
+            });
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    private boolean hasSelector(Message<?> message) {
+        return selectorHeaderName != null
+            && SimpMessageHeaderAccessor.getFirstNativeHeader(selectorHeaderName, message.getHeaders()) != null;
+    }
+}
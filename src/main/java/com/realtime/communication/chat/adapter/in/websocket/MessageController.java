@@ -2,13 +2,14 @@ package com.realtime.communication.chat.adapter.in.websocket;
 
 import com.realtime.communication.auth.domain.model.UserId;
 import com.realtime.communication.chat.application.dto.MessageDTO;
+import com.realtime.communication.chat.application.port.ConversationBroadcaster;
 import com.realtime.communication.chat.application.usecase.SendMessageUseCase;
 import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.MessageId;
 import com.realtime.communication.chat.domain.model.MessageType;
+import com.realtime.communication.chat.domain.service.MessageDeliveryService;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 
 import java.util.UUID;
@@ -20,30 +21,36 @@ import java.util.UUID;
 public class MessageController {
 
     private final SendMessageUseCase sendMessageUseCase;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ConversationBroadcaster conversationBroadcaster;
+    private final MessageDeliveryService messageDeliveryService;
 
     public MessageController(SendMessageUseCase sendMessageUseCase,
-                           SimpMessagingTemplate messagingTemplate) {
+                           ConversationBroadcaster conversationBroadcaster,
+                           MessageDeliveryService messageDeliveryService) {
         this.sendMessageUseCase = sendMessageUseCase;
-        this.messagingTemplate = messagingTemplate;
+        this.conversationBroadcaster = conversationBroadcaster;
+        this.messageDeliveryService = messageDeliveryService;
     }
 
     @MessageMapping("/chat.send")
-    public void sendMessage(@Payload SendMessageRequest request,
-                          @AuthenticationPrincipal String userId) {
+    public void sendMessage(@Payload SendMessageRequest request, UserId userId) {
         // Send message
+        ConversationId conversationId = new ConversationId(request.conversationId());
         MessageDTO message = sendMessageUseCase.execute(
-            new ConversationId(request.conversationId()),
-            new UserId(UUID.fromString(userId)),
+            conversationId,
+            userId,
             request.content(),
             request.type()
         );
 
-        // Broadcast message to conversation participants
-        messagingTemplate.convertAndSend(
-            "/topic/conversation/" + request.conversationId(),
-            message
-        );
+        // Queue it for every recipient until they acknowledge it, so one whose socket died before
+        // presence noticed gets it replayed on reconnect; queued first so an early ack removes it.
+        // Best effort: a queue failure never stops the broadcast of the committed message
+        messageDeliveryService.enqueueForRecipients(conversationId, userId, new MessageId(message.id()),
+            message.sentAt());
+
+        // Broadcast message to conversation participants on every node
+        conversationBroadcaster.broadcast(conversationId, message);
     }
 
     private record SendMessageRequest(UUID conversationId, String content, MessageType type) {}
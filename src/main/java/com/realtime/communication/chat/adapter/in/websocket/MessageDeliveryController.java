@@ -0,0 +1,87 @@
+package com.realtime.communication.chat.adapter.in.websocket;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.dto.MessageDTO;
+import com.realtime.communication.chat.domain.model.Message;
+import com.realtime.communication.chat.domain.model.MessageId;
+import com.realtime.communication.chat.domain.service.MessageDeliveryService;
+import com.realtime.communication.shared.domain.exception.ValidationException;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * WebSocket controller replaying messages that the user has not acknowledged yet.
+ * Replay starts when a session subscribes to /user/queue/messages, so nothing is sent before the
+ * client listens. Clients acknowledge what they received, from conversation broadcasts as well as
+ * replays, in bulk on /app/chat.delivered, which marks the messages delivered and sends the next
+ * batch. A message can be replayed more than once (several sessions, or an acknowledgement that
+ * was lost), so clients deduplicate by message id.
+ */
+@Controller
+public class MessageDeliveryController {
+
+    static final String USER_QUEUE_DESTINATION = "/user/queue/messages";
+    private static final String QUEUE_DESTINATION = "/queue/messages";
+    private static final int MAX_ACKNOWLEDGED_IDS = 1000;
+
+    private final MessageDeliveryService messageDeliveryService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    public MessageDeliveryController(MessageDeliveryService messageDeliveryService,
+                                     SimpMessagingTemplate messagingTemplate) {
+        this.messageDeliveryService = messageDeliveryService;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        if (USER_QUEUE_DESTINATION.equals(accessor.getDestination())
+                && event.getUser() instanceof StompPrincipal principal) {
+            replay(principal.userId());
+        }
+    }
+
+    @MessageMapping("/chat.delivered")
+    public void acknowledge(@Payload DeliveryAcknowledgement request, UserId userId) {
+        if (request.messageIds() == null || request.messageIds().size() > MAX_ACKNOWLEDGED_IDS) {
+            throw new ValidationException("messageIds", "Acknowledge between 0 and " + MAX_ACKNOWLEDGED_IDS
+                + " messages at a time");
+        }
+        messageDeliveryService.acknowledge(userId, request.messageIds().stream().map(MessageId::new).toList());
+        replay(userId);
+    }
+
+    private void replay(UserId userId) {
+        String user = userId.getValue().toString();
+        for (Message message : messageDeliveryService.nextBatch(userId)) {
+            messagingTemplate.convertAndSendToUser(user, QUEUE_DESTINATION, toDTO(message));
+        }
+    }
+
+    private MessageDTO toDTO(Message message) {
+        return new MessageDTO(
+            message.getId().getValue(),
+            message.getConversationId().getValue(),
+            message.getSenderId().getValue(),
+            message.getContent(),
+            message.getType(),
+            message.getStatus(),
+            message.getSentAt(),
+            message.getDeliveredAt(),
+            message.getReadAt(),
+            message.isEdited(),
+            message.getEditedAt()
+        );
+    }
+
+    private record DeliveryAcknowledgement(List<UUID> messageIds) {}
+}
@@ -0,0 +1,37 @@
+package com.realtime.communication.chat.adapter.in.websocket;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.dto.ConversationPresenceDTO;
+import com.realtime.communication.chat.application.usecase.GetConversationPresenceUseCase;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+import java.util.UUID;
+
+/**
+ * WebSocket controller answering presence queries on the caller's private queue
+ */
+@Controller
+public class PresenceQueryController {
+
+    private final GetConversationPresenceUseCase getConversationPresenceUseCase;
+
+    public PresenceQueryController(GetConversationPresenceUseCase getConversationPresenceUseCase) {
+        this.getConversationPresenceUseCase = getConversationPresenceUseCase;
+    }
+
+    @MessageMapping("/conversation.presence")
+    @SendToUser("/queue/presence")
+    public ConversationPresenceDTO queryPresence(@Payload PresenceQueryRequest request, UserId userId) {
+        return getConversationPresenceUseCase.execute(new ConversationId(request.conversationId()), userId,
+            request.participantsVersion());
+    }
+
+    /**
+     * participantsVersion is the one of the caller's last response, if any.
+     */
+    private record PresenceQueryRequest(UUID conversationId, String participantsVersion) {}
+}
@@ -0,0 +1,36 @@
+package com.realtime.communication.chat.adapter.in.websocket;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.dto.ReadReceiptDTO;
+import com.realtime.communication.chat.application.usecase.MarkMessageAsReadUseCase;
+import com.realtime.communication.shared.domain.exception.ValidationException;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Controller;
+
+import java.util.List;
+
+/**
+ * WebSocket controller for read receipts.
+ * Accepts a batch of receipts, at most one needed per conversation, and only records them;
+ * watermarks are written in coalesced batches.
+ */
+@Controller
+public class ReadReceiptController {
+
+    private static final int MAX_RECEIPTS = 500;
+
+    private final MarkMessageAsReadUseCase markMessageAsReadUseCase;
+
+    public ReadReceiptController(MarkMessageAsReadUseCase markMessageAsReadUseCase) {
+        this.markMessageAsReadUseCase = markMessageAsReadUseCase;
+    }
+
+    @MessageMapping("/chat.read")
+    public void markRead(@Payload List<ReadReceiptDTO> receipts, UserId userId) {
+        if (receipts.size() > MAX_RECEIPTS) {
+            throw new ValidationException("receipts", "At most " + MAX_RECEIPTS + " receipts at a time");
+        }
+        markMessageAsReadUseCase.execute(userId, receipts);
+    }
+}
@@ -0,0 +1,65 @@
+package com.realtime.communication.chat.adapter.in.websocket;
+
+import com.realtime.communication.auth.application.port.ConnectionTerminator;
+import com.realtime.communication.auth.domain.model.UserId;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Cluster-wide implementation of the ConnectionTerminator port using Redis pub/sub.
+ * The user id is published on a single channel that every node listens to, including the
+ * publishing one, and each node closes the user's WebSocket sessions it holds.
+ */
+@Component
+class RedisConnectionTerminator implements ConnectionTerminator, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisConnectionTerminator.class);
+    private static final String CHANNEL = "ws:terminate-user";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final WebSocketSessionSweeper sessionSweeper;
+
+    RedisConnectionTerminator(StringRedisTemplate redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              WebSocketSessionSweeper sessionSweeper) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.sessionSweeper = sessionSweeper;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void terminateConnections(UserId userId) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, userId.getValue().toString());
+        } catch (DataAccessException e) {
+            // The sessions are still closed by the sweeper once their token expires
+            logger.warn("Failed to publish connection termination for user {}", userId.getValue(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            sessionSweeper.closeSessionsOf(UserId.of(body));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Ignoring malformed connection termination message: {}", body);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.realtime.communication.chat.adapter.in.websocket;
+
+import com.realtime.communication.auth.application.port.AccessTokenDenylist;
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.auth.infrastructure.security.JwtTokenProvider;
+import com.realtime.communication.auth.infrastructure.security.VerifiedToken;
+import com.realtime.communication.shared.domain.exception.UnauthorizedException;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.UUID;
+
+/**
+ * Authenticates the STOMP CONNECT frame and binds a StompPrincipal to the session.
+ * The token is verified once per session; later frames carry the stored principal and do no
+ * token work. Token expiry and logout are enforced by WebSocketSessionSweeper, which only knows
+ * sessions authenticated here, so a principal from the HTTP handshake alone is not accepted: a
+ * CONNECT without an Authorization header stays anonymous only if the handshake was anonymous too.
+ * An invalid or denylisted token rejects the connection.
+ */
+@Component
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final WebSocketSessionSweeper sessionSweeper;
+
+    public StompAuthenticationInterceptor(JwtTokenProvider jwtTokenProvider,
+                                          AccessTokenDenylist accessTokenDenylist,
+                                          WebSocketSessionSweeper sessionSweeper) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.accessTokenDenylist = accessTokenDenylist;
+        this.sessionSweeper = sessionSweeper;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.CONNECT.equals(accessor.getCommand())) {
+            return message;
+        }
+
+        String authorization = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+        if (!StringUtils.hasText(authorization)) {
+            if (accessor.getUser() != null) {
+                throw new UnauthorizedException("STOMP CONNECT needs an Authorization header");
+            }
+            return message;
+        }
+        String token = authorization.startsWith(BEARER_PREFIX)
+            ? authorization.substring(BEARER_PREFIX.length())
+            : authorization;
+
+        VerifiedToken verified = jwtTokenProvider.verify(token)
+            .filter(claims -> claims.tokenId() == null || !accessTokenDenylist.isDenied(claims.tokenId()))
+            .orElseThrow(() -> new UnauthorizedException("Invalid, expired or revoked token"));
+        StompPrincipal principal = new StompPrincipal(
+            new UserId(UUID.fromString(verified.userId())),
+            verified.expiresAt()
+        );
+
+        // The handler stores the user set on CONNECT and attaches it to every later frame
+        accessor.setUser(principal);
+        sessionSweeper.track(accessor.getSessionId(), principal);
+        return message;
+    }
+}
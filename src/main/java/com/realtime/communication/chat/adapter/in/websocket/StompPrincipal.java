@@ -0,0 +1,18 @@
+package com.realtime.communication.chat.adapter.in.websocket;
+
+import com.realtime.communication.auth.domain.model.UserId;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * Principal bound to a STOMP session at CONNECT, carrying the already parsed user id
+ * and the expiry of the token the session was opened with.
+ */
+public record StompPrincipal(UserId userId, Instant expiresAt) implements Principal {
+
+    @Override
+    public String getName() {
+        return userId.getValue().toString();
+    }
+}
@@ -1,14 +1,26 @@
 package com.realtime.communication.chat.adapter.in.websocket;
 
 import com.realtime.communication.auth.domain.model.UserId;
-import com.realtime.communication.chat.application.dto.TypingIndicatorDTO;
+import com.realtime.communication.chat.adapter.out.messaging.ConversationDestinations;
+import com.realtime.communication.chat.application.dto.TypingSnapshotDTO;
+import com.realtime.communication.chat.application.port.ConversationMembership;
+import com.realtime.communication.chat.application.port.TypingRoster;
+import com.realtime.communication.chat.domain.model.ConversationId;
 import com.realtime.communication.chat.domain.service.TypingIndicatorService;
+import com.realtime.communication.shared.domain.exception.NotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -17,41 +29,69 @@ import java.util.UUID;
 record TypingIndicatorRequest(UUID conversationId, boolean isTyping) {}
 
 /**
- * WebSocket controller for typing indicators
+ * WebSocket controller for typing indicators.
+ * Only records state; changes are broadcast in aggregated snapshots by TypingSnapshotPublisher.
+ * A session that subscribes to a conversation's typing topic is first sent the full set of
+ * typers on /user/queue/typing, and then follows the deltas on the topic.
  */
 @Controller
 public class TypingIndicatorController {
 
+    private static final Logger logger = LoggerFactory.getLogger(TypingIndicatorController.class);
+    private static final String QUEUE_DESTINATION = "/queue/typing";
+
     private final TypingIndicatorService typingIndicatorService;
+    private final TypingRoster typingRoster;
+    private final ConversationMembership conversationMembership;
     private final SimpMessagingTemplate messagingTemplate;
 
     public TypingIndicatorController(TypingIndicatorService typingIndicatorService,
-                                    SimpMessagingTemplate messagingTemplate) {
+                                     TypingRoster typingRoster,
+                                     ConversationMembership conversationMembership,
+                                     SimpMessagingTemplate messagingTemplate) {
         this.typingIndicatorService = typingIndicatorService;
+        this.typingRoster = typingRoster;
+        this.conversationMembership = conversationMembership;
         this.messagingTemplate = messagingTemplate;
     }
 
     @MessageMapping("/chat.typing")
-    public void handleTyping(@Payload TypingIndicatorRequest request,
-                            @AuthenticationPrincipal String userId) {
-        UserId user = new UserId(UUID.fromString(userId));
-
+    public void handleTyping(@Payload TypingIndicatorRequest request, UserId userId) {
         if (request.isTyping()) {
-            typingIndicatorService.startTyping(user, request.conversationId());
+            typingIndicatorService.startTyping(userId, request.conversationId());
         } else {
-            typingIndicatorService.stopTyping(user, request.conversationId());
+            typingIndicatorService.stopTyping(userId, request.conversationId());
         }
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        UUID conversationId = ConversationDestinations.conversationIdOf(destination);
+        if (conversationId == null || !destination.endsWith(ConversationDestinations.TYPING_SUFFIX)
+                || accessor.getSessionId() == null || !(event.getUser() instanceof StompPrincipal principal)) {
+            return;
+        }
+        try {
+            ConversationId conversation = new ConversationId(conversationId);
+            if (conversationMembership.isMember(conversation, principal.userId())) {
+                sendSnapshot(principal.userId(), accessor.getSessionId(), conversation);
+            }
+        } catch (NotFoundException | DataAccessException e) {
+            // The deltas on the topic still arrive; the client just starts without the current typers
+            logger.warn("Cannot send typing snapshot of conversation {}", conversationId, e);
+        }
+    }
 
-        // Broadcast typing indicator to conversation
-        TypingIndicatorDTO dto = new TypingIndicatorDTO(
-            request.conversationId(),
-            UUID.fromString(userId),
-            request.isTyping()
-        );
-
-        messagingTemplate.convertAndSend(
-            "/topic/conversation/" + request.conversationId() + "/typing",
-            dto
-        );
+    private void sendSnapshot(UserId userId, String sessionId, ConversationId conversationId) {
+        TypingSnapshotDTO snapshot = new TypingSnapshotDTO(conversationId.getValue(),
+            typingRoster.typingIn(conversationId), List.of());
+        // Addressed to the subscribing session only, not to the user's other sessions
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+        messagingTemplate.convertAndSendToUser(userId.getValue().toString(), QUEUE_DESTINATION, snapshot,
+            headers.getMessageHeaders());
     }
 }
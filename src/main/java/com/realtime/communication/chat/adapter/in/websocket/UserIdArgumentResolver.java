@@ -0,0 +1,32 @@
+package com.realtime.communication.chat.adapter.in.websocket;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.shared.domain.exception.UnauthorizedException;
+import org.springframework.core.MethodParameter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.handler.invocation.HandlerMethodArgumentResolver;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+import java.security.Principal;
+
+/**
+ * Resolves {@link UserId} parameters of message handlers from the session principal,
+ * so handlers do not parse the user id per frame. Only principals bound at STOMP CONNECT are
+ * accepted, as only those sessions are closed on token expiry and logout.
+ */
+public class UserIdArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return UserId.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, Message<?> message) {
+        Principal user = SimpMessageHeaderAccessor.getUser(message.getHeaders());
+        if (user instanceof StompPrincipal principal) {
+            return principal.userId();
+        }
+        throw new UnauthorizedException("STOMP session is not authenticated");
+    }
+}
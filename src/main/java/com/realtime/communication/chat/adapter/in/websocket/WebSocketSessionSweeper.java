@@ -0,0 +1,97 @@
+package com.realtime.communication.chat.adapter.in.websocket;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Closes WebSocket sessions whose access token has expired or whose user has logged out.
+ * Installed as a handler decorator to keep track of open sessions; sessions are swept on a
+ * fixed interval so no per-frame expiry check is needed.
+ */
+@Component
+public class WebSocketSessionSweeper implements WebSocketHandlerDecoratorFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketSessionSweeper.class);
+    private static final CloseStatus TOKEN_EXPIRED = CloseStatus.POLICY_VIOLATION.withReason("Token expired");
+    private static final CloseStatus LOGGED_OUT = CloseStatus.POLICY_VIOLATION.withReason("Logged out");
+
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, StompPrincipal> principals = new ConcurrentHashMap<>();
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                principals.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * Track the authenticated session so it is closed once its token expires or its user logs out.
+     */
+    public void track(String sessionId, StompPrincipal principal) {
+        if (sessionId != null && sessions.containsKey(sessionId)) {
+            principals.put(sessionId, principal);
+        }
+    }
+
+    /**
+     * Close every session of the user held by this node.
+     */
+    public void closeSessionsOf(UserId userId) {
+        principals.forEach((sessionId, principal) -> {
+            if (principal.userId().equals(userId)) {
+                principals.remove(sessionId);
+                close(sessionId, LOGGED_OUT);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.websocket.session-sweep-interval-ms:30000}")
+    public void sweep() {
+        Instant now = Instant.now();
+        principals.forEach((sessionId, principal) -> {
+            if (principal.expiresAt().isAfter(now)) {
+                return;
+            }
+            principals.remove(sessionId);
+            close(sessionId, TOKEN_EXPIRED);
+        });
+    }
+
+    private void close(String sessionId, CloseStatus status) {
+        WebSocketSession session = sessions.get(sessionId);
+        if (session == null || !session.isOpen()) {
+            return;
+        }
+        try {
+            session.close(status);
+            logger.debug("Closed WebSocket session {}: {}", sessionId, status.getReason());
+        } catch (IOException e) {
+            logger.warn("Failed to close WebSocket session {}: {}", sessionId, status.getReason(), e);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.realtime.communication.chat.adapter.out.messaging;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.domain.event.MessageDeliveredEvent;
+import com.realtime.communication.chat.domain.event.MessageReadEvent;
+import com.realtime.communication.chat.domain.event.MessageSentEvent;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.MessageId;
+import com.realtime.communication.chat.domain.model.MessageType;
+import com.realtime.communication.shared.application.event.Event;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding of message events for Kafka.
+ * Layout: magic byte, schema version, event type tag, event id and time, then the event's fields
+ * in a fixed order. UUIDs are 16 raw bytes, instants are epoch seconds and nanos, MessageType is
+ * its ordinal (constants may only be appended) and text is a varint length followed by UTF-8.
+ * The magic byte can never start a JSON document, so consumers can accept both formats.
+ * A version's layout never changes; a new layout gets a new version and decode keeps reading old ones.
+ */
+public final class BinaryEventCodec implements Serializer<Event>, Deserializer<Event> {
+
+    static final byte MAGIC = (byte) 0xE5;
+    static final byte VERSION = 1;
+
+    private static final byte MESSAGE_SENT = 1;
+    private static final byte MESSAGE_DELIVERED = 2;
+    private static final byte MESSAGE_READ = 3;
+    private static final int UUID_SIZE = 16;
+    private static final int INSTANT_SIZE = 12;
+    private static final int HEADER_SIZE = 3 + UUID_SIZE + INSTANT_SIZE;
+    private static final long NULL_INSTANT = Long.MIN_VALUE;
+    private static final MessageType[] MESSAGE_TYPES = MessageType.values();
+
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length > 0 && data[0] == MAGIC;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Event event) {
+        return event == null ? null : encode(event);
+    }
+
+    @Override
+    public Event deserialize(String topic, byte[] data) {
+        return data == null ? null : decode(data);
+    }
+
+    // Serializer and Deserializer both declare these defaults, so the class must pick one
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    public byte[] encode(Event event) {
+        if (event instanceof MessageSentEvent sent) {
+            byte[] content = sent.getContent().getBytes(StandardCharsets.UTF_8);
+            ByteBuffer buffer = header(MESSAGE_SENT, event,
+                3 * UUID_SIZE + 1 + INSTANT_SIZE + varintSize(content.length) + content.length);
+            putUuid(buffer, sent.getMessageId().getValue());
+            putUuid(buffer, sent.getConversationId().getValue());
+            putUuid(buffer, sent.getSenderId().getValue());
+            buffer.put((byte) sent.getMessageType().ordinal());
+            putInstant(buffer, sent.getSentAt());
+            putVarint(buffer, content.length);
+            buffer.put(content);
+            return buffer.array();
+        }
+        if (event instanceof MessageDeliveredEvent delivered) {
+            ByteBuffer buffer = header(MESSAGE_DELIVERED, event, 3 * UUID_SIZE + INSTANT_SIZE);
+            putUuid(buffer, delivered.getMessageId().getValue());
+            putUuid(buffer, delivered.getConversationId().getValue());
+            putUuid(buffer, delivered.getRecipientId().getValue());
+            putInstant(buffer, delivered.getDeliveredAt());
+            return buffer.array();
+        }
+        if (event instanceof MessageReadEvent read) {
+            ByteBuffer buffer = header(MESSAGE_READ, event, 3 * UUID_SIZE + INSTANT_SIZE);
+            putUuid(buffer, read.getMessageId().getValue());
+            putUuid(buffer, read.getConversationId().getValue());
+            putUuid(buffer, read.getReaderId().getValue());
+            putInstant(buffer, read.getReadAt());
+            return buffer.array();
+        }
+        throw new SerializationException("No binary encoding for " + event.getEventType());
+    }
+
+    public Event decode(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (data.length < HEADER_SIZE || buffer.get() != MAGIC) {
+            throw new SerializationException("Not a binary encoded event");
+        }
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new SerializationException("Unsupported event schema version " + version);
+        }
+        try {
+            byte type = buffer.get();
+            String eventId = getUuid(buffer).toString();
+            Instant occurredOn = getInstant(buffer);
+            return switch (type) {
+                case MESSAGE_SENT -> decodeSent(buffer, eventId, occurredOn);
+                case MESSAGE_DELIVERED -> new MessageDeliveredEvent(eventId, occurredOn,
+                    new MessageId(getUuid(buffer)), new ConversationId(getUuid(buffer)),
+                    new UserId(getUuid(buffer)), getInstant(buffer));
+                case MESSAGE_READ -> new MessageReadEvent(eventId, occurredOn,
+                    new MessageId(getUuid(buffer)), new ConversationId(getUuid(buffer)),
+                    new UserId(getUuid(buffer)), getInstant(buffer));
+                default -> throw new SerializationException("Unknown event type tag " + type);
+            };
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new SerializationException("Truncated binary event", e);
+        }
+    }
+
+    private static MessageSentEvent decodeSent(ByteBuffer buffer, String eventId, Instant occurredOn) {
+        MessageId messageId = new MessageId(getUuid(buffer));
+        ConversationId conversationId = new ConversationId(getUuid(buffer));
+        UserId senderId = new UserId(getUuid(buffer));
+        MessageType messageType = MESSAGE_TYPES[buffer.get()];
+        Instant sentAt = getInstant(buffer);
+        int length = getVarint(buffer);
+        if (length < 0 || length > buffer.remaining()) {
+            throw new SerializationException("Truncated binary event");
+        }
+        byte[] content = new byte[length];
+        buffer.get(content);
+        return new MessageSentEvent(eventId, occurredOn, messageId, conversationId, senderId,
+            new String(content, StandardCharsets.UTF_8), messageType, sentAt);
+    }
+
+    private static ByteBuffer header(byte type, Event event, int bodySize) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + bodySize);
+        buffer.put(MAGIC).put(VERSION).put(type);
+        putUuid(buffer, UUID.fromString(event.getEventId()));
+        putInstant(buffer, event.getOccurredOn());
+        return buffer;
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static void putInstant(ByteBuffer buffer, Instant instant) {
+        if (instant == null) {
+            buffer.putLong(NULL_INSTANT).putInt(0);
+        } else {
+            buffer.putLong(instant.getEpochSecond()).putInt(instant.getNano());
+        }
+    }
+
+    private static Instant getInstant(ByteBuffer buffer) {
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        return seconds == NULL_INSTANT ? null : Instant.ofEpochSecond(seconds, nanos);
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value >>>= 7) != 0) {
+            size++;
+        }
+        return size;
+    }
+
+    private static void putVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private static int getVarint(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed varint");
+    }
+}
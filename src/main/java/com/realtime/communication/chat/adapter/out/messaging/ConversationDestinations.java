@@ -0,0 +1,46 @@
+package com.realtime.communication.chat.adapter.out.messaging;
+
+import java.util.UUID;
+
+/**
+ * STOMP destinations used for conversation broadcasts.
+ */
+public final class ConversationDestinations {
+
+    public static final String PREFIX = "/topic/conversation/";
+    public static final String TYPING_SUFFIX = "/typing";
+
+    private static final int UUID_LENGTH = 36;
+
+    private ConversationDestinations() {
+    }
+
+    public static String messages(UUID conversationId) {
+        return PREFIX + conversationId;
+    }
+
+    public static String typing(UUID conversationId) {
+        return PREFIX + conversationId + TYPING_SUFFIX;
+    }
+
+    /**
+     * Extract the conversation id from a messages or typing destination.
+     *
+     * @return the conversation id, or null if the destination is not a conversation destination
+     */
+    public static UUID conversationIdOf(String destination) {
+        if (destination == null || !destination.startsWith(PREFIX)) {
+            return null;
+        }
+        int idEnd = PREFIX.length() + UUID_LENGTH;
+        if (destination.length() != idEnd
+                && !(destination.length() == idEnd + TYPING_SUFFIX.length() && destination.endsWith(TYPING_SUFFIX))) {
+            return null;
+        }
+        try {
+            return UUID.fromString(destination.substring(PREFIX.length(), idEnd));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
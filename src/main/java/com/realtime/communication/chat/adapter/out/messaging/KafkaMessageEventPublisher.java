@@ -4,21 +4,29 @@ import com.realtime.communication.chat.domain.event.MessageDeliveredEvent;
 import com.realtime.communication.chat.domain.event.MessageReadEvent;
 import com.realtime.communication.chat.domain.event.MessageSentEvent;
 import com.realtime.communication.shared.application.event.Event;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 /**
- * Kafka implementation for publishing message events
+ * Kafka implementation for publishing message events.
+ * Events are sent as JSON, or with BinaryEventCodec when app.kafka.message-events.format is binary.
  */
 @Component
 public class KafkaMessageEventPublisher {
 
-    private static final String MESSAGE_EVENTS_TOPIC = "message-events";
+    public static final String MESSAGE_EVENTS_TOPIC = "message-events";
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final KafkaTemplate<String, byte[]> byteArrayKafkaTemplate;
+    private final BinaryEventCodec binaryCodec;
 
-    public KafkaMessageEventPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
+    public KafkaMessageEventPublisher(KafkaTemplate<String, Object> kafkaTemplate,
+                                      KafkaTemplate<String, byte[]> byteArrayKafkaTemplate,
+                                      @Value("${app.kafka.message-events.format:json}") String format) {
         this.kafkaTemplate = kafkaTemplate;
+        this.byteArrayKafkaTemplate = byteArrayKafkaTemplate;
+        this.binaryCodec = "binary".equals(format) ? new BinaryEventCodec() : null;
     }
 
     public void publish(Event event) {
@@ -26,12 +34,19 @@ public class KafkaMessageEventPublisher {
             throw new IllegalArgumentException("Event cannot be null");
         }
 
-        String key = determineKey(event);
+        String key = keyOf(event);
 
-        kafkaTemplate.send(MESSAGE_EVENTS_TOPIC, key, event);
+        if (binaryCodec != null) {
+            byteArrayKafkaTemplate.send(MESSAGE_EVENTS_TOPIC, key, binaryCodec.encode(event));
+        } else {
+            kafkaTemplate.send(MESSAGE_EVENTS_TOPIC, key, event);
+        }
     }
 
-    private String determineKey(Event event) {
+    /**
+     * Partition key of an event; events with the same key are delivered in order.
+     */
+    static String keyOf(Event event) {
         if (event instanceof MessageSentEvent) {
             return ((MessageSentEvent) event).getConversationId().toString();
         } else if (event instanceof MessageDeliveredEvent) {
@@ -0,0 +1,40 @@
+package com.realtime.communication.chat.adapter.out.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realtime.communication.chat.application.port.ConversationBroadcaster;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-node implementation of the ConversationBroadcaster port.
+ * Sends straight to the in-process broker, so only sessions on this JVM receive the payload.
+ * The payload is pre-encoded once so recipient frames can share bytes.
+ */
+@Component
+@ConditionalOnProperty(name = "app.websocket.fanout", havingValue = "local", matchIfMissing = true)
+public class LocalConversationBroadcaster implements ConversationBroadcaster {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    public LocalConversationBroadcaster(SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void broadcast(ConversationId conversationId, Object payload) {
+        send(ConversationDestinations.messages(conversationId.getValue()), payload);
+    }
+
+    @Override
+    public void broadcastTyping(ConversationId conversationId, Object payload) {
+        send(ConversationDestinations.typing(conversationId.getValue()), payload);
+    }
+
+    private void send(String destination, Object payload) {
+        messagingTemplate.send(destination, PreEncodedMessage.encode(objectMapper, payload).toBrokerMessage());
+    }
+}
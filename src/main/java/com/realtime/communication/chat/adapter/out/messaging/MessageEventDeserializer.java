@@ -0,0 +1,78 @@
+package com.realtime.communication.chat.adapter.out.messaging;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.domain.event.MessageDeliveredEvent;
+import com.realtime.communication.chat.domain.event.MessageReadEvent;
+import com.realtime.communication.chat.domain.event.MessageSentEvent;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.MessageId;
+import com.realtime.communication.chat.domain.model.MessageType;
+import com.realtime.communication.shared.application.event.Event;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Reads message-events records into typed events, whichever format they were published in.
+ * Binary records are recognized by their magic byte; anything else is parsed as the JSON written by
+ * JsonSerializer or the outbox, dispatching on its eventType field.
+ */
+public final class MessageEventDeserializer implements Deserializer<Event> {
+
+    private final BinaryEventCodec binaryCodec = new BinaryEventCodec();
+    // Numeric timestamps are read as BigDecimal so nanoseconds survive
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+
+    @Override
+    public Event deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return BinaryEventCodec.isBinary(data) ? binaryCodec.decode(data) : fromJson(data);
+    }
+
+    private Event fromJson(byte[] data) {
+        try {
+            JsonNode node = objectMapper.readTree(data);
+            String eventId = node.path("eventId").asText();
+            Instant occurredOn = instant(node.get("occurredOn"));
+            String eventType = node.path("eventType").asText();
+            return switch (eventType) {
+                case "MessageSentEvent" -> new MessageSentEvent(eventId, occurredOn,
+                    new MessageId(uuid(node, "messageId")), new ConversationId(uuid(node, "conversationId")),
+                    new UserId(uuid(node, "senderId")), node.path("content").asText(),
+                    MessageType.valueOf(node.path("messageType").asText()), instant(node.get("sentAt")));
+                case "MessageDeliveredEvent" -> new MessageDeliveredEvent(eventId, occurredOn,
+                    new MessageId(uuid(node, "messageId")), new ConversationId(uuid(node, "conversationId")),
+                    new UserId(uuid(node, "recipientId")), instant(node.get("deliveredAt")));
+                case "MessageReadEvent" -> new MessageReadEvent(eventId, occurredOn,
+                    new MessageId(uuid(node, "messageId")), new ConversationId(uuid(node, "conversationId")),
+                    new UserId(uuid(node, "readerId")), instant(node.get("readAt")));
+                default -> throw new SerializationException("Unknown event type " + eventType);
+            };
+        } catch (IOException | IllegalArgumentException e) {
+            throw new SerializationException("Malformed JSON event", e);
+        }
+    }
+
+    /**
+     * Identifiers are value objects, serialized as {"value": "..."}; plain strings are accepted too.
+     */
+    private static UUID uuid(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        return UUID.fromString((value.isObject() ? value.path("value") : value).asText());
+    }
+
+    private Instant instant(JsonNode node) {
+        return node == null || node.isNull() ? null : objectMapper.convertValue(node, Instant.class);
+    }
+}
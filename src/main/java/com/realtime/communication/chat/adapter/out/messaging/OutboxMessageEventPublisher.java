@@ -0,0 +1,54 @@
+package com.realtime.communication.chat.adapter.out.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realtime.communication.chat.application.port.MessageEventOutbox;
+import com.realtime.communication.shared.application.event.Event;
+import com.realtime.communication.shared.infrastructure.outbox.OutboxEntry;
+import com.realtime.communication.shared.infrastructure.outbox.OutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Outbox implementation of the MessageEventOutbox port.
+ * Events are serialized (JSON, or BinaryEventCodec when app.kafka.message-events.format is binary)
+ * and appended to the outbox with the same topic and partition key KafkaMessageEventPublisher would use,
+ * so relayed events keep the same per-key ordering.
+ */
+@Component
+class OutboxMessageEventPublisher implements MessageEventOutbox {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final BinaryEventCodec binaryCodec;
+
+    OutboxMessageEventPublisher(OutboxRepository outboxRepository, ObjectMapper objectMapper,
+                                @Value("${app.kafka.message-events.format:json}") String format) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.binaryCodec = "binary".equals(format) ? new BinaryEventCodec() : null;
+    }
+
+    @Override
+    public void append(Collection<? extends Event> events) {
+        outboxRepository.append(events.stream().map(this::toEntry).toList());
+    }
+
+    private OutboxEntry toEntry(Event event) {
+        return new OutboxEntry(KafkaMessageEventPublisher.MESSAGE_EVENTS_TOPIC,
+            KafkaMessageEventPublisher.keyOf(event), event.getEventType(), serialize(event));
+    }
+
+    private byte[] serialize(Event event) {
+        if (binaryCodec != null) {
+            return binaryCodec.encode(event);
+        }
+        try {
+            return objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize " + event.getEventType(), e);
+        }
+    }
+}
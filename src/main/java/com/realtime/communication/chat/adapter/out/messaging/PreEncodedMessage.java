@@ -0,0 +1,74 @@
+package com.realtime.communication.chat.adapter.out.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Broadcast payload serialized to JSON exactly once.
+ * The same body bytes are handed to the local broker and to the cluster relay, and every
+ * recipient frame carries the same STOMP message-id, which lets the outbound encoder reuse
+ * frame bytes across sessions. The body array is shared and must be treated as read-only.
+ */
+public final class PreEncodedMessage {
+
+    /**
+     * Message header marking broker messages whose frames may be shared between sessions.
+     */
+    public static final String PRE_ENCODED_HEADER = "preEncodedBroadcast";
+
+    private final String messageId;
+    private final byte[] body;
+
+    private PreEncodedMessage(String messageId, byte[] body) {
+        this.messageId = messageId;
+        this.body = body;
+    }
+
+    public static PreEncodedMessage encode(ObjectMapper objectMapper, Object payload) {
+        try {
+            return new PreEncodedMessage(UUID.randomUUID().toString(), objectMapper.writeValueAsBytes(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to serialize broadcast payload", e);
+        }
+    }
+
+    /**
+     * Rebuild a message that was encoded on another node.
+     */
+    public static PreEncodedMessage of(String messageId, byte[] body) {
+        return new PreEncodedMessage(messageId, body);
+    }
+
+    public static boolean isPreEncoded(Map<String, Object> headers) {
+        return Boolean.TRUE.equals(headers.get(PRE_ENCODED_HEADER));
+    }
+
+    public String getMessageId() {
+        return messageId;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Broker message for SimpMessagingTemplate.send; headers are left mutable so the template can set the destination.
+     */
+    public Message<byte[]> toBrokerMessage() {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setNativeHeader(StompHeaderAccessor.STOMP_MESSAGE_ID_HEADER, messageId);
+        accessor.setHeader(PRE_ENCODED_HEADER, Boolean.TRUE);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(body, accessor.getMessageHeaders());
+    }
+}
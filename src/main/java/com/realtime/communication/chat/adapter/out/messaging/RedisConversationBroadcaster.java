@@ -0,0 +1,217 @@
+package com.realtime.communication.chat.adapter.out.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realtime.communication.chat.application.port.ConversationBroadcaster;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.shared.infrastructure.cluster.NodeIdentity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cluster-wide implementation of the ConversationBroadcaster port using Redis pub/sub.
+ * Each conversation has its own channel, and a node subscribes to it only while it has local
+ * STOMP subscribers for that conversation. Payloads are delivered to local sessions immediately
+ * and published once; each node ignores its own publications, so no subscriber sees a duplicate.
+ * The JSON is serialized once on the sending node and relayed verbatim together with its message id.
+ */
+@Component
+@ConditionalOnProperty(name = "app.websocket.fanout", havingValue = "redis")
+public class RedisConversationBroadcaster implements ConversationBroadcaster, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisConversationBroadcaster.class);
+    private static final String CHANNEL_PREFIX = "ws:conversation:";
+    private static final byte SEPARATOR = '\n';
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+    private final byte[] nodeIdBytes;
+
+    // conversation -> number of local subscriptions to its messages or typing destination
+    private final Map<UUID, Integer> localSubscriptions = new ConcurrentHashMap<>();
+    // session -> (subscription id -> conversation), needed because UNSUBSCRIBE only carries the id
+    private final Map<String, Map<String, UUID>> sessionSubscriptions = new ConcurrentHashMap<>();
+    // conversations whose channel the listener container is subscribed to, guarded by channelLocks
+    private final Set<UUID> subscribedChannels = ConcurrentHashMap.newKeySet();
+    private final Object[] channelLocks = new Object[64];
+
+    public RedisConversationBroadcaster(SimpMessagingTemplate messagingTemplate,
+                                        StringRedisTemplate redisTemplate,
+                                        RedisMessageListenerContainer listenerContainer,
+                                        ObjectMapper objectMapper,
+                                        NodeIdentity nodeIdentity) {
+        this.messagingTemplate = messagingTemplate;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.nodeId = nodeIdentity.getNodeId();
+        this.nodeIdBytes = nodeId.getBytes(StandardCharsets.UTF_8);
+        Arrays.setAll(channelLocks, i -> new Object());
+    }
+
+    @Override
+    public void broadcast(ConversationId conversationId, Object payload) {
+        publish(conversationId.getValue(), ConversationDestinations.messages(conversationId.getValue()), payload);
+    }
+
+    @Override
+    public void broadcastTyping(ConversationId conversationId, Object payload) {
+        publish(conversationId.getValue(), ConversationDestinations.typing(conversationId.getValue()), payload);
+    }
+
+    /**
+     * Receives envelopes of the form "nodeId\nmessageId\ndestination\njson" from conversation channels.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        byte[] body = message.getBody();
+        int nodeEnd = indexOf(body, 0);
+        int messageIdEnd = nodeEnd < 0 ? -1 : indexOf(body, nodeEnd + 1);
+        int destinationEnd = messageIdEnd < 0 ? -1 : indexOf(body, messageIdEnd + 1);
+        if (destinationEnd < 0) {
+            logger.warn("Ignoring malformed fan-out envelope on {}",
+                new String(message.getChannel(), StandardCharsets.UTF_8));
+            return;
+        }
+        if (Arrays.equals(body, 0, nodeEnd, nodeIdBytes, 0, nodeIdBytes.length)) {
+            return;
+        }
+        String messageId = new String(body, nodeEnd + 1, messageIdEnd - nodeEnd - 1, StandardCharsets.UTF_8);
+        String destination = new String(body, messageIdEnd + 1, destinationEnd - messageIdEnd - 1,
+            StandardCharsets.UTF_8);
+        PreEncodedMessage encoded = PreEncodedMessage.of(messageId,
+            Arrays.copyOfRange(body, destinationEnd + 1, body.length));
+        messagingTemplate.send(destination, encoded.toBrokerMessage());
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        UUID conversationId = ConversationDestinations.conversationIdOf(accessor.getDestination());
+        if (conversationId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        UUID previous = sessionSubscriptions
+            .computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+            .put(accessor.getSubscriptionId(), conversationId);
+        if (previous != null) {
+            release(previous);
+        }
+        acquire(conversationId);
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Map<String, UUID> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        UUID conversationId = subscriptions == null ? null : subscriptions.remove(accessor.getSubscriptionId());
+        if (conversationId != null) {
+            release(conversationId);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        Map<String, UUID> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    private void publish(UUID conversationId, String destination, Object payload) {
+        PreEncodedMessage encoded = PreEncodedMessage.encode(objectMapper, payload);
+        messagingTemplate.send(destination, encoded.toBrokerMessage());
+
+        byte[] envelope = envelope(encoded, destination);
+        redisTemplate.execute(connection ->
+            connection.publish(channelOf(conversationId).getBytes(StandardCharsets.UTF_8), envelope), true);
+    }
+
+    private byte[] envelope(PreEncodedMessage encoded, String destination) {
+        byte[] messageIdBytes = encoded.getMessageId().getBytes(StandardCharsets.UTF_8);
+        byte[] destinationBytes = destination.getBytes(StandardCharsets.UTF_8);
+        byte[] json = encoded.getBody();
+        byte[] envelope = new byte[nodeIdBytes.length + messageIdBytes.length + destinationBytes.length
+            + json.length + 3];
+        int offset = append(envelope, 0, nodeIdBytes);
+        offset = append(envelope, offset, messageIdBytes);
+        offset = append(envelope, offset, destinationBytes);
+        System.arraycopy(json, 0, envelope, offset, json.length);
+        return envelope;
+    }
+
+    private static int append(byte[] target, int offset, byte[] part) {
+        System.arraycopy(part, 0, target, offset, part.length);
+        target[offset + part.length] = SEPARATOR;
+        return offset + part.length + 1;
+    }
+
+    private void acquire(UUID conversationId) {
+        if (localSubscriptions.merge(conversationId, 1, Integer::sum) == 1) {
+            syncChannel(conversationId);
+        }
+    }
+
+    private void release(UUID conversationId) {
+        if (localSubscriptions.computeIfPresent(conversationId, (id, count) -> count > 1 ? count - 1 : null) == null) {
+            syncChannel(conversationId);
+        }
+    }
+
+    /**
+     * Subscribes to or unsubscribes from the conversation channel so that it matches whether there
+     * are local subscriptions. Runs after the count changed, outside the map operation, so the
+     * blocking container call never holds a map bin; re-reading the count under a per-channel lock
+     * lets the last transition win when a 0 to 1 and a 1 to 0 transition race.
+     */
+    private void syncChannel(UUID conversationId) {
+        synchronized (channelLocks[Math.floorMod(conversationId.hashCode(), channelLocks.length)]) {
+            boolean wanted = localSubscriptions.containsKey(conversationId);
+            boolean subscribed = subscribedChannels.contains(conversationId);
+            if (wanted && !subscribed) {
+                listenerContainer.addMessageListener(this, new ChannelTopic(channelOf(conversationId)));
+                subscribedChannels.add(conversationId);
+                logger.debug("Node {} subscribed to conversation channel {}", nodeId, conversationId);
+            } else if (!wanted && subscribed) {
+                listenerContainer.removeMessageListener(this, new ChannelTopic(channelOf(conversationId)));
+                subscribedChannels.remove(conversationId);
+                logger.debug("Node {} unsubscribed from conversation channel {}", nodeId, conversationId);
+            }
+        }
+    }
+
+    private static String channelOf(UUID conversationId) {
+        return CHANNEL_PREFIX + conversationId;
+    }
+
+    private static int indexOf(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == SEPARATOR) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
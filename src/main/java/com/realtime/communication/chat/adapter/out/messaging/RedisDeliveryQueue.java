@@ -0,0 +1,97 @@
+package com.realtime.communication.chat.adapter.out.messaging;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.port.DeliveryQueue;
+import com.realtime.communication.chat.domain.model.MessageId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis implementation of the DeliveryQueue port.
+ * Each user's queue is a sorted set of message ids scored by send time, so replay reads the
+ * oldest entries with one ZRANGE and a bulk acknowledgement is one ZREM. Queues are capped,
+ * dropping the oldest entries, and expire when the user does not reconnect within the TTL;
+ * what is dropped can still be read from the conversation history.
+ *
+ * <p>Keys: delivery:pending:{userId}. The enqueue script writes one key per recipient, so this
+ * assumes a non-clustered Redis.
+ */
+@Component
+class RedisDeliveryQueue implements DeliveryQueue {
+
+    private static final String PENDING_PREFIX = "delivery:pending:";
+
+    // KEYS: pending queues of the recipients; ARGV: sent at (epoch ms), message id, max size, ttl (ms)
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>("""
+        local trim = -tonumber(ARGV[3]) - 1
+        for _, key in ipairs(KEYS) do
+          redis.call('ZADD', key, ARGV[1], ARGV[2])
+          redis.call('ZREMRANGEBYRANK', key, 0, trim)
+          redis.call('PEXPIRE', key, ARGV[4])
+        end
+        return #KEYS
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int maxSize;
+    private final Duration ttl;
+
+    RedisDeliveryQueue(StringRedisTemplate redisTemplate,
+                       @Value("${app.chat.delivery.queue-max-size:10000}") int maxSize,
+                       @Value("${app.chat.delivery.queue-ttl-days:14}") long ttlDays) {
+        this.redisTemplate = redisTemplate;
+        this.maxSize = maxSize;
+        this.ttl = Duration.ofDays(ttlDays);
+    }
+
+    @Override
+    public void enqueue(Collection<UserId> recipients, MessageId messageId, Instant sentAt) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+        List<String> keys = recipients.stream().map(RedisDeliveryQueue::keyOf).toList();
+        redisTemplate.execute(ENQUEUE_SCRIPT, keys, Long.toString(sentAt.toEpochMilli()),
+            messageId.getValue().toString(), Integer.toString(maxSize), Long.toString(ttl.toMillis()));
+    }
+
+    @Override
+    public List<PendingDelivery> pending(UserId userId, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> entries =
+            redisTemplate.opsForZSet().rangeWithScores(keyOf(userId), 0, limit - 1);
+        if (entries == null) {
+            return List.of();
+        }
+        List<PendingDelivery> pending = new ArrayList<>(entries.size());
+        for (ZSetOperations.TypedTuple<String> entry : entries) {
+            double score = entry.getScore() != null ? entry.getScore() : 0;
+            pending.add(new PendingDelivery(new MessageId(UUID.fromString(entry.getValue())),
+                Instant.ofEpochMilli((long) score)));
+        }
+        return pending;
+    }
+
+    @Override
+    public void acknowledge(UserId userId, Collection<MessageId> messageIds) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        Object[] members = messageIds.stream().map(id -> id.getValue().toString()).toArray();
+        redisTemplate.opsForZSet().remove(keyOf(userId), members);
+    }
+
+    private static String keyOf(UserId userId) {
+        return PENDING_PREFIX + userId.getValue();
+    }
+}
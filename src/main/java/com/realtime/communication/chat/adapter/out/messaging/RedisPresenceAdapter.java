@@ -2,38 +2,154 @@ package com.realtime.communication.chat.adapter.out.messaging;
 
 import com.realtime.communication.auth.domain.model.UserId;
 import com.realtime.communication.chat.application.port.PresenceGateway;
-import org.springframework.data.redis.core.RedisTemplate;
+import com.realtime.communication.shared.infrastructure.cluster.NodeIdentity;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.stream.Collectors;
 
 /**
- * Redis implementation of PresenceGateway
+ * Redis implementation of PresenceGateway.
+ * Sessions are reference-counted per user on the node that holds them, so Redis is only written
+ * when a user's first session on this node opens or the last one closes. Redis records which nodes
+ * hold each user; nodes renew a single heartbeat entry per interval, and any node that sees an
+ * expired heartbeat removes the dead node's users, so a crashed node cannot leave users online.
+ *
+ * <p>Keys: presence:online (users online anywhere), presence:user:{userId} (nodes holding the
+ * user), presence:node:{nodeId} (users held by the node) and presence:nodes (node -> heartbeat
+ * deadline). The scripts derive keys from arguments, so this assumes a non-clustered Redis.
+ * The heartbeat runs on its own scheduler, so slow background jobs cannot delay it past the TTL.
+ *
+ * <p>Redis is written after the local session set changed, never while holding the map entry, so a
+ * slow Redis only delays the connects and disconnects that change a user's presence. A failed write
+ * is repaired by the next heartbeat.
  */
 @Component
 public class RedisPresenceAdapter implements PresenceGateway {
 
+    private static final Logger logger = LoggerFactory.getLogger(RedisPresenceAdapter.class);
     private static final String ONLINE_USERS_KEY = "presence:online";
-    private static final String TYPING_KEY_PREFIX = "presence:typing:";
-    private static final Duration TYPING_TIMEOUT = Duration.ofSeconds(5);
+    private static final String USER_NODES_PREFIX = "presence:user:";
+    private static final String NODE_USERS_PREFIX = "presence:node:";
+    private static final String NODES_KEY = "presence:nodes";
 
-    private final RedisTemplate<String, String> redisTemplate;
+    // KEYS: online, user nodes, node users; ARGV: node id, user id
+    private static final RedisScript<Long> CONNECT_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('SADD', KEYS[2], ARGV[1])
+        redis.call('SADD', KEYS[3], ARGV[2])
+        return redis.call('SADD', KEYS[1], ARGV[2])
+        """, Long.class);
 
-    public RedisPresenceAdapter(RedisTemplate<String, String> redisTemplate) {
+    // KEYS: online, user nodes, node users; ARGV: node id, user id
+    private static final RedisScript<Long> DISCONNECT_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('SREM', KEYS[2], ARGV[1])
+        redis.call('SREM', KEYS[3], ARGV[2])
+        if redis.call('SCARD', KEYS[2]) == 0 then
+          return redis.call('SREM', KEYS[1], ARGV[2])
+        end
+        return 0
+        """, Long.class);
+
+    // KEYS: online, node users, nodes; ARGV: node id, user nodes prefix, now
+    private static final RedisScript<Long> REAP_SCRIPT = new DefaultRedisScript<>("""
+        local deadline = redis.call('ZSCORE', KEYS[3], ARGV[1])
+        if deadline and tonumber(deadline) > tonumber(ARGV[3]) then
+          return -1
+        end
+        local users = redis.call('SMEMBERS', KEYS[2])
+        for _, user in ipairs(users) do
+          local key = ARGV[2] .. user
+          redis.call('SREM', key, ARGV[1])
+          if redis.call('SCARD', key) == 0 then
+            redis.call('SREM', KEYS[1], user)
+          end
+        end
+        redis.call('DEL', KEYS[2])
+        redis.call('ZREM', KEYS[3], ARGV[1])
+        return #users
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final TaskScheduler heartbeatScheduler;
+    private final String nodeId;
+    private final long nodeTtlMillis;
+    private final long heartbeatIntervalMillis;
+    private ScheduledFuture<?> heartbeatTask;
+
+    // user -> ids of this node's sessions for the user
+    private final Map<UUID, Set<String>> localSessions = new ConcurrentHashMap<>();
+    // users recorded in Redis as held by this node, guarded by userLocks
+    private final Set<UUID> publishedUsers = ConcurrentHashMap.newKeySet();
+    private final Object[] userLocks = new Object[64];
+
+    public RedisPresenceAdapter(StringRedisTemplate redisTemplate,
+                                NodeIdentity nodeIdentity,
+                                @Qualifier("presenceHeartbeatScheduler") TaskScheduler heartbeatScheduler,
+                                @Value("${app.presence.node-ttl-ms:15000}") long nodeTtlMillis,
+                                @Value("${app.presence.heartbeat-interval-ms:5000}") long heartbeatIntervalMillis) {
         this.redisTemplate = redisTemplate;
+        this.heartbeatScheduler = heartbeatScheduler;
+        this.nodeId = nodeIdentity.getNodeId();
+        this.nodeTtlMillis = nodeTtlMillis;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        Arrays.setAll(userLocks, i -> new Object());
+    }
+
+    @PostConstruct
+    void startHeartbeat() {
+        heartbeatTask = heartbeatScheduler.scheduleWithFixedDelay(this::heartbeat,
+            Duration.ofMillis(heartbeatIntervalMillis));
     }
 
     @Override
-    public void setOnline(UserId userId) {
-        redisTemplate.opsForSet().add(ONLINE_USERS_KEY, userId.getValue().toString());
+    public void sessionConnected(UserId userId, String sessionId) {
+        boolean[] first = new boolean[1];
+        localSessions.compute(userId.getValue(), (id, sessions) -> {
+            if (sessions == null) {
+                first[0] = true;
+                sessions = ConcurrentHashMap.newKeySet();
+            }
+            sessions.add(sessionId);
+            return sessions;
+        });
+        if (first[0]) {
+            syncUser(userId.getValue());
+        }
     }
 
     @Override
-    public void setOffline(UserId userId) {
-        redisTemplate.opsForSet().remove(ONLINE_USERS_KEY, userId.getValue().toString());
+    public void sessionDisconnected(UserId userId, String sessionId) {
+        boolean[] last = new boolean[1];
+        localSessions.computeIfPresent(userId.getValue(), (id, sessions) -> {
+            if (!sessions.remove(sessionId) || !sessions.isEmpty()) {
+                return sessions;
+            }
+            last[0] = true;
+            return null;
+        });
+        if (last[0]) {
+            syncUser(userId.getValue());
+        }
     }
 
     @Override
@@ -42,6 +158,26 @@ public class RedisPresenceAdapter implements PresenceGateway {
         return Boolean.TRUE.equals(isMember);
     }
 
+    @Override
+    public Set<UserId> onlineAmong(Collection<UserId> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        Object[] candidates = userIds.stream().map(id -> id.getValue().toString()).toArray();
+        // One SMISMEMBER for the whole list
+        Map<Object, Boolean> membership = redisTemplate.opsForSet().isMember(ONLINE_USERS_KEY, candidates);
+        if (membership == null) {
+            return Set.of();
+        }
+        Set<UserId> online = new HashSet<>();
+        membership.forEach((id, isMember) -> {
+            if (Boolean.TRUE.equals(isMember)) {
+                online.add(new UserId(UUID.fromString((String) id)));
+            }
+        });
+        return online;
+    }
+
     @Override
     public Set<UserId> getOnlineUsers() {
         Set<String> members = redisTemplate.opsForSet().members(ONLINE_USERS_KEY);
@@ -53,22 +189,100 @@ public class RedisPresenceAdapter implements PresenceGateway {
             .collect(Collectors.toSet());
     }
 
-    @Override
-    public void setTyping(UserId userId, UUID conversationId) {
-        String key = TYPING_KEY_PREFIX + conversationId + ":" + userId.getValue();
-        redisTemplate.opsForValue().set(key, "typing", TYPING_TIMEOUT);
+    /**
+     * Renews this node's heartbeat and removes the users of nodes whose heartbeat has expired.
+     * If this node's own entry was gone (it was reaped after a long pause), its users are restored.
+     */
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            Boolean added = redisTemplate.opsForZSet().add(NODES_KEY, nodeId, now + nodeTtlMillis);
+            if (Boolean.TRUE.equals(added) && !localSessions.isEmpty()) {
+                logger.warn("Presence of node {} was missing, restoring {} users", nodeId, localSessions.size());
+                localSessions.keySet().forEach(this::restore);
+            }
+            repairUnsyncedUsers();
+            Set<String> expired = redisTemplate.opsForZSet().rangeByScore(NODES_KEY, 0, now);
+            if (expired != null) {
+                expired.stream()
+                    .filter(node -> !node.equals(nodeId))
+                    .forEach(node -> reap(node, now));
+            }
+        } catch (DataAccessException e) {
+            logger.error("Failed to renew presence heartbeat of node {}", nodeId, e);
+        }
     }
 
-    @Override
-    public void stopTyping(UserId userId, UUID conversationId) {
-        String key = TYPING_KEY_PREFIX + conversationId + ":" + userId.getValue();
-        redisTemplate.delete(key);
+    @PreDestroy
+    public void removeNode() {
+        if (heartbeatTask != null) {
+            heartbeatTask.cancel(false);
+        }
+        try {
+            reap(nodeId, Long.MAX_VALUE);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to remove presence of node {}; it will expire with its heartbeat", nodeId, e);
+        }
     }
 
-    @Override
-    public boolean isTyping(UserId userId, UUID conversationId) {
-        String key = TYPING_KEY_PREFIX + conversationId + ":" + userId.getValue();
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    private void restore(UUID userId) {
+        // Under the user's lock, so a concurrent last disconnect cannot be overtaken
+        synchronized (lockOf(userId)) {
+            if (localSessions.containsKey(userId)) {
+                runForUser(CONNECT_SCRIPT, userId);
+                publishedUsers.add(userId);
+            }
+        }
     }
-}
 
+    /**
+     * Retries users whose presence write failed. A transition still in flight also shows up here;
+     * syncing it twice is harmless.
+     */
+    private void repairUnsyncedUsers() {
+        localSessions.keySet().stream().filter(id -> !publishedUsers.contains(id)).forEach(this::syncUser);
+        publishedUsers.stream().filter(id -> !localSessions.containsKey(id)).toList().forEach(this::syncUser);
+    }
+
+    /**
+     * Makes Redis match whether this node holds sessions of the user. The local set is re-read under
+     * a per-user lock, so when a first connect and a last disconnect race the later one wins.
+     */
+    private void syncUser(UUID userId) {
+        synchronized (lockOf(userId)) {
+            boolean connected = localSessions.containsKey(userId);
+            if (connected == publishedUsers.contains(userId)) {
+                return;
+            }
+            try {
+                runForUser(connected ? CONNECT_SCRIPT : DISCONNECT_SCRIPT, userId);
+            } catch (DataAccessException e) {
+                logger.warn("Failed to update presence of user {}, will retry with the next heartbeat", userId, e);
+                return;
+            }
+            if (connected) {
+                publishedUsers.add(userId);
+            } else {
+                publishedUsers.remove(userId);
+            }
+        }
+    }
+
+    private Object lockOf(UUID userId) {
+        return userLocks[Math.floorMod(userId.hashCode(), userLocks.length)];
+    }
+
+    private void runForUser(RedisScript<Long> script, UUID userId) {
+        String user = userId.toString();
+        List<String> keys = List.of(ONLINE_USERS_KEY, USER_NODES_PREFIX + user, NODE_USERS_PREFIX + nodeId);
+        redisTemplate.execute(script, keys, nodeId, user);
+    }
+
+    private void reap(String node, long now) {
+        List<String> keys = List.of(ONLINE_USERS_KEY, NODE_USERS_PREFIX + node, NODES_KEY);
+        Long removed = redisTemplate.execute(REAP_SCRIPT, keys, node, USER_NODES_PREFIX, Long.toString(now));
+        if (removed != null && removed >= 0 && !node.equals(nodeId)) {
+            logger.info("Removed presence of {} users held by expired node {}", removed, node);
+        }
+    }
+}
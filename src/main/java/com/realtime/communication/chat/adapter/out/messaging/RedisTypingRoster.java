@@ -0,0 +1,87 @@
+package com.realtime.communication.chat.adapter.out.messaging;
+
+import com.realtime.communication.chat.application.port.TypingRoster;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.TypingSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis implementation of the TypingRoster port.
+ * Each conversation's typers are a sorted set scored by the time the entry expires. Only announced
+ * changes and periodic refreshes are written, never individual keystrokes; reads skip expired
+ * entries, and the key itself expires once nobody refreshes it.
+ *
+ * <p>Keys: typing:{conversationId}.
+ */
+@Component
+class RedisTypingRoster implements TypingRoster {
+
+    private static final String TYPING_PREFIX = "typing:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlMillis;
+
+    RedisTypingRoster(StringRedisTemplate redisTemplate,
+                      @Value("${app.chat.typing.roster-ttl-ms:10000}") long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    public void apply(Collection<TypingSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        double expiresAt = System.currentTimeMillis() + ttlMillis;
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            for (TypingSnapshot snapshot : snapshots) {
+                String key = keyOf(snapshot.conversationId().getValue());
+                snapshot.started().forEach(user -> redis.zAdd(key, expiresAt, user.toString()));
+                if (!snapshot.stopped().isEmpty()) {
+                    redis.zRem(key, snapshot.stopped().stream().map(UUID::toString).toArray(String[]::new));
+                }
+                redis.pExpire(key, ttlMillis);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void refresh(Map<UUID, Set<UUID>> typing) {
+        if (typing.isEmpty()) {
+            return;
+        }
+        double expiresAt = System.currentTimeMillis() + ttlMillis;
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            typing.forEach((conversationId, users) -> {
+                String key = keyOf(conversationId);
+                users.forEach(user -> redis.zAdd(key, expiresAt, user.toString()));
+                redis.pExpire(key, ttlMillis);
+            });
+            return null;
+        });
+    }
+
+    @Override
+    public List<UUID> typingIn(ConversationId conversationId) {
+        Set<String> users = redisTemplate.opsForZSet()
+            .rangeByScore(keyOf(conversationId.getValue()), System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        return users == null ? List.of() : users.stream().map(UUID::fromString).toList();
+    }
+
+    private static String keyOf(UUID conversationId) {
+        return TYPING_PREFIX + conversationId;
+    }
+}
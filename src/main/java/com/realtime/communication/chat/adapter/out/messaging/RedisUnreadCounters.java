@@ -0,0 +1,112 @@
+package com.realtime.communication.chat.adapter.out.messaging;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.port.UnreadCounters;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Redis implementation of the UnreadCounters port.
+ * Each user's counters are one hash of conversation id to count, so an inbox load reads them all
+ * with one HGETALL. A message increments the hashes of all its recipients in one script call, and
+ * a reconciliation chunk replaces the hashes of all its users atomically in one script call.
+ *
+ * <p>Keys: unread:{userId}. The scripts write one key per user, so this assumes a non-clustered Redis.
+ */
+@Component
+class RedisUnreadCounters implements UnreadCounters {
+
+    private static final String UNREAD_PREFIX = "unread:";
+
+    // KEYS: counters of the recipients; ARGV: conversation id
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+        for _, key in ipairs(KEYS) do
+          redis.call('HINCRBY', key, ARGV[1], 1)
+        end
+        return #KEYS
+        """, Long.class);
+
+    // KEYS: counters of the users; ARGV: per key, the number of counters followed by conversation id, count pairs
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+        local i = 1
+        for _, key in ipairs(KEYS) do
+          local n = tonumber(ARGV[i])
+          redis.call('DEL', key)
+          if n > 0 then
+            redis.call('HSET', key, unpack(ARGV, i + 1, i + 2 * n))
+          end
+          i = i + 2 * n + 1
+        end
+        return #KEYS
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    RedisUnreadCounters(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void increment(ConversationId conversationId, Collection<UserId> recipients) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+        List<String> keys = recipients.stream().map(RedisUnreadCounters::keyOf).toList();
+        redisTemplate.execute(INCREMENT_SCRIPT, keys, conversationId.getValue().toString());
+    }
+
+    @Override
+    public void reset(UserId userId, ConversationId conversationId, long unread) {
+        String field = conversationId.getValue().toString();
+        if (unread > 0) {
+            redisTemplate.opsForHash().put(keyOf(userId), field, Long.toString(unread));
+        } else {
+            redisTemplate.opsForHash().delete(keyOf(userId), field);
+        }
+    }
+
+    @Override
+    public Map<ConversationId, Long> countsOf(UserId userId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(keyOf(userId));
+        Map<ConversationId, Long> counts = new HashMap<>(entries.size());
+        entries.forEach((field, value) -> {
+            long count = Long.parseLong((String) value);
+            if (count > 0) {
+                counts.put(new ConversationId(UUID.fromString((String) field)), count);
+            }
+        });
+        return counts;
+    }
+
+    @Override
+    public void replaceAll(Map<UserId, Map<ConversationId, Long>> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(counts.size());
+        List<String> args = new ArrayList<>();
+        counts.forEach((userId, conversations) -> {
+            keys.add(keyOf(userId));
+            args.add(Integer.toString(conversations.size()));
+            conversations.forEach((conversationId, count) -> {
+                args.add(conversationId.getValue().toString());
+                args.add(Long.toString(count));
+            });
+        });
+        redisTemplate.execute(REPLACE_SCRIPT, keys, args.toArray());
+    }
+
+    private static String keyOf(UserId userId) {
+        return UNREAD_PREFIX + userId.getValue();
+    }
+}
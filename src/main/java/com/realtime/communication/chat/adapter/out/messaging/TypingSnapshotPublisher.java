@@ -0,0 +1,68 @@
+package com.realtime.communication.chat.adapter.out.messaging;
+
+import com.realtime.communication.chat.application.dto.TypingSnapshotDTO;
+import com.realtime.communication.chat.application.port.ConversationBroadcaster;
+import com.realtime.communication.chat.application.port.TypingRoster;
+import com.realtime.communication.chat.domain.model.TypingSnapshot;
+import com.realtime.communication.chat.domain.service.TypingIndicatorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Broadcasts aggregated typing changes, at most one frame per conversation per interval.
+ * Snapshots carry deltas rather than the full set of typers, so changes published by
+ * different nodes for the same conversation compose on the client. The same changes are applied
+ * to the TypingRoster, and this node's typers are refreshed there at half the roster's TTL, so new
+ * subscribers can be sent the full set.
+ */
+@Component
+class TypingSnapshotPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(TypingSnapshotPublisher.class);
+
+    private final TypingIndicatorService typingIndicatorService;
+    private final ConversationBroadcaster conversationBroadcaster;
+    private final TypingRoster typingRoster;
+    private final long refreshIntervalMillis;
+    private long lastRefresh;
+
+    TypingSnapshotPublisher(TypingIndicatorService typingIndicatorService,
+                            ConversationBroadcaster conversationBroadcaster,
+                            TypingRoster typingRoster,
+                            @Value("${app.chat.typing.roster-ttl-ms:10000}") long rosterTtlMillis) {
+        this.typingIndicatorService = typingIndicatorService;
+        this.conversationBroadcaster = conversationBroadcaster;
+        this.typingRoster = typingRoster;
+        this.refreshIntervalMillis = rosterTtlMillis / 2;
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.typing.snapshot-interval-ms:250}")
+    public void publish() {
+        List<TypingSnapshot> snapshots = typingIndicatorService.pollSnapshots();
+        for (TypingSnapshot snapshot : snapshots) {
+            TypingSnapshotDTO dto = new TypingSnapshotDTO(
+                snapshot.conversationId().getValue(),
+                snapshot.started(),
+                snapshot.stopped()
+            );
+            conversationBroadcaster.broadcastTyping(snapshot.conversationId(), dto);
+        }
+        try {
+            typingRoster.apply(snapshots);
+            long now = System.currentTimeMillis();
+            if (now - lastRefresh >= refreshIntervalMillis) {
+                typingRoster.refresh(typingIndicatorService.announcedTypers());
+                lastRefresh = now;
+            }
+        } catch (DataAccessException e) {
+            // Deltas were broadcast; only late subscribers miss the current typers until the next refresh
+            logger.warn("Failed to update the typing roster", e);
+        }
+    }
+}
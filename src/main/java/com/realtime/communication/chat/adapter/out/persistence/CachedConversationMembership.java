@@ -0,0 +1,152 @@
+package com.realtime.communication.chat.adapter.out.persistence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.port.ConversationMembership;
+import com.realtime.communication.chat.domain.event.ConversationParticipantsChangedEvent;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.shared.domain.exception.NotFoundException;
+import com.realtime.communication.shared.infrastructure.monitoring.MetricsCollector;
+import com.realtime.communication.shared.util.CompactUuidSet;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Caffeine-backed implementation of the ConversationMembership port.
+ * Participant sets are cached per conversation as compact sorted UUID arrays, bounded by total
+ * member count and expired after a TTL. Once a transaction that saved or deleted the conversation
+ * commits, the entry is invalidated locally and the conversation id is published on a Redis
+ * channel that every node listens to, so other nodes drop their entry too. The TTL only bounds
+ * staleness when that message is lost (a failed publish, or a node reconnecting to Redis).
+ */
+@Component
+class CachedConversationMembership implements ConversationMembership, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachedConversationMembership.class);
+    static final String INVALIDATION_CHANNEL = "chat:membership-changed";
+    private static final String LOAD_SQL = "SELECT p.user_id FROM conversations c "
+        + "LEFT JOIN conversation_participants p ON p.conversation_id = c.id WHERE c.id = ?";
+    private static final String METRIC_REQUESTS = "chat.membership.cache.requests";
+    private static final String METRIC_EVICTIONS = "chat.membership.cache.evictions";
+    private static final String METRIC_PUBLISH_FAILURES = "chat.membership.invalidation.publish.failed";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MetricsCollector metricsCollector;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Cache<UUID, CompactUuidSet> cache;
+
+    CachedConversationMembership(JdbcTemplate jdbcTemplate,
+                                 MetricsCollector metricsCollector,
+                                 StringRedisTemplate redisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 @Value("${app.chat.membership-cache.max-members:1000000}") long maxMembers,
+                                 @Value("${app.chat.membership-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.metricsCollector = metricsCollector;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxMembers)
+            .weigher((UUID conversationId, CompactUuidSet members) -> members.size() + 1)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .removalListener((UUID conversationId, CompactUuidSet members, RemovalCause cause) -> {
+                if (cause.wasEvicted()) {
+                    metricsCollector.incrementCounter(METRIC_EVICTIONS, "cause", cause.name());
+                }
+            })
+            .build();
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public boolean isMember(ConversationId conversationId, UserId userId) {
+        return membersOf(conversationId.getValue()).contains(userId.getValue());
+    }
+
+    @Override
+    public List<UserId> participantsOf(ConversationId conversationId) {
+        CompactUuidSet members = membersOf(conversationId.getValue());
+        List<UserId> participants = new ArrayList<>(members.size());
+        members.forEach(userId -> participants.add(new UserId(userId)));
+        return participants;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onParticipantsChanged(ConversationParticipantsChangedEvent event) {
+        UUID conversationId = event.getConversationId().getValue();
+        cache.invalidate(conversationId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, conversationId.toString());
+        } catch (DataAccessException e) {
+            // Other nodes then keep their entry until it expires
+            logger.warn("Failed to publish membership invalidation for conversation {}", conversationId, e);
+            metricsCollector.incrementCounter(METRIC_PUBLISH_FAILURES);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            cache.invalidate(UUID.fromString(body));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Ignoring malformed membership invalidation message: {}", body);
+        }
+    }
+
+    private CompactUuidSet membersOf(UUID conversationId) {
+        CompactUuidSet members = cache.getIfPresent(conversationId);
+        if (members != null) {
+            metricsCollector.incrementCounter(METRIC_REQUESTS, "result", "hit");
+            return members;
+        }
+        metricsCollector.incrementCounter(METRIC_REQUESTS, "result", "miss");
+
+        // A null load (unknown conversation) is not cached
+        members = cache.get(conversationId, this::load);
+        if (members == null) {
+            throw new NotFoundException("Conversation not found");
+        }
+        return members;
+    }
+
+    private CompactUuidSet load(UUID conversationId) {
+        return jdbcTemplate.query(LOAD_SQL, rs -> {
+            if (!rs.next()) {
+                return null;
+            }
+            List<UUID> userIds = new ArrayList<>();
+            do {
+                UUID userId = rs.getObject(1, UUID.class);
+                if (userId != null) {
+                    userIds.add(userId);
+                }
+            } while (rs.next());
+            return CompactUuidSet.of(userIds);
+        }, conversationId);
+    }
+}
@@ -0,0 +1,87 @@
+package com.realtime.communication.chat.adapter.out.persistence;
+
+import com.realtime.communication.chat.application.port.ConversationActivityTracker;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalescing implementation of the ConversationActivityTracker port.
+ * Keeps only the latest timestamp per conversation in memory and writes them all with one
+ * batched UPDATE per interval. Only last_message_at is touched, never the participant rows,
+ * and GREATEST keeps the column monotonic if flushes from several nodes interleave.
+ */
+@Component
+class CoalescingConversationActivityTracker implements ConversationActivityTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingConversationActivityTracker.class);
+    private static final String UPDATE_SQL =
+        "UPDATE conversations SET last_message_at = GREATEST(last_message_at, ?) WHERE id = ?";
+
+    private final Map<UUID, Instant> latest = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final Timer flushTimer;
+
+    CoalescingConversationActivityTracker(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("chat.conversation_activity.pending", latest, Map::size)
+            .description("Conversations with an unflushed last message time")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.conversation_activity.flush")
+            .description("Time taken to flush coalesced last message times")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void recordActivity(ConversationId conversationId, Instant lastMessageAt) {
+        latest.merge(conversationId.getValue(), lastMessageAt, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.activity.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (latest.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<UUID, Instant>> batch = new ArrayList<>(latest.size());
+        for (UUID conversationId : latest.keySet()) {
+            Instant lastMessageAt = latest.remove(conversationId);
+            if (lastMessageAt != null) {
+                batch.add(Map.entry(conversationId, lastMessageAt));
+            }
+        }
+        // Fixed row order so concurrent flushes from other nodes cannot deadlock
+        batch.sort(Map.Entry.comparingByKey());
+
+        try {
+            flushTimer.record(() -> jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, entry) -> {
+                ps.setObject(1, LocalDateTime.ofInstant(entry.getValue(), ZoneOffset.UTC));
+                ps.setObject(2, entry.getKey());
+            }));
+        } catch (DataAccessException e) {
+            logger.error("Failed to flush last message time for {} conversations, will retry", batch.size(), e);
+            batch.forEach(entry -> recordActivity(new ConversationId(entry.getKey()), entry.getValue()));
+        }
+    }
+
+    @PreDestroy
+    void drain() {
+        flush();
+    }
+}
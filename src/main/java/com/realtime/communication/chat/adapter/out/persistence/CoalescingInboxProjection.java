@@ -0,0 +1,140 @@
+package com.realtime.communication.chat.adapter.out.persistence;
+
+import com.realtime.communication.chat.application.port.InboxProjection;
+import com.realtime.communication.chat.domain.event.ConversationParticipantsChangedEvent;
+import com.realtime.communication.chat.domain.model.Message;
+import com.realtime.communication.chat.domain.model.MessageCursor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalescing implementation of the InboxProjection port over the user_inbox table.
+ * Keeps only the latest message per conversation in memory and writes them with one batched
+ * UPDATE per interval, each touching the rows of every participant of one conversation. The
+ * (last_message_at, last_message_id) guard keeps rows monotonic if flushes from several nodes
+ * interleave. Participants' rows are added and removed after a conversation's participants
+ * changed, with the conversation's current last message.
+ */
+@Component
+class CoalescingInboxProjection implements InboxProjection {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingInboxProjection.class);
+    private static final String UPDATE_SQL = "UPDATE user_inbox SET last_message_id = ?, "
+        + "last_message_sender_id = ?, last_message_preview = ?, last_message_type = ?, last_message_at = ? "
+        + "WHERE conversation_id = ? AND (last_message_at, last_message_id) < (?, ?)";
+    private static final String ADD_PARTICIPANTS_SQL = "INSERT INTO user_inbox (user_id, conversation_id, "
+        + "conversation_type, last_message_id, last_message_sender_id, last_message_preview, last_message_type, "
+        + "last_message_at) "
+        + "SELECT p.user_id, c.id, c.type, COALESCE(m.id, '00000000-0000-0000-0000-000000000000'), m.sender_id, "
+        + "left(m.content, ?), m.type, COALESCE(m.sent_at, c.created_at) "
+        + "FROM conversations c JOIN conversation_participants p ON p.conversation_id = c.id "
+        + "LEFT JOIN LATERAL (SELECT id, sender_id, content, type, sent_at FROM messages "
+        + "WHERE conversation_id = c.id AND NOT deleted ORDER BY sent_at DESC, id DESC LIMIT 1) m ON TRUE "
+        + "WHERE c.id = ? "
+        + "ON CONFLICT (user_id, conversation_id) DO NOTHING";
+    private static final String REMOVE_PARTICIPANTS_SQL = "DELETE FROM user_inbox i WHERE i.conversation_id = ? "
+        + "AND NOT EXISTS (SELECT 1 FROM conversation_participants p "
+        + "WHERE p.conversation_id = i.conversation_id AND p.user_id = i.user_id)";
+
+    private final Map<UUID, Message> latest = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final int previewLength;
+    private final Timer flushTimer;
+
+    CoalescingInboxProjection(JdbcTemplate jdbcTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.chat.inbox.preview-length:100}") int previewLength) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.previewLength = previewLength;
+        Gauge.builder("chat.inbox.pending", latest, Map::size)
+            .description("Conversations with a last message not yet written to the inbox projection")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.inbox.flush")
+            .description("Time taken to flush coalesced last messages to the inbox projection")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void recordMessage(Message message) {
+        latest.merge(message.getConversationId().getValue(), message, CoalescingInboxProjection::later);
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.inbox.flush-interval-ms:250}")
+    public synchronized void flush() {
+        if (latest.isEmpty()) {
+            return;
+        }
+        List<Message> batch = new ArrayList<>(latest.size());
+        for (UUID conversationId : latest.keySet()) {
+            Message message = latest.remove(conversationId);
+            if (message != null) {
+                batch.add(message);
+            }
+        }
+        // Fixed row order so concurrent flushes from other nodes cannot deadlock
+        batch.sort((a, b) -> a.getConversationId().getValue().compareTo(b.getConversationId().getValue()));
+
+        try {
+            flushTimer.record(() -> jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, message) -> {
+                // Timestamps are stored as UTC wall-clock values
+                LocalDateTime sentAt = LocalDateTime.ofInstant(message.getSentAt(), ZoneOffset.UTC);
+                ps.setObject(1, message.getId().getValue());
+                ps.setObject(2, message.getSenderId().getValue());
+                ps.setString(3, preview(message.getContent()));
+                ps.setString(4, message.getType().name());
+                ps.setObject(5, sentAt);
+                ps.setObject(6, message.getConversationId().getValue());
+                ps.setObject(7, sentAt);
+                ps.setObject(8, message.getId().getValue());
+            }));
+        } catch (DataAccessException e) {
+            logger.error("Failed to flush last messages of {} conversations to inboxes, will retry", batch.size(), e);
+            batch.forEach(this::recordMessage);
+        }
+    }
+
+    @PreDestroy
+    void drain() {
+        flush();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onParticipantsChanged(ConversationParticipantsChangedEvent event) {
+        UUID conversationId = event.getConversationId().getValue();
+        try {
+            jdbcTemplate.update(REMOVE_PARTICIPANTS_SQL, conversationId);
+            jdbcTemplate.update(ADD_PARTICIPANTS_SQL, previewLength, conversationId);
+        } catch (DataAccessException e) {
+            logger.error("Failed to sync inbox rows of conversation {}", conversationId, e);
+        }
+    }
+
+    private String preview(String content) {
+        if (content.codePointCount(0, content.length()) <= previewLength) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, previewLength));
+    }
+
+    private static Message later(Message a, Message b) {
+        return MessageCursor.of(b).isAfter(MessageCursor.of(a)) ? b : a;
+    }
+}
@@ -0,0 +1,255 @@
+package com.realtime.communication.chat.adapter.out.persistence;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.port.MessageEventOutbox;
+import com.realtime.communication.chat.application.port.ReceiptWatermarkTracker;
+import com.realtime.communication.chat.application.port.UnreadCounters;
+import com.realtime.communication.chat.domain.event.MessageReadEvent;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.MessageCursor;
+import com.realtime.communication.chat.domain.model.MessageId;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Coalescing implementation of the ReceiptWatermarkTracker port.
+ * Keeps only the furthest delivered and read position per (conversation, user) in memory and writes
+ * them all with one multi-row upsert per interval, so a client reporting every message it scrolls
+ * past costs one row write. The upsert only moves positions forward, which keeps watermarks monotonic
+ * when flushes from several nodes interleave, and skips users that are no longer participants.
+ * A MessageReadEvent is recorded in the same transaction for every read watermark that advanced,
+ * and once it commits the reader's unread counter is set to the (capped) number of messages after
+ * the new watermark, counted by the same statement.
+ */
+@Component
+class CoalescingReceiptWatermarkTracker implements ReceiptWatermarkTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoalescingReceiptWatermarkTracker.class);
+    private static final String NIL_UUID = "00000000-0000-0000-0000-000000000000";
+    private static final String DELIVERED_ADVANCES =
+        "(EXCLUDED.delivered_sent_at, EXCLUDED.delivered_message_id) > (s.delivered_sent_at, s.delivered_message_id)";
+    private static final String READ_ADVANCES =
+        "(EXCLUDED.read_sent_at, EXCLUDED.read_message_id) > (s.read_sent_at, s.read_message_id)";
+    // Rows are inserted in key order so concurrent flushes from other nodes cannot deadlock
+    private static final String UPSERT_SQL = "WITH advanced AS ("
+        + "INSERT INTO conversation_read_state AS s (conversation_id, user_id, "
+        + "delivered_sent_at, delivered_message_id, read_sent_at, read_message_id, updated_at) "
+        + "SELECT u.conversation_id, u.user_id, "
+        + "COALESCE(u.delivered_sent_at, '-infinity'), COALESCE(u.delivered_message_id, '" + NIL_UUID + "'), "
+        + "COALESCE(u.read_sent_at, '-infinity'), COALESCE(u.read_message_id, '" + NIL_UUID + "'), "
+        + "now() AT TIME ZONE 'UTC' "
+        + "FROM unnest(?::uuid[], ?::uuid[], ?::timestamp[], ?::uuid[], ?::timestamp[], ?::uuid[]) "
+        + "AS u(conversation_id, user_id, delivered_sent_at, delivered_message_id, read_sent_at, read_message_id) "
+        + "JOIN conversation_participants p ON p.conversation_id = u.conversation_id AND p.user_id = u.user_id "
+        + "ORDER BY u.conversation_id, u.user_id "
+        + "ON CONFLICT (conversation_id, user_id) DO UPDATE SET "
+        + "delivered_sent_at = CASE WHEN " + DELIVERED_ADVANCES
+        + " THEN EXCLUDED.delivered_sent_at ELSE s.delivered_sent_at END, "
+        + "delivered_message_id = CASE WHEN " + DELIVERED_ADVANCES
+        + " THEN EXCLUDED.delivered_message_id ELSE s.delivered_message_id END, "
+        + "read_sent_at = CASE WHEN " + READ_ADVANCES + " THEN EXCLUDED.read_sent_at ELSE s.read_sent_at END, "
+        + "read_message_id = CASE WHEN " + READ_ADVANCES + " THEN EXCLUDED.read_message_id ELSE s.read_message_id END, "
+        + "updated_at = EXCLUDED.updated_at "
+        + "WHERE " + DELIVERED_ADVANCES + " OR " + READ_ADVANCES + " "
+        + "RETURNING conversation_id, user_id, read_sent_at, read_message_id) "
+        + "SELECT a.conversation_id, a.user_id, a.read_message_id, "
+        + "(SELECT count(*) FROM (SELECT 1 FROM messages m WHERE m.conversation_id = a.conversation_id "
+        + "AND (m.sent_at, m.id) > (a.read_sent_at, a.read_message_id) "
+        + "AND m.sender_id <> a.user_id AND NOT m.deleted LIMIT ?) unread) AS unread "
+        + "FROM advanced a";
+
+    private final Map<ReceiptKey, Watermarks> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MessageEventOutbox messageEventOutbox;
+    private final UnreadCounters unreadCounters;
+    private final int unreadCountCap;
+    private final Clock clock = Clock.systemUTC();
+    private final Timer flushTimer;
+
+    CoalescingReceiptWatermarkTracker(JdbcTemplate jdbcTemplate,
+                                      PlatformTransactionManager transactionManager,
+                                      MessageEventOutbox messageEventOutbox,
+                                      UnreadCounters unreadCounters,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${app.chat.receipts.unread-count-cap:100}") int unreadCountCap) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.messageEventOutbox = messageEventOutbox;
+        this.unreadCounters = unreadCounters;
+        this.unreadCountCap = unreadCountCap;
+        Gauge.builder("chat.receipts.pending", pending, Map::size)
+            .description("Participants with unflushed delivery or read watermarks")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.receipts.flush")
+            .description("Time taken to flush coalesced delivery and read watermarks")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void recordDelivered(ConversationId conversationId, UserId userId, MessageCursor position) {
+        merge(new ReceiptKey(conversationId.getValue(), userId.getValue()), new Watermarks(position, null, null));
+    }
+
+    @Override
+    public void recordRead(ConversationId conversationId, UserId userId, MessageCursor position) {
+        merge(new ReceiptKey(conversationId.getValue(), userId.getValue()),
+            new Watermarks(position, position, clock.instant()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.receipts.flush-interval-ms:500}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<ReceiptKey, Watermarks>> batch = new ArrayList<>(pending.size());
+        for (ReceiptKey key : pending.keySet()) {
+            Watermarks watermarks = pending.remove(key);
+            if (watermarks != null) {
+                batch.add(Map.entry(key, watermarks));
+            }
+        }
+
+        List<ReadAdvance> advanced;
+        try {
+            advanced = flushTimer.record(() -> transactionTemplate.execute(status -> write(batch)));
+        } catch (DataAccessException e) {
+            logger.error("Failed to flush watermarks of {} participants, will retry", batch.size(), e);
+            batch.forEach(entry -> merge(entry.getKey(), entry.getValue()));
+            return;
+        }
+        resetUnreadCounters(advanced);
+    }
+
+    @PreDestroy
+    void drain() {
+        flush();
+    }
+
+    /**
+     * Upserts the batch and returns the read watermarks that advanced.
+     */
+    private List<ReadAdvance> write(List<Map.Entry<ReceiptKey, Watermarks>> batch) {
+        List<ReadAdvance> advanced = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UPSERT_SQL);
+            ps.setArray(1, uuids(connection, batch, entry -> entry.getKey().conversationId()));
+            ps.setArray(2, uuids(connection, batch, entry -> entry.getKey().userId()));
+            ps.setArray(3, timestamps(connection, batch, entry -> entry.getValue().delivered()));
+            ps.setArray(4, uuids(connection, batch, entry -> messageIdOf(entry.getValue().delivered())));
+            ps.setArray(5, timestamps(connection, batch, entry -> entry.getValue().read()));
+            ps.setArray(6, uuids(connection, batch, entry -> messageIdOf(entry.getValue().read())));
+            ps.setInt(7, unreadCountCap);
+            return ps;
+        }, (rs, rowNum) -> new ReadAdvance(
+            new ReceiptKey(rs.getObject("conversation_id", UUID.class), rs.getObject("user_id", UUID.class)),
+            rs.getObject("read_message_id", UUID.class),
+            rs.getLong("unread")));
+
+        // Rows come back when either watermark advanced; the read one did if it is the flushed position
+        Map<ReceiptKey, Watermarks> flushed = new HashMap<>(batch.size());
+        batch.forEach(entry -> flushed.put(entry.getKey(), entry.getValue()));
+        List<ReadAdvance> reads = advanced.stream()
+            .filter(row -> {
+                MessageCursor read = flushed.get(row.key()).read();
+                return read != null && read.getMessageId().equals(row.readMessageId());
+            })
+            .toList();
+        messageEventOutbox.append(reads.stream()
+            .map(row -> new MessageReadEvent(new MessageId(row.readMessageId()),
+                new ConversationId(row.key().conversationId()), new UserId(row.key().userId()),
+                flushed.get(row.key()).readAt()))
+            .toList());
+        return reads;
+    }
+
+    private void resetUnreadCounters(List<ReadAdvance> reads) {
+        try {
+            reads.forEach(row -> unreadCounters.reset(new UserId(row.key().userId()),
+                new ConversationId(row.key().conversationId()), row.unread()));
+        } catch (DataAccessException e) {
+            logger.warn("Failed to reset unread counters after {} read receipts; reconciliation will repair them",
+                reads.size(), e);
+        }
+    }
+
+    private void merge(ReceiptKey key, Watermarks watermarks) {
+        pending.merge(key, watermarks, Watermarks::furthest);
+    }
+
+    private static UUID messageIdOf(MessageCursor position) {
+        return position == null ? null : position.getMessageId();
+    }
+
+    private static Array uuids(Connection connection, List<Map.Entry<ReceiptKey, Watermarks>> batch,
+                               Function<Map.Entry<ReceiptKey, Watermarks>, UUID> field) throws SQLException {
+        return connection.createArrayOf("uuid", batch.stream().map(field).toArray(UUID[]::new));
+    }
+
+    // Timestamps are stored as UTC wall-clock values
+    private static Array timestamps(Connection connection, List<Map.Entry<ReceiptKey, Watermarks>> batch,
+                                    Function<Map.Entry<ReceiptKey, Watermarks>, MessageCursor> field)
+            throws SQLException {
+        Timestamp[] values = batch.stream()
+            .map(field)
+            .map(position -> position == null
+                ? null
+                : Timestamp.valueOf(LocalDateTime.ofInstant(position.getSentAt(), ZoneOffset.UTC)))
+            .toArray(Timestamp[]::new);
+        return connection.createArrayOf("timestamp", values);
+    }
+
+    private record ReceiptKey(UUID conversationId, UUID userId) {
+    }
+
+    private record ReadAdvance(ReceiptKey key, UUID readMessageId, long unread) {
+    }
+
+    /**
+     * Furthest known positions; a null position means nothing was recorded.
+     */
+    private record Watermarks(MessageCursor delivered, MessageCursor read, Instant readAt) {
+
+        Watermarks furthest(Watermarks other) {
+            boolean otherReadFurther = other.read != null && (read == null || other.read.isAfter(read));
+            return new Watermarks(
+                later(delivered, other.delivered),
+                otherReadFurther ? other.read : read,
+                otherReadFurther ? other.readAt : readAt);
+        }
+
+        private static MessageCursor later(MessageCursor a, MessageCursor b) {
+            if (a == null) {
+                return b;
+            }
+            return b != null && b.isAfter(a) ? b : a;
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.realtime.communication.chat.adapter.out.persistence;
 
+import com.realtime.communication.shared.infrastructure.persistence.AssignedIdEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.Instant;
 import java.util.HashSet;
@@ -10,13 +13,15 @@ import java.util.Set;
 import java.util.UUID;
 
 /**
- * JPA Entity for Conversation
+ * JPA Entity for Conversation.
+ * Updates write only the changed columns.
  */
 @Entity
 @Table(name = "conversations")
+@DynamicUpdate
 @Getter
 @Setter
-public class ConversationJpaEntity {
+public class ConversationJpaEntity extends AssignedIdEntity {
 
     @Id
     private UUID id;
@@ -24,7 +29,9 @@ public class ConversationJpaEntity {
     @Column(nullable = false, length = 20)
     private String type;
 
+    // Queries fetch-join participants; lazy loads elsewhere are batched instead of one query per conversation
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "conversation_participants",
                     joinColumns = @JoinColumn(name = "conversation_id"))
     @Column(name = "user_id")
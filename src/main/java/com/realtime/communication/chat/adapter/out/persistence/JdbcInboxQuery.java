@@ -0,0 +1,69 @@
+package com.realtime.communication.chat.adapter.out.persistence;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.port.InboxQuery;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.ConversationType;
+import com.realtime.communication.chat.domain.model.InboxCursor;
+import com.realtime.communication.chat.domain.model.MessageId;
+import com.realtime.communication.chat.domain.model.MessageType;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of the InboxQuery port.
+ * Pages are read from idx_user_inbox_recent; one row more than the limit is fetched to tell
+ * whether there is a next slice, so nothing is counted.
+ */
+@Component
+class JdbcInboxQuery implements InboxQuery {
+
+    private static final UUID NIL_UUID = new UUID(0, 0);
+    private static final String COLUMNS = "SELECT conversation_id, conversation_type, last_message_id, "
+        + "last_message_sender_id, last_message_preview, last_message_type, last_message_at FROM user_inbox ";
+    private static final String FIRST_SQL = COLUMNS
+        + "WHERE user_id = ? ORDER BY last_message_at DESC, conversation_id DESC LIMIT ?";
+    private static final String BEFORE_SQL = COLUMNS
+        + "WHERE user_id = ? AND (last_message_at, conversation_id) < (?, ?) "
+        + "ORDER BY last_message_at DESC, conversation_id DESC LIMIT ?";
+
+    // Timestamps are stored as UTC wall-clock values
+    private static final RowMapper<InboxEntry> ROW_MAPPER = (rs, rowNum) -> {
+        UUID lastMessageId = rs.getObject("last_message_id", UUID.class);
+        boolean hasMessage = !NIL_UUID.equals(lastMessageId);
+        return new InboxEntry(
+            new ConversationId(rs.getObject("conversation_id", UUID.class)),
+            ConversationType.valueOf(rs.getString("conversation_type")),
+            hasMessage ? new MessageId(lastMessageId) : null,
+            hasMessage ? new UserId(rs.getObject("last_message_sender_id", UUID.class)) : null,
+            hasMessage ? rs.getString("last_message_preview") : null,
+            hasMessage ? MessageType.valueOf(rs.getString("last_message_type")) : null,
+            rs.getObject("last_message_at", LocalDateTime.class).toInstant(ZoneOffset.UTC));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    JdbcInboxQuery(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Slice<InboxEntry> findBefore(UserId userId, InboxCursor before, int limit) {
+        List<InboxEntry> entries = before == null
+            ? jdbcTemplate.query(FIRST_SQL, ROW_MAPPER, userId.getValue(), limit + 1)
+            : jdbcTemplate.query(BEFORE_SQL, ROW_MAPPER, userId.getValue(),
+                LocalDateTime.ofInstant(before.getLastMessageAt(), ZoneOffset.UTC), before.getConversationId(),
+                limit + 1);
+        boolean hasNext = entries.size() > limit;
+        return new SliceImpl<>(hasNext ? entries.subList(0, limit) : entries, PageRequest.ofSize(limit), hasNext);
+    }
+}
@@ -0,0 +1,58 @@
+package com.realtime.communication.chat.adapter.out.persistence;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.port.UnreadCountQuery;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of the UnreadCountQuery port.
+ * Counts the messages after each read watermark with a capped keyset range scan of
+ * idx_messages_conversation_keyset, so the cost per conversation is bounded by the cap
+ * no matter how long the history is.
+ */
+@Component
+class JdbcUnreadCountQuery implements UnreadCountQuery {
+
+    private static final String UNREAD_SQL = "SELECT user_id, conversation_id, unread FROM ("
+        + "SELECT p.user_id, p.conversation_id, "
+        + "(SELECT count(*) FROM (SELECT 1 FROM messages m WHERE m.conversation_id = p.conversation_id "
+        + "AND (m.sent_at, m.id) > (COALESCE(r.read_sent_at, '-infinity'), "
+        + "COALESCE(r.read_message_id, '00000000-0000-0000-0000-000000000000')) "
+        + "AND m.sender_id <> p.user_id AND NOT m.deleted LIMIT ?) unread) AS unread "
+        + "FROM conversation_participants p "
+        + "LEFT JOIN conversation_read_state r ON r.conversation_id = p.conversation_id AND r.user_id = p.user_id "
+        + "WHERE p.user_id = ANY (?)) counts "
+        + "WHERE unread > 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    JdbcUnreadCountQuery(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<UserId, Map<ConversationId, Long>> unreadCounts(Collection<UserId> userIds, int cap) {
+        Map<UserId, Map<ConversationId, Long>> counts = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return counts;
+        }
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(UNREAD_SQL);
+            ps.setInt(1, cap);
+            ps.setArray(2, connection.createArrayOf("uuid", userIds.stream().map(UserId::getValue).toArray()));
+            return ps;
+        }, rs -> {
+            counts.computeIfAbsent(new UserId(rs.getObject("user_id", UUID.class)), id -> new HashMap<>())
+                .put(new ConversationId(rs.getObject("conversation_id", UUID.class)), rs.getLong("unread"));
+        });
+        return counts;
+    }
+}
@@ -2,14 +2,19 @@ package com.realtime.communication.chat.adapter.out.persistence;
 
 import com.realtime.communication.auth.domain.model.UserId;
 import com.realtime.communication.chat.application.port.ConversationRepository;
+import com.realtime.communication.chat.domain.event.ConversationParticipantsChangedEvent;
 import com.realtime.communication.chat.domain.model.Conversation;
 import com.realtime.communication.chat.domain.model.ConversationId;
 import com.realtime.communication.chat.domain.model.ConversationType;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -18,32 +23,59 @@ import java.util.stream.Collectors;
  * Spring Data JPA repository interface for Conversation
  */
 interface JpaConversationRepositoryInterface extends JpaRepository<ConversationJpaEntity, UUID> {
-    @Query("SELECT c FROM ConversationJpaEntity c JOIN c.participantIds p WHERE p = :userId")
+    // Participants are fetched in the same query; the subquery picks the user's conversations
+    @Query("SELECT c FROM ConversationJpaEntity c LEFT JOIN FETCH c.participantIds "
+        + "WHERE c.id IN (SELECT m.id FROM ConversationJpaEntity m JOIN m.participantIds p WHERE p = :userId)")
     List<ConversationJpaEntity> findByParticipantId(UUID userId);
+
+    @Query("SELECT c FROM ConversationJpaEntity c LEFT JOIN FETCH c.participantIds WHERE c.id = :id")
+    Optional<ConversationJpaEntity> findWithParticipantsById(UUID id);
 }
 
 /**
- * JPA implementation of ConversationRepository
+ * JPA implementation of ConversationRepository.
+ * Conversations are always loaded together with their participants in one query. Saving an
+ * existing conversation updates its managed entity in place, so only added or removed
+ * participants are written instead of every conversation_participants row being recreated.
+ * Entities built from domain conversations are new (see AssignedIdEntity), so inserting one
+ * needs no lookup.
  */
 @Repository
 class JpaConversationRepositoryImpl implements ConversationRepository {
 
     private final JpaConversationRepositoryInterface jpaRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
-    public JpaConversationRepositoryImpl(JpaConversationRepositoryInterface jpaRepository) {
+    public JpaConversationRepositoryImpl(JpaConversationRepositoryInterface jpaRepository,
+                                         ApplicationEventPublisher applicationEventPublisher) {
         this.jpaRepository = jpaRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public Conversation insert(Conversation conversation) {
+        jpaRepository.save(toEntity(conversation));
+        applicationEventPublisher.publishEvent(new ConversationParticipantsChangedEvent(conversation.getId()));
+        return conversation;
     }
 
     @Override
+    @Transactional
     public Conversation save(Conversation conversation) {
-        ConversationJpaEntity entity = toEntity(conversation);
-        jpaRepository.save(entity);
+        Optional<ConversationJpaEntity> existing =
+            jpaRepository.findWithParticipantsById(conversation.getId().getValue());
+        if (existing.isPresent()) {
+            update(existing.get(), conversation);
+        } else {
+            jpaRepository.save(toEntity(conversation));
+        }
+        applicationEventPublisher.publishEvent(new ConversationParticipantsChangedEvent(conversation.getId()));
         return conversation;
     }
 
     @Override
-    public java.util.Optional<Conversation> findById(ConversationId conversationId) {
-        return jpaRepository.findById(conversationId.getValue()).map(this::toDomain);
+    public Optional<Conversation> findById(ConversationId conversationId) {
+        return jpaRepository.findWithParticipantsById(conversationId.getValue()).map(this::toDomain);
     }
 
     @Override
@@ -56,6 +88,24 @@ class JpaConversationRepositoryImpl implements ConversationRepository {
     @Override
     public void delete(ConversationId conversationId) {
         jpaRepository.deleteById(conversationId.getValue());
+        applicationEventPublisher.publishEvent(new ConversationParticipantsChangedEvent(conversationId));
+    }
+
+    /**
+     * Diffs the participants against the managed entity. last_message_at is maintained by the
+     * activity tracker, so it is only ever moved forward here.
+     */
+    private void update(ConversationJpaEntity entity, Conversation conversation) {
+        Set<UUID> participantIds = conversation.getParticipants().stream()
+            .map(UserId::getValue)
+            .collect(Collectors.toSet());
+        entity.getParticipantIds().retainAll(participantIds);
+        entity.getParticipantIds().addAll(participantIds);
+        Instant lastMessageAt = conversation.getLastMessageAt();
+        Instant stored = entity.getLastMessageAt();
+        if (lastMessageAt != null && (stored == null || lastMessageAt.isAfter(stored))) {
+            entity.setLastMessageAt(lastMessageAt);
+        }
     }
 
     private ConversationJpaEntity toEntity(Conversation conversation) {
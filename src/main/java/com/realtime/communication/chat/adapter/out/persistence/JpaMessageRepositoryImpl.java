@@ -4,10 +4,23 @@ import com.realtime.communication.auth.domain.model.UserId;
 import com.realtime.communication.chat.application.port.MessageRepository;
 import com.realtime.communication.chat.domain.model.*;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,24 +29,87 @@ import java.util.UUID;
  */
 interface JpaMessageRepositoryInterface extends JpaRepository<MessageJpaEntity, UUID> {
     Page<MessageJpaEntity> findByConversationId(UUID conversationId, Pageable pageable);
+
+    // Keyset queries below are served by idx_messages_conversation_keyset; returning a Slice skips the COUNT.
+    // sentAt is bound as a UTC LocalDateTime: an Instant would be shifted by the session time zone
+    @Query(value = "SELECT * FROM messages WHERE conversation_id = :conversationId "
+            + "ORDER BY sent_at DESC, id DESC",
+        nativeQuery = true)
+    Slice<MessageJpaEntity> findLatest(UUID conversationId, Pageable pageable);
+
+    @Query(value = "SELECT * FROM messages WHERE conversation_id = :conversationId "
+            + "AND (sent_at, id) < (:sentAt, :id) "
+            + "ORDER BY sent_at DESC, id DESC",
+        nativeQuery = true)
+    Slice<MessageJpaEntity> findBefore(UUID conversationId, LocalDateTime sentAt, UUID id, Pageable pageable);
+
+    @Query(value = "SELECT * FROM messages WHERE conversation_id = :conversationId "
+            + "AND (sent_at, id) > (:sentAt, :id) "
+            + "ORDER BY sent_at ASC, id ASC",
+        nativeQuery = true)
+    Slice<MessageJpaEntity> findAfter(UUID conversationId, LocalDateTime sentAt, UUID id, Pageable pageable);
 }
 
 /**
- * JPA implementation of MessageRepository
+ * JPA implementation of MessageRepository.
+ * Entities built from domain messages are new (see AssignedIdEntity), so inserting is a single
+ * INSERT; saving an existing message loads it and lets dirty checking write the changed columns.
  */
 @Repository
 class JpaMessageRepositoryImpl implements MessageRepository {
 
+    // Delivery to a recipient is tracked by their delivered watermark in conversation_read_state; the
+    // message status only records the first delivery, so later recipients of a group message still count
+    private static final String MARK_DELIVERED_SQL = "WITH acknowledged AS ("
+        + "SELECT m.id, m.conversation_id, m.sender_id, m.content, m.type, m.status, m.sent_at, m.delivered_at, "
+        + "m.read_at, m.edited, m.edited_at FROM messages m "
+        + "JOIN conversation_participants p ON p.conversation_id = m.conversation_id AND p.user_id = ? "
+        + "LEFT JOIN conversation_read_state s ON s.conversation_id = m.conversation_id AND s.user_id = p.user_id "
+        + "WHERE m.id = ANY (?) AND m.sender_id <> ? "
+        + "AND (s.user_id IS NULL OR (m.sent_at, m.id) > (s.delivered_sent_at, s.delivered_message_id))), "
+        + "first_delivery AS (UPDATE messages m SET status = 'DELIVERED', delivered_at = ? "
+        + "FROM acknowledged a WHERE m.id = a.id AND m.status = 'SENT') "
+        + "SELECT id, conversation_id, sender_id, content, type, "
+        + "CASE WHEN status = 'SENT' THEN 'DELIVERED' ELSE status END AS status, sent_at, "
+        + "COALESCE(delivered_at, ?) AS delivered_at, read_at, edited, edited_at FROM acknowledged";
+
     private final JpaMessageRepositoryInterface jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final RowMapper<Message> messageRowMapper = (rs, rowNum) -> new Message(
+        new MessageId(rs.getObject("id", UUID.class)),
+        new ConversationId(rs.getObject("conversation_id", UUID.class)),
+        new UserId(rs.getObject("sender_id", UUID.class)),
+        rs.getString("content"),
+        MessageType.valueOf(rs.getString("type")),
+        MessageStatus.valueOf(rs.getString("status")),
+        null,
+        toInstant(rs.getTimestamp("sent_at")),
+        toInstant(rs.getTimestamp("delivered_at")),
+        toInstant(rs.getTimestamp("read_at")),
+        rs.getBoolean("edited"),
+        toInstant(rs.getTimestamp("edited_at"))
+    );
 
-    public JpaMessageRepositoryImpl(JpaMessageRepositoryInterface jpaRepository) {
+    public JpaMessageRepositoryImpl(JpaMessageRepositoryInterface jpaRepository, JdbcTemplate jdbcTemplate) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
+    public Message insert(Message message) {
+        jpaRepository.save(toEntity(message));
+        return message;
+    }
+
+    @Override
+    @Transactional
     public Message save(Message message) {
-        MessageJpaEntity entity = toEntity(message);
-        jpaRepository.save(entity);
+        Optional<MessageJpaEntity> existing = jpaRepository.findById(message.getId().getValue());
+        if (existing.isPresent()) {
+            update(existing.get(), message);
+        } else {
+            jpaRepository.save(toEntity(message));
+        }
         return message;
     }
 
@@ -42,17 +118,81 @@ class JpaMessageRepositoryImpl implements MessageRepository {
         return jpaRepository.findById(messageId.getValue()).map(this::toDomain);
     }
 
+    @Override
+    public List<Message> findAllById(Collection<MessageId> messageIds) {
+        List<UUID> ids = messageIds.stream().map(MessageId::getValue).toList();
+        return jpaRepository.findAllById(ids).stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public List<Message> markDelivered(Collection<MessageId> messageIds, UserId recipientId, Instant deliveredAt) {
+        if (messageIds.isEmpty()) {
+            return List.of();
+        }
+        UUID[] ids = messageIds.stream().map(MessageId::getValue).toArray(UUID[]::new);
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(MARK_DELIVERED_SQL);
+            ps.setObject(1, recipientId.getValue());
+            ps.setArray(2, connection.createArrayOf("uuid", ids));
+            ps.setObject(3, recipientId.getValue());
+            ps.setObject(4, utc(deliveredAt));
+            ps.setObject(5, utc(deliveredAt));
+            return ps;
+        }, messageRowMapper);
+    }
+
     @Override
     public Page<Message> findByConversationId(ConversationId conversationId, Pageable pageable) {
         return jpaRepository.findByConversationId(conversationId.getValue(), pageable)
             .map(this::toDomain);
     }
 
+    @Override
+    public Slice<Message> findLatest(ConversationId conversationId, int limit) {
+        return jpaRepository.findLatest(conversationId.getValue(), PageRequest.ofSize(limit))
+            .map(this::toDomain);
+    }
+
+    @Override
+    public Slice<Message> findBefore(ConversationId conversationId, MessageCursor cursor, int limit) {
+        return jpaRepository.findBefore(
+            conversationId.getValue(), utc(cursor.getSentAt()), cursor.getMessageId(), PageRequest.ofSize(limit)
+        ).map(this::toDomain);
+    }
+
+    @Override
+    public Slice<Message> findAfter(ConversationId conversationId, MessageCursor cursor, int limit) {
+        return jpaRepository.findAfter(
+            conversationId.getValue(), utc(cursor.getSentAt()), cursor.getMessageId(), PageRequest.ofSize(limit)
+        ).map(this::toDomain);
+    }
+
     @Override
     public void delete(MessageId messageId) {
         jpaRepository.deleteById(messageId.getValue());
     }
 
+    // Timestamps are stored as UTC wall-clock values
+    private static LocalDateTime utc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime().toInstant(ZoneOffset.UTC);
+    }
+
+    /**
+     * Copies the mutable fields onto the managed entity; unchanged values leave it clean.
+     */
+    private void update(MessageJpaEntity entity, Message message) {
+        entity.setContent(message.getContent());
+        entity.setStatus(message.getStatus().name());
+        entity.setDeliveredAt(message.getDeliveredAt());
+        entity.setReadAt(message.getReadAt());
+        entity.setEdited(message.isEdited());
+        entity.setEditedAt(message.getEditedAt());
+    }
+
     private MessageJpaEntity toEntity(Message message) {
         MessageJpaEntity entity = new MessageJpaEntity();
         entity.setId(message.getId().getValue());
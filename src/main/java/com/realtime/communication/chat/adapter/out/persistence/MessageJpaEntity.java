@@ -1,20 +1,24 @@
 package com.realtime.communication.chat.adapter.out.persistence;
 
+import com.realtime.communication.shared.infrastructure.persistence.AssignedIdEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.Instant;
 import java.util.UUID;
 
 /**
- * JPA Entity for Message
+ * JPA Entity for Message.
+ * Updates write only the changed columns.
  */
 @Entity
 @Table(name = "messages")
+@DynamicUpdate
 @Getter
 @Setter
-public class MessageJpaEntity {
+public class MessageJpaEntity extends AssignedIdEntity {
 
     @Id
     private UUID id;
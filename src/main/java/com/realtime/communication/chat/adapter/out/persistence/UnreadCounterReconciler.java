@@ -0,0 +1,142 @@
+package com.realtime.communication.chat.adapter.out.persistence;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.port.UnreadCountQuery;
+import com.realtime.communication.chat.application.port.UnreadCounters;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rebuilds the materialized unread counters from the messages table and the read watermarks.
+ * Participants are walked in user id order one chunk at a time; each chunk is counted with one
+ * query and written with one Redis call, and up to parallelism chunks run at once. Only one node
+ * reconciles at a time (an advisory lock held by the coordinating transaction). A message sent
+ * while its recipient's chunk is being rebuilt may be missed until the recipient's next read
+ * receipt or the next run.
+ */
+@Component
+class UnreadCounterReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(UnreadCounterReconciler.class);
+    private static final long RECONCILE_LOCK_ID = 0x756E72656164L;
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(?)";
+    private static final String USERS_SQL =
+        "SELECT DISTINCT user_id FROM conversation_participants WHERE user_id > ? ORDER BY user_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UnreadCountQuery unreadCountQuery;
+    private final UnreadCounters unreadCounters;
+    private final ExecutorService executor;
+    private final int parallelism;
+    private final int chunkSize;
+    private final int cap;
+    private final Timer reconcileTimer;
+
+    UnreadCounterReconciler(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            UnreadCountQuery unreadCountQuery,
+                            UnreadCounters unreadCounters,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.chat.unread.reconcile.parallelism:4}") int parallelism,
+                            @Value("${app.chat.unread.reconcile.chunk-size:500}") int chunkSize,
+                            @Value("${app.chat.receipts.unread-count-cap:100}") int cap) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.unreadCountQuery = unreadCountQuery;
+        this.unreadCounters = unreadCounters;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.cap = cap;
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "unread-reconciler-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.reconcileTimer = Timer.builder("chat.unread.reconcile")
+            .description("Time taken to rebuild all unread counters")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.chat.unread.reconcile.cron:0 30 3 * * *}")
+    public void reconcile() {
+        try {
+            Long reconciled = reconcileTimer.record(() -> transactionTemplate.execute(status -> reconcileAll()));
+            if (reconciled != null && reconciled >= 0) {
+                logger.info("Rebuilt unread counters of {} users", reconciled);
+            }
+        } catch (DataAccessException e) {
+            logger.error("Failed to reconcile unread counters, will retry on the next run", e);
+        }
+    }
+
+    @PreDestroy
+    void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    /**
+     * Returns the number of users whose counters were rebuilt, or -1 if another node holds the lock.
+     */
+    private long reconcileAll() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class, RECONCILE_LOCK_ID))) {
+            return -1;
+        }
+        AtomicLong reconciled = new AtomicLong();
+        Deque<CompletableFuture<Void>> inFlight = new ArrayDeque<>(parallelism);
+        UUID after = new UUID(0, 0);
+        List<UUID> chunk;
+        do {
+            chunk = jdbcTemplate.queryForList(USERS_SQL, UUID.class, after, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            after = chunk.get(chunk.size() - 1);
+            if (inFlight.size() == parallelism) {
+                inFlight.removeFirst().join();
+            }
+            List<UserId> userIds = chunk.stream().map(UserId::new).toList();
+            inFlight.addLast(CompletableFuture.runAsync(() -> reconciled.addAndGet(rebuild(userIds)), executor));
+        } while (chunk.size() == chunkSize);
+        inFlight.forEach(CompletableFuture::join);
+        return reconciled.get();
+    }
+
+    private int rebuild(List<UserId> userIds) {
+        try {
+            Map<UserId, Map<ConversationId, Long>> counts = new HashMap<>(unreadCountQuery.unreadCounts(userIds, cap));
+            // Users without unread messages get their stale counters cleared
+            userIds.forEach(userId -> counts.putIfAbsent(userId, Map.of()));
+            unreadCounters.replaceAll(counts);
+            return userIds.size();
+        } catch (DataAccessException e) {
+            logger.warn("Failed to rebuild unread counters of {} users from {}", userIds.size(),
+                userIds.get(0).getValue(), e);
+            return 0;
+        }
+    }
+}
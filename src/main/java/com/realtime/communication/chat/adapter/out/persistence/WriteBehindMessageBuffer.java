@@ -0,0 +1,182 @@
+package com.realtime.communication.chat.adapter.out.persistence;
+
+import com.realtime.communication.chat.application.port.InboxProjection;
+import com.realtime.communication.chat.application.port.MessageEventOutbox;
+import com.realtime.communication.chat.application.port.MessageWriteBuffer;
+import com.realtime.communication.chat.domain.event.MessageSentEvent;
+import com.realtime.communication.chat.domain.model.Message;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Write-behind implementation of the MessageWriteBuffer port.
+ * Messages are queued in a bounded ring buffer and group-committed to the messages table
+ * by a scheduled flusher using JDBC batch inserts. Inserts are idempotent on the message id,
+ * so a batch that failed transiently is simply retried on the next tick. MessageSentEvent is
+ * appended to the outbox in the same transaction for every row the batch actually inserted,
+ * and those rows are recorded in the inbox projection once the transaction has committed.
+ */
+@Component
+class WriteBehindMessageBuffer implements MessageWriteBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindMessageBuffer.class);
+    private static final String INSERT_SQL = "INSERT INTO messages "
+        + "(id, conversation_id, sender_id, content, type, status, sent_at, edited, deleted) "
+        + "VALUES (?, ?, ?, ?, ?, ?, ?, FALSE, FALSE) ON CONFLICT (id) DO NOTHING";
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final BlockingQueue<Message> queue;
+    private final List<Message> pending;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MessageEventOutbox messageEventOutbox;
+    private final InboxProjection inboxProjection;
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+
+    WriteBehindMessageBuffer(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             MessageEventOutbox messageEventOutbox,
+                             InboxProjection inboxProjection,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.chat.write-behind.enabled:false}") boolean enabled,
+                             @Value("${app.chat.write-behind.capacity:65536}") int capacity,
+                             @Value("${app.chat.write-behind.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.messageEventOutbox = messageEventOutbox;
+        this.inboxProjection = inboxProjection;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.pending = new ArrayList<>(batchSize);
+
+        Gauge.builder("chat.write_behind.queue.depth", queue, Collection::size)
+            .description("Messages accepted but not yet flushed")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("chat.write_behind.flush")
+            .description("Time taken to commit one batch of buffered messages")
+            .register(meterRegistry);
+        this.flushedCounter = Counter.builder("chat.write_behind.flushed")
+            .description("Messages committed by the write-behind flusher")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("chat.write_behind.rejected")
+            .description("Messages persisted synchronously because the buffer was full")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("chat.write_behind.dropped")
+            .description("Buffered messages discarded after a constraint violation")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean offer(Message message) {
+        if (!enabled) {
+            return false;
+        }
+        boolean accepted = queue.offer(message);
+        if (!accepted) {
+            rejectedCounter.increment();
+        }
+        return accepted;
+    }
+
+    @Scheduled(fixedDelayString = "${app.chat.write-behind.flush-interval-ms:50}")
+    public synchronized void flush() {
+        while (true) {
+            if (pending.isEmpty()) {
+                queue.drainTo(pending, batchSize);
+            }
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                List<Message> inserted = flushTimer.record(
+                    () -> transactionTemplate.execute(status -> insertBatch(pending)));
+                inserted.forEach(inboxProjection::recordMessage);
+            } catch (DataIntegrityViolationException e) {
+                logger.warn("Batch insert of {} messages violated a constraint, retrying row by row", pending.size());
+                insertIndividually(pending);
+            } catch (DataAccessException e) {
+                logger.error("Failed to flush {} buffered messages, will retry", pending.size(), e);
+                return;
+            }
+            flushedCounter.increment(pending.size());
+            pending.clear();
+        }
+    }
+
+    @PreDestroy
+    void drain() {
+        flush();
+        if (!pending.isEmpty() || !queue.isEmpty()) {
+            logger.error("Shutting down with {} unflushed messages", pending.size() + queue.size());
+        }
+    }
+
+    /**
+     * Inserts the batch and appends the events of the rows it inserted; returns those rows.
+     */
+    private List<Message> insertBatch(List<Message> messages) {
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), this::bind)[0];
+        // A count of 0 means the row already existed and its event was recorded with it
+        List<Message> inserted = new ArrayList<>(messages.size());
+        List<MessageSentEvent> events = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            if (counts[i] != 0) {
+                inserted.add(messages.get(i));
+                events.add(MessageSentEvent.of(messages.get(i)));
+            }
+        }
+        messageEventOutbox.append(events);
+        return inserted;
+    }
+
+    private void insertIndividually(List<Message> messages) {
+        for (Message message : messages) {
+            try {
+                transactionTemplate.execute(status -> insertBatch(List.of(message)))
+                    .forEach(inboxProjection::recordMessage);
+            } catch (DataIntegrityViolationException e) {
+                logger.error("Dropping buffered message {}: {}", message.getId().getValue(), e.getMessage());
+                droppedCounter.increment();
+            }
+        }
+    }
+
+    private void bind(PreparedStatement ps, Message message) throws SQLException {
+        ps.setObject(1, message.getId().getValue());
+        ps.setObject(2, message.getConversationId().getValue());
+        ps.setObject(3, message.getSenderId().getValue());
+        ps.setString(4, message.getContent());
+        ps.setString(5, message.getType().name());
+        ps.setString(6, message.getStatus().name());
+        // sent_at is TIMESTAMP without time zone and holds UTC, matching hibernate.jdbc.time_zone
+        ps.setObject(7, LocalDateTime.ofInstant(message.getSentAt(), ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,20 @@
+package com.realtime.communication.chat.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for the online state of a conversation's participants.
+ * {@code online} is a base64 bitmap: bit i (least significant bit first within each byte)
+ * is set when participant i is online. It always has ceil(n / 8) bytes for n participants.
+ * The participant order is identified by {@code participantsVersion}; {@code participants}
+ * is only sent when the caller's known version differs, and is left out of the JSON otherwise.
+ */
+public record ConversationPresenceDTO(
+    UUID conversationId,
+    String participantsVersion,
+    @JsonInclude(JsonInclude.Include.NON_NULL) List<UUID> participants,
+    String online
+) {}
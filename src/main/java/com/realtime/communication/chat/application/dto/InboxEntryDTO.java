@@ -0,0 +1,23 @@
+package com.realtime.communication.chat.application.dto;
+
+import com.realtime.communication.chat.domain.model.ConversationType;
+import com.realtime.communication.chat.domain.model.MessageType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * DTO for one conversation in a user's inbox.
+ * cursor is passed back as "before" to load the conversations after this one.
+ */
+public record InboxEntryDTO(
+    UUID conversationId,
+    ConversationType type,
+    UUID lastMessageId,
+    UUID lastMessageSenderId,
+    String lastMessagePreview,
+    MessageType lastMessageType,
+    Instant lastMessageAt,
+    long unreadCount,
+    String cursor
+) {}
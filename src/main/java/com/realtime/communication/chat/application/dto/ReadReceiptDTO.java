@@ -0,0 +1,11 @@
+package com.realtime.communication.chat.application.dto;
+
+import java.util.UUID;
+
+/**
+ * DTO for a read receipt: the newest message the user has read in a conversation
+ */
+public record ReadReceiptDTO(
+    UUID conversationId,
+    UUID messageId
+) {}
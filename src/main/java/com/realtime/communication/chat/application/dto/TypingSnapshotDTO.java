@@ -0,0 +1,13 @@
+package com.realtime.communication.chat.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for aggregated typing indicator changes of a conversation
+ */
+public record TypingSnapshotDTO(
+    UUID conversationId,
+    List<UUID> typing,
+    List<UUID> stopped
+) {}
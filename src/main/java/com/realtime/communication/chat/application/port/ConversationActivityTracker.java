@@ -0,0 +1,13 @@
+package com.realtime.communication.chat.application.port;
+
+import com.realtime.communication.chat.domain.model.ConversationId;
+
+import java.time.Instant;
+
+/**
+ * Port interface for recording conversation activity.
+ * Implementations may coalesce updates, so the stored last message time can lag briefly behind.
+ */
+public interface ConversationActivityTracker {
+    void recordActivity(ConversationId conversationId, Instant lastMessageAt);
+}
@@ -0,0 +1,20 @@
+package com.realtime.communication.chat.application.port;
+
+import com.realtime.communication.chat.domain.model.ConversationId;
+
+/**
+ * Port interface for pushing real-time updates to a conversation's subscribers.
+ * Implementations deliver to subscribers on every node, exactly once per subscription.
+ */
+public interface ConversationBroadcaster {
+
+    /**
+     * Deliver a payload to /topic/conversation/{id} subscribers.
+     */
+    void broadcast(ConversationId conversationId, Object payload);
+
+    /**
+     * Deliver a payload to /topic/conversation/{id}/typing subscribers.
+     */
+    void broadcastTyping(ConversationId conversationId, Object payload);
+}
@@ -0,0 +1,25 @@
+package com.realtime.communication.chat.application.port;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.domain.model.ConversationId;
+
+import java.util.List;
+
+/**
+ * Port interface for conversation membership lookups.
+ * Answers authorization checks without loading the Conversation aggregate.
+ */
+public interface ConversationMembership {
+
+    /**
+     * @throws com.realtime.communication.shared.domain.exception.NotFoundException if the conversation does not exist
+     */
+    boolean isMember(ConversationId conversationId, UserId userId);
+
+    /**
+     * Participants in ascending {@link java.util.UUID#compareTo} order of their ids.
+     *
+     * @throws com.realtime.communication.shared.domain.exception.NotFoundException if the conversation does not exist
+     */
+    List<UserId> participantsOf(ConversationId conversationId);
+}
@@ -11,6 +11,15 @@ import java.util.Optional;
  * Port interface for Conversation repository
  */
 public interface ConversationRepository {
+
+    /**
+     * Stores a conversation that is not stored yet, without first looking it up.
+     */
+    Conversation insert(Conversation conversation);
+
+    /**
+     * Stores a new conversation or writes the changes to an existing one.
+     */
     Conversation save(Conversation conversation);
     Optional<Conversation> findById(ConversationId conversationId);
     List<Conversation> findByParticipant(UserId userId);
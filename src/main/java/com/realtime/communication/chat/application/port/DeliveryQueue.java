@@ -0,0 +1,32 @@
+package com.realtime.communication.chat.application.port;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.domain.model.MessageId;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Port interface for per-user queues of messages that still have to be delivered.
+ * Queues hold message ids only; the messages themselves are loaded from the message repository.
+ */
+public interface DeliveryQueue {
+
+    /**
+     * Record the message as pending for every recipient. Enqueuing a message twice has no effect.
+     */
+    void enqueue(Collection<UserId> recipients, MessageId messageId, Instant sentAt);
+
+    /**
+     * Oldest pending messages of the user, at most limit, in the order they were sent.
+     */
+    List<PendingDelivery> pending(UserId userId, int limit);
+
+    /**
+     * Remove delivered messages from the user's queue; unknown ids are ignored.
+     */
+    void acknowledge(UserId userId, Collection<MessageId> messageIds);
+
+    record PendingDelivery(MessageId messageId, Instant sentAt) {}
+}
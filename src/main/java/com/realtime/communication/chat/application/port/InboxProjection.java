@@ -0,0 +1,18 @@
+package com.realtime.communication.chat.application.port;
+
+import com.realtime.communication.chat.domain.model.Message;
+
+/**
+ * Port interface for maintaining the per-user inbox projection.
+ * Implementations may coalesce updates, so an inbox can lag briefly behind the newest message.
+ * Adding and removing participants' rows is left to the implementation, which follows
+ * ConversationParticipantsChangedEvent.
+ */
+public interface InboxProjection {
+
+    /**
+     * Make the message the last message of its conversation in every participant's inbox,
+     * unless a later one is already there. Only call it for messages that are committed.
+     */
+    void recordMessage(Message message);
+}
@@ -0,0 +1,38 @@
+package com.realtime.communication.chat.application.port;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.ConversationType;
+import com.realtime.communication.chat.domain.model.InboxCursor;
+import com.realtime.communication.chat.domain.model.MessageId;
+import com.realtime.communication.chat.domain.model.MessageType;
+import org.springframework.data.domain.Slice;
+
+import java.time.Instant;
+
+/**
+ * Port interface for reading the per-user inbox projection.
+ */
+public interface InboxQuery {
+
+    /**
+     * The user's conversations, most recent first, starting after the cursor (from the top when null).
+     */
+    Slice<InboxEntry> findBefore(UserId userId, InboxCursor before, int limit);
+
+    /**
+     * One inbox row; the last message fields are null for a conversation without messages.
+     */
+    record InboxEntry(ConversationId conversationId,
+                      ConversationType type,
+                      MessageId lastMessageId,
+                      UserId lastMessageSenderId,
+                      String lastMessagePreview,
+                      MessageType lastMessageType,
+                      Instant lastMessageAt) {
+
+        public InboxCursor cursor() {
+            return new InboxCursor(lastMessageAt, conversationId.getValue());
+        }
+    }
+}
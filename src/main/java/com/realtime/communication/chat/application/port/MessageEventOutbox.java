@@ -0,0 +1,18 @@
+package com.realtime.communication.chat.application.port;
+
+import com.realtime.communication.shared.application.event.Event;
+
+import java.util.Collection;
+
+/**
+ * Port interface for recording message events for asynchronous publication.
+ * Events are stored in the caller's transaction and published to the event bus after commit,
+ * so an event goes out if and only if the change it describes was committed.
+ */
+public interface MessageEventOutbox {
+
+    /**
+     * Record events; must be called inside the transaction that persists the change.
+     */
+    void append(Collection<? extends Event> events);
+}
@@ -1,20 +1,65 @@
 package com.realtime.communication.chat.application.port;
 
+import com.realtime.communication.auth.domain.model.UserId;
 import com.realtime.communication.chat.domain.model.ConversationId;
 import com.realtime.communication.chat.domain.model.Message;
+import com.realtime.communication.chat.domain.model.MessageCursor;
 import com.realtime.communication.chat.domain.model.MessageId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * Port interface for Message repository
  */
 public interface MessageRepository {
+
+    /**
+     * Stores a message that is not stored yet, without first looking it up.
+     */
+    Message insert(Message message);
+
+    /**
+     * Stores a new message or writes the changed fields of an existing one.
+     */
     Message save(Message message);
     Optional<Message> findById(MessageId messageId);
+
+    /**
+     * Messages with the given ids in one query, in no particular order; unknown ids are skipped.
+     */
+    List<Message> findAllById(Collection<MessageId> messageIds);
     Page<Message> findByConversationId(ConversationId conversationId, Pageable pageable);
+
+    /**
+     * Newest messages of a conversation, newest first. No total count is computed.
+     */
+    Slice<Message> findLatest(ConversationId conversationId, int limit);
+
+    /**
+     * Messages strictly older than the cursor, newest first.
+     */
+    Slice<Message> findBefore(ConversationId conversationId, MessageCursor cursor, int limit);
+
+    /**
+     * Messages strictly newer than the cursor, oldest first.
+     */
+    Slice<Message> findAfter(ConversationId conversationId, MessageCursor cursor, int limit);
+
+    /**
+     * Records delivery of messages to one recipient in one statement: SENT messages become
+     * DELIVERED, and messages the recipient sent or that belong to conversations the recipient
+     * does not participate in are skipped. Every recipient of a group message counts, not only the
+     * first; messages at or before the recipient's stored delivered watermark are skipped.
+     *
+     * @return the messages delivered to the recipient for the first time
+     */
+    List<Message> markDelivered(Collection<MessageId> messageIds, UserId recipientId, Instant deliveredAt);
+
     void delete(MessageId messageId);
 }
-
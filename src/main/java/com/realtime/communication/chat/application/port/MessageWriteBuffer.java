@@ -0,0 +1,18 @@
+package com.realtime.communication.chat.application.port;
+
+import com.realtime.communication.chat.domain.model.Message;
+
+/**
+ * Port interface for write-behind message persistence.
+ * Accepted messages are written to the store asynchronously in batches, so they may not be
+ * visible to {@link MessageRepository} reads until the next flush.
+ */
+public interface MessageWriteBuffer {
+
+    /**
+     * Hand a new message to the buffer.
+     *
+     * @return false if write-behind is disabled or the buffer is full; the caller must then persist synchronously
+     */
+    boolean offer(Message message);
+}
@@ -2,19 +2,24 @@ package com.realtime.communication.chat.application.port;
 
 import com.realtime.communication.auth.domain.model.UserId;
 
+import java.util.Collection;
 import java.util.Set;
-import java.util.UUID;
 
 /**
  * Port interface for Presence Gateway
  */
 public interface PresenceGateway {
-    void setOnline(UserId userId);
-    void setOffline(UserId userId);
+    /**
+     * Registers a session of the user on this node; the user is online while any session is open.
+     */
+    void sessionConnected(UserId userId, String sessionId);
+    void sessionDisconnected(UserId userId, String sessionId);
     boolean isOnline(UserId userId);
+
+    /**
+     * The subset of the given users that is online, resolved with a single command.
+     */
+    Set<UserId> onlineAmong(Collection<UserId> userIds);
     Set<UserId> getOnlineUsers();
-    void setTyping(UserId userId, UUID conversationId);
-    void stopTyping(UserId userId, UUID conversationId);
-    boolean isTyping(UserId userId, UUID conversationId);
 }
 
@@ -0,0 +1,16 @@
+package com.realtime.communication.chat.application.port;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.MessageCursor;
+
+/**
+ * Port interface for per-participant delivery and read watermarks.
+ * A watermark is the position of the newest message delivered to or read by the user in a
+ * conversation; it only moves forward, and reading a message implies it was delivered.
+ * Implementations may coalesce updates, so stored watermarks can lag briefly behind.
+ */
+public interface ReceiptWatermarkTracker {
+    void recordDelivered(ConversationId conversationId, UserId userId, MessageCursor position);
+    void recordRead(ConversationId conversationId, UserId userId, MessageCursor position);
+}
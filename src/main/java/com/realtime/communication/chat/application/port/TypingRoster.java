@@ -0,0 +1,33 @@
+package com.realtime.communication.chat.application.port;
+
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.TypingSnapshot;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Port interface for the cluster-wide set of users typing in each conversation.
+ * Typing changes are broadcast as deltas; the roster lets a subscriber that joins late start from
+ * the full state. Entries expire unless refreshed, so a crashed node's typers disappear.
+ */
+public interface TypingRoster {
+
+    /**
+     * Apply the changes this node announced.
+     */
+    void apply(Collection<TypingSnapshot> snapshots);
+
+    /**
+     * Keep the entries of users this node still reports as typing, per conversation id.
+     */
+    void refresh(Map<UUID, Set<UUID>> typing);
+
+    /**
+     * Users typing in the conversation on any node.
+     */
+    List<UUID> typingIn(ConversationId conversationId);
+}
@@ -0,0 +1,21 @@
+package com.realtime.communication.chat.application.port;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.domain.model.ConversationId;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Port interface for unread message counts derived from read watermarks.
+ * This is the source of truth the materialized {@link UnreadCounters} are rebuilt from.
+ */
+public interface UnreadCountQuery {
+
+    /**
+     * Messages from others after each user's read watermark, per conversation the user participates
+     * in; conversations without unread messages are left out. Counts stop at cap, so clients show
+     * "cap+" instead of the server counting a long backlog.
+     */
+    Map<UserId, Map<ConversationId, Long>> unreadCounts(Collection<UserId> userIds, int cap);
+}
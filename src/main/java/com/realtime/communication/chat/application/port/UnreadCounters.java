@@ -0,0 +1,36 @@
+package com.realtime.communication.chat.application.port;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.domain.model.ConversationId;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Port interface for materialized per-user unread message counters.
+ * Counters are incremented once a send commits and set again from the read watermark when it
+ * advances, so reading them never touches the messages table. They may drift (a failed increment,
+ * a lost update between recount and reset) until the next reconciliation rebuilds them.
+ */
+public interface UnreadCounters {
+
+    /**
+     * Count one more unread message in the conversation for each recipient.
+     */
+    void increment(ConversationId conversationId, Collection<UserId> recipients);
+
+    /**
+     * Replace the user's counter of one conversation; zero removes it.
+     */
+    void reset(UserId userId, ConversationId conversationId, long unread);
+
+    /**
+     * Non-zero counters of the user, per conversation.
+     */
+    Map<ConversationId, Long> countsOf(UserId userId);
+
+    /**
+     * Replace all counters of each user with the given ones.
+     */
+    void replaceAll(Map<UserId, Map<ConversationId, Long>> counts);
+}
@@ -30,7 +30,7 @@ public class CreateConversationUseCase {
         Conversation conversation = new Conversation(conversationId, type, participants);
 
         // Save conversation
-        Conversation savedConversation = conversationRepository.save(conversation);
+        Conversation savedConversation = conversationRepository.insert(conversation);
 
         // Convert to DTO
         return toDTO(savedConversation);
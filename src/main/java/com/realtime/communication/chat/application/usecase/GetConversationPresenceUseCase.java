@@ -0,0 +1,80 @@
+package com.realtime.communication.chat.application.usecase;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.dto.ConversationPresenceDTO;
+import com.realtime.communication.chat.application.port.ConversationMembership;
+import com.realtime.communication.chat.application.port.PresenceGateway;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.shared.domain.exception.UnauthorizedException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Use case for loading the online state of all participants of a conversation.
+ * The participant list is sent only when it changed since the version the caller knows, so a
+ * repeated query carries just the bitmap.
+ */
+@Service
+public class GetConversationPresenceUseCase {
+
+    private final ConversationMembership conversationMembership;
+    private final PresenceGateway presenceGateway;
+
+    public GetConversationPresenceUseCase(ConversationMembership conversationMembership,
+                                          PresenceGateway presenceGateway) {
+        this.conversationMembership = conversationMembership;
+        this.presenceGateway = presenceGateway;
+    }
+
+    /**
+     * @param knownVersion participantsVersion of the caller's last response, or null
+     */
+    public ConversationPresenceDTO execute(ConversationId conversationId, UserId userId, String knownVersion) {
+        // Verify user is participant (throws NotFoundException for unknown conversations)
+        if (!conversationMembership.isMember(conversationId, userId)) {
+            throw new UnauthorizedException("User is not a participant in this conversation");
+        }
+
+        // Resolve online state of all participants with one presence lookup
+        List<UserId> participants = conversationMembership.participantsOf(conversationId);
+        Set<UserId> online = presenceGateway.onlineAmong(participants);
+
+        BitSet bitmap = new BitSet(participants.size());
+        List<UUID> participantIds = new ArrayList<>(participants.size());
+        for (int i = 0; i < participants.size(); i++) {
+            participantIds.add(participants.get(i).getValue());
+            if (online.contains(participants.get(i))) {
+                bitmap.set(i);
+            }
+        }
+        String version = versionOf(participantIds);
+
+        // toByteArray drops trailing zero bytes; pad so every participant has a bit
+        byte[] bits = Arrays.copyOf(bitmap.toByteArray(), (participants.size() + 7) / 8);
+        return new ConversationPresenceDTO(
+            conversationId.getValue(),
+            version,
+            version.equals(knownVersion) ? null : participantIds,
+            Base64.getEncoder().encodeToString(bits)
+        );
+    }
+
+    /**
+     * Hash of the participant ids in order; participantsOf returns them sorted, so equal lists agree.
+     */
+    private static String versionOf(List<UUID> participantIds) {
+        long hash = 1125899906842597L;
+        for (UUID id : participantIds) {
+            hash = 31 * hash + id.getMostSignificantBits();
+            hash = 31 * hash + id.getLeastSignificantBits();
+        }
+        return Long.toHexString(hash);
+    }
+}
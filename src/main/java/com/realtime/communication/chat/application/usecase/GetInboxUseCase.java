@@ -0,0 +1,61 @@
+package com.realtime.communication.chat.application.usecase;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.dto.InboxEntryDTO;
+import com.realtime.communication.chat.application.port.InboxQuery;
+import com.realtime.communication.chat.application.port.InboxQuery.InboxEntry;
+import com.realtime.communication.chat.application.port.UnreadCounters;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.InboxCursor;
+import com.realtime.communication.shared.domain.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * Use case for loading the user's conversation list, most recently active first.
+ * Served from the inbox projection and the unread counters: one index range scan and one
+ * Redis read per page, whatever the number of conversations.
+ */
+@Service
+public class GetInboxUseCase {
+    private static final int MAX_SLICE_SIZE = 100;
+
+    private final InboxQuery inboxQuery;
+    private final UnreadCounters unreadCounters;
+    private final int unreadCountCap;
+
+    public GetInboxUseCase(InboxQuery inboxQuery,
+                           UnreadCounters unreadCounters,
+                           @Value("${app.chat.receipts.unread-count-cap:100}") int unreadCountCap) {
+        this.inboxQuery = inboxQuery;
+        this.unreadCounters = unreadCounters;
+        this.unreadCountCap = unreadCountCap;
+    }
+
+    public Slice<InboxEntryDTO> execute(UserId userId, InboxCursor before, int size) {
+        if (size < 1) {
+            throw new ValidationException("size", "Size must be positive");
+        }
+        Slice<InboxEntry> entries = inboxQuery.findBefore(userId, before, Math.min(size, MAX_SLICE_SIZE));
+        Map<ConversationId, Long> unread = unreadCounters.countsOf(userId);
+        return entries.map(entry ->
+            toDTO(entry, Math.min(unread.getOrDefault(entry.conversationId(), 0L), unreadCountCap)));
+    }
+
+    private InboxEntryDTO toDTO(InboxEntry entry, long unreadCount) {
+        return new InboxEntryDTO(
+            entry.conversationId().getValue(),
+            entry.type(),
+            entry.lastMessageId() != null ? entry.lastMessageId().getValue() : null,
+            entry.lastMessageSenderId() != null ? entry.lastMessageSenderId().getValue() : null,
+            entry.lastMessagePreview(),
+            entry.lastMessageType(),
+            entry.lastMessageAt(),
+            unreadCount,
+            entry.cursor().encode()
+        );
+    }
+}
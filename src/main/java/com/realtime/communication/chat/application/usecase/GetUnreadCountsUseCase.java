@@ -0,0 +1,34 @@
+package com.realtime.communication.chat.application.usecase;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.port.UnreadCounters;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Use case for loading the user's unread message counts of all conversations in one call.
+ * Reads the materialized counters; conversations without unread messages are left out.
+ */
+@Service
+public class GetUnreadCountsUseCase {
+
+    private final UnreadCounters unreadCounters;
+    private final int cap;
+
+    public GetUnreadCountsUseCase(UnreadCounters unreadCounters,
+                                  @Value("${app.chat.receipts.unread-count-cap:100}") int cap) {
+        this.unreadCounters = unreadCounters;
+        this.cap = cap;
+    }
+
+    public Map<UUID, Long> execute(UserId userId) {
+        Map<UUID, Long> counts = new HashMap<>();
+        unreadCounters.countsOf(userId).forEach((conversationId, count) ->
+            counts.put(conversationId.getValue(), Math.min(count, cap)));
+        return counts;
+    }
+}
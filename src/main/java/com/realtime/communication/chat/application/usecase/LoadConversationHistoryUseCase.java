@@ -2,16 +2,17 @@ package com.realtime.communication.chat.application.usecase;
 
 import com.realtime.communication.auth.domain.model.UserId;
 import com.realtime.communication.chat.application.dto.MessageDTO;
-import com.realtime.communication.chat.application.port.ConversationRepository;
+import com.realtime.communication.chat.application.port.ConversationMembership;
 import com.realtime.communication.chat.application.port.MessageRepository;
-import com.realtime.communication.chat.domain.model.Conversation;
 import com.realtime.communication.chat.domain.model.ConversationId;
 import com.realtime.communication.chat.domain.model.Message;
-import com.realtime.communication.shared.domain.exception.NotFoundException;
+import com.realtime.communication.chat.domain.model.MessageCursor;
 import com.realtime.communication.shared.domain.exception.UnauthorizedException;
+import com.realtime.communication.shared.domain.exception.ValidationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,24 +23,19 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @Transactional(readOnly = true)
 public class LoadConversationHistoryUseCase {
+    private static final int MAX_SLICE_SIZE = 100;
+
     private final MessageRepository messageRepository;
-    private final ConversationRepository conversationRepository;
+    private final ConversationMembership conversationMembership;
 
     public LoadConversationHistoryUseCase(MessageRepository messageRepository,
-                                         ConversationRepository conversationRepository) {
+                                         ConversationMembership conversationMembership) {
         this.messageRepository = messageRepository;
-        this.conversationRepository = conversationRepository;
+        this.conversationMembership = conversationMembership;
     }
 
     public Page<MessageDTO> execute(ConversationId conversationId, UserId userId, int page, int size) {
-        // Find conversation
-        Conversation conversation = conversationRepository.findById(conversationId)
-            .orElseThrow(() -> new NotFoundException("Conversation not found"));
-
-        // Verify user is participant
-        if (!conversation.hasParticipant(userId)) {
-            throw new UnauthorizedException("User is not a participant in this conversation");
-        }
+        verifyParticipant(conversationId, userId);
 
         // Load messages with pagination (sorted by sent time descending)
         Pageable pageable = PageRequest.of(page, size, Sort.by("sentAt").descending());
@@ -49,6 +45,41 @@ public class LoadConversationHistoryUseCase {
         return messages.map(this::toDTO);
     }
 
+    /**
+     * Keyset variant: loads one slice relative to a cursor without counting the conversation.
+     * With neither cursor the newest messages are returned; {@code before} pages backwards
+     * (newest first) and {@code after} catches up forwards (oldest first).
+     */
+    public Slice<MessageDTO> execute(ConversationId conversationId, UserId userId,
+                                     MessageCursor before, MessageCursor after, int size) {
+        if (before != null && after != null) {
+            throw new ValidationException("cursor", "Only one of before or after may be given");
+        }
+        if (size < 1) {
+            throw new ValidationException("size", "Size must be positive");
+        }
+        verifyParticipant(conversationId, userId);
+
+        int limit = Math.min(size, MAX_SLICE_SIZE);
+        Slice<Message> messages;
+        if (before != null) {
+            messages = messageRepository.findBefore(conversationId, before, limit);
+        } else if (after != null) {
+            messages = messageRepository.findAfter(conversationId, after, limit);
+        } else {
+            messages = messageRepository.findLatest(conversationId, limit);
+        }
+
+        return messages.map(this::toDTO);
+    }
+
+    private void verifyParticipant(ConversationId conversationId, UserId userId) {
+        // Verify user is participant (throws NotFoundException for unknown conversations)
+        if (!conversationMembership.isMember(conversationId, userId)) {
+            throw new UnauthorizedException("User is not a participant in this conversation");
+        }
+    }
+
     private MessageDTO toDTO(Message message) {
         return new MessageDTO(
             message.getId().getValue(),
@@ -1,38 +1,78 @@
 package com.realtime.communication.chat.application.usecase;
 
 import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.dto.ReadReceiptDTO;
+import com.realtime.communication.chat.application.port.ConversationMembership;
 import com.realtime.communication.chat.application.port.MessageRepository;
+import com.realtime.communication.chat.application.port.ReceiptWatermarkTracker;
+import com.realtime.communication.chat.domain.model.ConversationId;
 import com.realtime.communication.chat.domain.model.Message;
+import com.realtime.communication.chat.domain.model.MessageCursor;
 import com.realtime.communication.chat.domain.model.MessageId;
-import com.realtime.communication.shared.domain.exception.NotFoundException;
 import com.realtime.communication.shared.domain.exception.UnauthorizedException;
+import com.realtime.communication.shared.domain.exception.ValidationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
- * Use case for marking a message as read
+ * Use case for marking messages as read.
+ * Reading a message marks everything before it in the conversation read, so a client reports only
+ * the newest message it has shown per conversation. The position is taken from the stored message,
+ * never from the client, and the message must belong to the receipt's conversation. Receipts advance
+ * the reader's watermark and are coalesced before they are written; the MessageReadEvent is recorded
+ * when the watermark is stored.
  */
 @Service
 public class MarkMessageAsReadUseCase {
+
+    private final ConversationMembership conversationMembership;
     private final MessageRepository messageRepository;
+    private final ReceiptWatermarkTracker receiptWatermarkTracker;
 
-    public MarkMessageAsReadUseCase(MessageRepository messageRepository) {
+    public MarkMessageAsReadUseCase(ConversationMembership conversationMembership,
+                                    MessageRepository messageRepository,
+                                    ReceiptWatermarkTracker receiptWatermarkTracker) {
+        this.conversationMembership = conversationMembership;
         this.messageRepository = messageRepository;
+        this.receiptWatermarkTracker = receiptWatermarkTracker;
     }
 
-    @Transactional
-    public void execute(MessageId messageId, UserId userId) {
-        // Find message
-        Message message = messageRepository.findById(messageId)
-            .orElseThrow(() -> new NotFoundException("Message not found"));
+    public void execute(UserId readerId, Collection<ReadReceiptDTO> receipts) {
+        for (ReadReceiptDTO receipt : receipts) {
+            if (receipt.conversationId() == null || receipt.messageId() == null) {
+                throw new ValidationException("receipts", "A receipt needs conversationId and messageId");
+            }
+            // Cached lookup (throws NotFoundException for unknown conversations)
+            if (!conversationMembership.isMember(new ConversationId(receipt.conversationId()), readerId)) {
+                throw new UnauthorizedException("User is not a participant in this conversation");
+            }
+        }
+        if (receipts.isEmpty()) {
+            return;
+        }
 
-        // Verify user is not the sender (can't mark own message as read)
-        if (message.getSenderId().equals(userId)) {
-            throw new UnauthorizedException("Cannot mark own message as read");
+        // One query for the positions of all receipts
+        Map<MessageId, Message> messages = messageRepository.findAllById(
+                receipts.stream().map(receipt -> new MessageId(receipt.messageId())).toList())
+            .stream()
+            .collect(Collectors.toMap(Message::getId, Function.identity()));
+        for (ReadReceiptDTO receipt : receipts) {
+            Message message = messages.get(new MessageId(receipt.messageId()));
+            if (message != null && !message.getConversationId().getValue().equals(receipt.conversationId())) {
+                throw new ValidationException("messageId", "Message does not belong to the conversation");
+            }
         }
 
-        // Mark as read
-        message.markAsRead();
-        messageRepository.save(message);
+        for (ReadReceiptDTO receipt : receipts) {
+            // Unknown ids are skipped: the message may still be buffered, and a later receipt covers it
+            Message message = messages.get(new MessageId(receipt.messageId()));
+            if (message != null) {
+                receiptWatermarkTracker.recordRead(message.getConversationId(), readerId, MessageCursor.of(message));
+            }
+        }
     }
 }
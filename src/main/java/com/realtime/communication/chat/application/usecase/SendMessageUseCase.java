@@ -2,35 +2,69 @@ package com.realtime.communication.chat.application.usecase;
 
 import com.realtime.communication.auth.domain.model.UserId;
 import com.realtime.communication.chat.application.dto.MessageDTO;
-import com.realtime.communication.chat.application.port.ConversationRepository;
+import com.realtime.communication.chat.application.port.ConversationActivityTracker;
+import com.realtime.communication.chat.application.port.ConversationMembership;
+import com.realtime.communication.chat.application.port.InboxProjection;
+import com.realtime.communication.chat.application.port.MessageEventOutbox;
 import com.realtime.communication.chat.application.port.MessageRepository;
+import com.realtime.communication.chat.application.port.MessageWriteBuffer;
+import com.realtime.communication.chat.application.port.UnreadCounters;
+import com.realtime.communication.chat.domain.event.MessageSentEvent;
 import com.realtime.communication.chat.domain.model.*;
-import com.realtime.communication.shared.domain.exception.NotFoundException;
 import com.realtime.communication.shared.domain.exception.UnauthorizedException;
+import com.realtime.communication.shared.infrastructure.monitoring.MetricsCollector;
+import com.realtime.communication.shared.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
- * Use case for sending a message
+ * Use case for sending a message.
+ * MessageSentEvent is recorded in the outbox in the transaction that stores the message; for
+ * buffered messages the write-behind flusher records it when it commits the message.
+ * The message becomes the last message in the participants' inboxes once it is committed, by this
+ * transaction or by the flusher. The other participants' unread counters are incremented after the
+ * send commits; a failed increment is logged and counted but does not fail the send, the counters
+ * are rebuilt by the next reconciliation.
  */
 @Service
 public class SendMessageUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(SendMessageUseCase.class);
+
     private final MessageRepository messageRepository;
-    private final ConversationRepository conversationRepository;
+    private final ConversationMembership conversationMembership;
+    private final MessageWriteBuffer messageWriteBuffer;
+    private final ConversationActivityTracker conversationActivityTracker;
+    private final MessageEventOutbox messageEventOutbox;
+    private final UnreadCounters unreadCounters;
+    private final InboxProjection inboxProjection;
+    private final MetricsCollector metricsCollector;
 
-    public SendMessageUseCase(MessageRepository messageRepository, ConversationRepository conversationRepository) {
+    public SendMessageUseCase(MessageRepository messageRepository, ConversationMembership conversationMembership,
+                              MessageWriteBuffer messageWriteBuffer,
+                              ConversationActivityTracker conversationActivityTracker,
+                              MessageEventOutbox messageEventOutbox,
+                              UnreadCounters unreadCounters,
+                              InboxProjection inboxProjection,
+                              MetricsCollector metricsCollector) {
         this.messageRepository = messageRepository;
-        this.conversationRepository = conversationRepository;
+        this.conversationMembership = conversationMembership;
+        this.messageWriteBuffer = messageWriteBuffer;
+        this.conversationActivityTracker = conversationActivityTracker;
+        this.messageEventOutbox = messageEventOutbox;
+        this.unreadCounters = unreadCounters;
+        this.inboxProjection = inboxProjection;
+        this.metricsCollector = metricsCollector;
     }
 
     @Transactional
     public MessageDTO execute(ConversationId conversationId, UserId senderId, String content, MessageType type) {
-        // Find conversation
-        Conversation conversation = conversationRepository.findById(conversationId)
-            .orElseThrow(() -> new NotFoundException("Conversation not found"));
-
-        // Verify sender is participant
-        if (!conversation.hasParticipant(senderId)) {
+        // Verify sender is participant (throws NotFoundException for unknown conversations)
+        if (!conversationMembership.isMember(conversationId, senderId)) {
             throw new UnauthorizedException("User is not a participant in this conversation");
         }
 
@@ -38,17 +72,39 @@ public class SendMessageUseCase {
         MessageId messageId = MessageId.generate();
         Message message = new Message(messageId, conversationId, senderId, content, type);
 
-        // Save message
-        Message savedMessage = messageRepository.save(message);
+        // Save message (write-behind when enabled, otherwise synchronously together with its event)
+        Message savedMessage;
+        if (messageWriteBuffer.offer(message)) {
+            savedMessage = message;
+        } else {
+            savedMessage = messageRepository.insert(message);
+            messageEventOutbox.append(List.of(MessageSentEvent.of(savedMessage)));
+            TransactionHooks.afterCommit(() -> inboxProjection.recordMessage(savedMessage));
+        }
+
+        // Update conversation last message timestamp once the send commits (coalesced, flushed in the background)
+        TransactionHooks.afterCommit(
+            () -> conversationActivityTracker.recordActivity(conversationId, savedMessage.getSentAt()));
 
-        // Update conversation last message timestamp
-        conversation.updateLastMessageTime();
-        conversationRepository.save(conversation);
+        // Count the message as unread for everyone else once the send commits (participants are cached)
+        List<UserId> recipients = conversationMembership.participantsOf(conversationId).stream()
+            .filter(participant -> !participant.equals(senderId))
+            .toList();
+        TransactionHooks.afterCommit(() -> incrementUnread(conversationId, recipients));
 
         // Convert to DTO
         return toDTO(savedMessage);
     }
 
+    private void incrementUnread(ConversationId conversationId, List<UserId> recipients) {
+        try {
+            unreadCounters.increment(conversationId, recipients);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to increment unread counters of conversation {}", conversationId.getValue(), e);
+            metricsCollector.incrementCounter("chat.unread.increment.failed");
+        }
+    }
+
     private MessageDTO toDTO(Message message) {
         return new MessageDTO(
             message.getId().getValue(),
@@ -0,0 +1,18 @@
+package com.realtime.communication.chat.domain.event;
+
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.shared.application.event.Event;
+import lombok.Getter;
+
+/**
+ * Domain event emitted when a conversation's participants may have changed (saved or deleted)
+ */
+@Getter
+public class ConversationParticipantsChangedEvent extends Event {
+    private final ConversationId conversationId;
+
+    public ConversationParticipantsChangedEvent(ConversationId conversationId) {
+        super();
+        this.conversationId = conversationId;
+    }
+}
@@ -26,4 +26,13 @@ public class MessageDeliveredEvent extends Event {
         this.recipientId = recipientId;
         this.deliveredAt = deliveredAt;
     }
+
+    public MessageDeliveredEvent(String eventId, Instant occurredOn, MessageId messageId,
+                                ConversationId conversationId, UserId recipientId, Instant deliveredAt) {
+        super(eventId, occurredOn);
+        this.messageId = messageId;
+        this.conversationId = conversationId;
+        this.recipientId = recipientId;
+        this.deliveredAt = deliveredAt;
+    }
 }
@@ -26,4 +26,13 @@ public class MessageReadEvent extends Event {
         this.readerId = readerId;
         this.readAt = readAt;
     }
+
+    public MessageReadEvent(String eventId, Instant occurredOn, MessageId messageId,
+                           ConversationId conversationId, UserId readerId, Instant readAt) {
+        super(eventId, occurredOn);
+        this.messageId = messageId;
+        this.conversationId = conversationId;
+        this.readerId = readerId;
+        this.readAt = readAt;
+    }
 }
@@ -2,11 +2,14 @@ package com.realtime.communication.chat.domain.event;
 
 import com.realtime.communication.auth.domain.model.UserId;
 import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.Message;
 import com.realtime.communication.chat.domain.model.MessageId;
 import com.realtime.communication.chat.domain.model.MessageType;
 import com.realtime.communication.shared.application.event.Event;
 import lombok.Getter;
 
+import java.time.Instant;
+
 /**
  * Domain event emitted when a message is sent
  */
@@ -17,6 +20,7 @@ public class MessageSentEvent extends Event {
     private final UserId senderId;
     private final String content;
     private final MessageType messageType;
+    private final Instant sentAt;
 
     public MessageSentEvent(MessageId messageId, ConversationId conversationId,
                            UserId senderId, String content, MessageType messageType) {
@@ -26,5 +30,33 @@ public class MessageSentEvent extends Event {
         this.senderId = senderId;
         this.content = content;
         this.messageType = messageType;
+        this.sentAt = getOccurredOn();
+    }
+
+    public MessageSentEvent(MessageId messageId, ConversationId conversationId,
+                           UserId senderId, String content, MessageType messageType, Instant sentAt) {
+        super();
+        this.messageId = messageId;
+        this.conversationId = conversationId;
+        this.senderId = senderId;
+        this.content = content;
+        this.messageType = messageType;
+        this.sentAt = sentAt;
+    }
+
+    public MessageSentEvent(String eventId, Instant occurredOn, MessageId messageId, ConversationId conversationId,
+                           UserId senderId, String content, MessageType messageType, Instant sentAt) {
+        super(eventId, occurredOn);
+        this.messageId = messageId;
+        this.conversationId = conversationId;
+        this.senderId = senderId;
+        this.content = content;
+        this.messageType = messageType;
+        this.sentAt = sentAt;
+    }
+
+    public static MessageSentEvent of(Message message) {
+        return new MessageSentEvent(message.getId(), message.getConversationId(), message.getSenderId(),
+            message.getContent(), message.getType(), message.getSentAt());
     }
 }
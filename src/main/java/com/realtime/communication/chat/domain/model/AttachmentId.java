@@ -1,5 +1,6 @@
 package com.realtime.communication.chat.domain.model;
 
+import com.realtime.communication.shared.util.UuidV7;
 import lombok.Value;
 
 import java.util.UUID;
@@ -12,7 +13,7 @@ public class AttachmentId {
     UUID value;
 
     public static AttachmentId generate() {
-        return new AttachmentId(UUID.randomUUID());
+        return new AttachmentId(UuidV7.generate());
     }
 
     public static AttachmentId of(String value) {
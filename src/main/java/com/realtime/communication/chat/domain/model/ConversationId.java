@@ -1,5 +1,6 @@
 package com.realtime.communication.chat.domain.model;
 
+import com.realtime.communication.shared.util.UuidV7;
 import lombok.Value;
 
 import java.util.UUID;
@@ -12,7 +13,7 @@ public class ConversationId {
     UUID value;
 
     public static ConversationId generate() {
-        return new ConversationId(UUID.randomUUID());
+        return new ConversationId(UuidV7.generate());
     }
 
     public static ConversationId of(String value) {
@@ -0,0 +1,47 @@
+package com.realtime.communication.chat.domain.model;
+
+import com.realtime.communication.shared.domain.exception.ValidationException;
+import lombok.Value;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Value object representing a keyset position in a user's inbox.
+ * Conversations are ordered by (lastMessageAt, id), most recent first; the cursor points at one such position.
+ * Encoded as "&lt;ISO-8601 lastMessageAt&gt;,&lt;conversation id&gt;".
+ */
+@Value
+public class InboxCursor {
+    Instant lastMessageAt;
+    UUID conversationId;
+
+    public InboxCursor(Instant lastMessageAt, UUID conversationId) {
+        this.lastMessageAt = Objects.requireNonNull(lastMessageAt, "Cursor lastMessageAt cannot be null");
+        this.conversationId = Objects.requireNonNull(conversationId, "Cursor conversation ID cannot be null");
+    }
+
+    public static InboxCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        int separator = value.lastIndexOf(',');
+        if (separator <= 0 || separator == value.length() - 1) {
+            throw new ValidationException("cursor", "Cursor must have the form <lastMessageAt>,<conversationId>");
+        }
+        try {
+            return new InboxCursor(
+                Instant.parse(value.substring(0, separator).trim()),
+                UUID.fromString(value.substring(separator + 1).trim())
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new ValidationException("cursor", "Invalid cursor: " + value);
+        }
+    }
+
+    public String encode() {
+        return lastMessageAt + "," + conversationId;
+    }
+}
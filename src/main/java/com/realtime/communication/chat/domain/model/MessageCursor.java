@@ -0,0 +1,67 @@
+package com.realtime.communication.chat.domain.model;
+
+import com.realtime.communication.shared.domain.exception.ValidationException;
+import lombok.Value;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Value object representing a keyset position in a conversation's history.
+ * Messages are totally ordered by (sentAt, id); the cursor points at one such position.
+ * Encoded as "&lt;ISO-8601 sentAt&gt;,&lt;message id&gt;".
+ */
+@Value
+public class MessageCursor {
+    Instant sentAt;
+    UUID messageId;
+
+    public MessageCursor(Instant sentAt, UUID messageId) {
+        this.sentAt = Objects.requireNonNull(sentAt, "Cursor sentAt cannot be null");
+        this.messageId = Objects.requireNonNull(messageId, "Cursor message ID cannot be null");
+    }
+
+    public static MessageCursor of(Message message) {
+        return new MessageCursor(message.getSentAt(), message.getId().getValue());
+    }
+
+    public static MessageCursor parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        int separator = value.lastIndexOf(',');
+        if (separator <= 0 || separator == value.length() - 1) {
+            throw new ValidationException("cursor", "Cursor must have the form <sentAt>,<messageId>");
+        }
+        try {
+            return new MessageCursor(
+                Instant.parse(value.substring(0, separator).trim()),
+                UUID.fromString(value.substring(separator + 1).trim())
+            );
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new ValidationException("cursor", "Invalid cursor: " + value);
+        }
+    }
+
+    /**
+     * Whether this position comes later in (sentAt, id) order. Ids are compared as unsigned bytes,
+     * the order PostgreSQL uses for UUIDs, so this agrees with the keyset queries.
+     */
+    public boolean isAfter(MessageCursor other) {
+        int bySentAt = sentAt.compareTo(other.sentAt);
+        if (bySentAt != 0) {
+            return bySentAt > 0;
+        }
+        int byHigh = Long.compareUnsigned(messageId.getMostSignificantBits(), other.messageId.getMostSignificantBits());
+        if (byHigh != 0) {
+            return byHigh > 0;
+        }
+        return Long.compareUnsigned(messageId.getLeastSignificantBits(), other.messageId.getLeastSignificantBits()) > 0;
+    }
+
+    public String encode() {
+        return sentAt + "," + messageId;
+    }
+}
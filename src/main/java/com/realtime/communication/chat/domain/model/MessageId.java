@@ -1,5 +1,6 @@
 package com.realtime.communication.chat.domain.model;
 
+import com.realtime.communication.shared.util.UuidV7;
 import lombok.Value;
 
 import java.util.UUID;
@@ -12,7 +13,7 @@ public class MessageId {
     UUID value;
 
     public static MessageId generate() {
-        return new MessageId(UUID.randomUUID());
+        return new MessageId(UuidV7.generate());
     }
 
     public static MessageId of(String value) {
@@ -0,0 +1,14 @@
+package com.realtime.communication.chat.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Value object representing the typing changes of one conversation since the previous snapshot
+ */
+public record TypingSnapshot(ConversationId conversationId, List<UUID> started, List<UUID> stopped) {
+    public TypingSnapshot {
+        started = List.copyOf(started);
+        stopped = List.copyOf(stopped);
+    }
+}
@@ -0,0 +1,150 @@
+package com.realtime.communication.chat.domain.service;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.port.ConversationMembership;
+import com.realtime.communication.chat.application.port.DeliveryQueue;
+import com.realtime.communication.chat.application.port.DeliveryQueue.PendingDelivery;
+import com.realtime.communication.chat.application.port.MessageEventOutbox;
+import com.realtime.communication.chat.application.port.MessageRepository;
+import com.realtime.communication.chat.application.port.ReceiptWatermarkTracker;
+import com.realtime.communication.chat.domain.event.MessageDeliveredEvent;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.Message;
+import com.realtime.communication.chat.domain.model.MessageCursor;
+import com.realtime.communication.chat.domain.model.MessageId;
+import com.realtime.communication.shared.infrastructure.monitoring.MetricsCollector;
+import com.realtime.communication.shared.util.TransactionHooks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service for delivering messages to recipients that did not receive the conversation broadcast.
+ * A message is queued for every participant except the sender, whatever presence says: a socket
+ * can be dead for a while before presence notices. Clients acknowledge what they received, from
+ * the broadcast or a replay, which removes it from their queue. When a user subscribes to their
+ * message queue the pending messages are replayed in bounded batches, and the next batch follows
+ * the client's bulk acknowledgement of the previous one. Queueing is best effort: a failure is
+ * logged and counted, and the recipient still gets the conversation broadcast.
+ */
+@Service
+public class MessageDeliveryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageDeliveryService.class);
+
+    // Buffered (write-behind) messages may not be readable yet; only older missing ids are dropped
+    private static final Duration MISSING_MESSAGE_GRACE = Duration.ofMinutes(1);
+
+    private final ConversationMembership conversationMembership;
+    private final DeliveryQueue deliveryQueue;
+    private final MessageRepository messageRepository;
+    private final MessageEventOutbox messageEventOutbox;
+    private final ReceiptWatermarkTracker receiptWatermarkTracker;
+    private final MetricsCollector metricsCollector;
+    private final int replayBatchSize;
+    private final Clock clock = Clock.systemUTC();
+
+    public MessageDeliveryService(ConversationMembership conversationMembership,
+                                  DeliveryQueue deliveryQueue,
+                                  MessageRepository messageRepository,
+                                  MessageEventOutbox messageEventOutbox,
+                                  ReceiptWatermarkTracker receiptWatermarkTracker,
+                                  MetricsCollector metricsCollector,
+                                  @Value("${app.chat.delivery.replay-batch-size:100}") int replayBatchSize) {
+        this.conversationMembership = conversationMembership;
+        this.deliveryQueue = deliveryQueue;
+        this.messageRepository = messageRepository;
+        this.messageEventOutbox = messageEventOutbox;
+        this.receiptWatermarkTracker = receiptWatermarkTracker;
+        this.metricsCollector = metricsCollector;
+        this.replayBatchSize = replayBatchSize;
+    }
+
+    /**
+     * Queue a sent message for every participant other than the sender until they acknowledge it.
+     * Never throws for a queue failure, so the caller can always broadcast the committed message.
+     */
+    public void enqueueForRecipients(ConversationId conversationId, UserId senderId,
+                                     MessageId messageId, Instant sentAt) {
+        List<UserId> recipients = new ArrayList<>(conversationMembership.participantsOf(conversationId));
+        recipients.remove(senderId);
+        try {
+            deliveryQueue.enqueue(recipients, messageId, sentAt);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to queue message {} for its recipients", messageId.getValue(), e);
+            metricsCollector.incrementCounter("chat.delivery.enqueue.failed");
+        }
+    }
+
+    /**
+     * Next batch of pending messages of the user, oldest first.
+     */
+    public List<Message> nextBatch(UserId userId) {
+        List<PendingDelivery> pending = deliveryQueue.pending(userId, replayBatchSize);
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        Map<MessageId, Message> found = messageRepository.findAllById(
+                pending.stream().map(PendingDelivery::messageId).toList())
+            .stream()
+            .collect(Collectors.toMap(Message::getId, Function.identity()));
+
+        // Deleted messages would otherwise stay at the head of the queue
+        Instant missingBefore = clock.instant().minus(MISSING_MESSAGE_GRACE);
+        List<MessageId> missing = pending.stream()
+            .filter(entry -> !found.containsKey(entry.messageId()) && entry.sentAt().isBefore(missingBefore))
+            .map(PendingDelivery::messageId)
+            .toList();
+        deliveryQueue.acknowledge(userId, missing);
+
+        return found.values().stream()
+            .sorted(Comparator.comparing(Message::getSentAt).thenComparing(message -> message.getId().getValue()))
+            .toList();
+    }
+
+    /**
+     * Acknowledge delivery of messages to the user: SENT messages become DELIVERED in one statement,
+     * a MessageDeliveredEvent is recorded for each message delivered to this user for the first time,
+     * and once that commits the messages leave the user's queue and the user's delivered watermark
+     * of each conversation advances to the newest acknowledged message. A rolled back
+     * acknowledgement leaves the messages queued, to be replayed.
+     */
+    @Transactional
+    public void acknowledge(UserId userId, Collection<MessageId> messageIds) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        Instant deliveredAt = clock.instant();
+        List<Message> delivered = messageRepository.markDelivered(messageIds, userId, deliveredAt);
+        messageEventOutbox.append(delivered.stream()
+            .map(message -> new MessageDeliveredEvent(message.getId(), message.getConversationId(), userId,
+                deliveredAt))
+            .toList());
+
+        // The watermark is coalesced, so an acknowledgement repeated before it is written records the event again
+        BinaryOperator<MessageCursor> later = (a, b) -> b.isAfter(a) ? b : a;
+        Map<ConversationId, MessageCursor> positions = delivered.stream()
+            .collect(Collectors.toMap(Message::getConversationId, MessageCursor::of, later));
+        List<MessageId> acknowledged = List.copyOf(messageIds);
+        TransactionHooks.afterCommit(() -> {
+            deliveryQueue.acknowledge(userId, acknowledged);
+            positions.forEach((conversationId, position) ->
+                receiptWatermarkTracker.recordDelivered(conversationId, userId, position));
+        });
+    }
+}
@@ -1,37 +1,160 @@
 package com.realtime.communication.chat.domain.service;
 
 import com.realtime.communication.auth.domain.model.UserId;
-import org.springframework.data.redis.core.RedisTemplate;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.TypingSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
- * Service for managing typing indicators
+ * Service for managing typing indicators.
+ * Typing state lives in memory on the node that owns the user's session. Repeated start events
+ * only push the user's deadline back, and deadlines are expired by a hashed timer wheel instead
+ * of key TTLs. Changes are collected into one snapshot per conversation by {@link #pollSnapshots()}.
  */
 @Service
 public class TypingIndicatorService {
 
     private static final Duration TYPING_TIMEOUT = Duration.ofSeconds(5);
-    private final RedisTemplate<String, String> redisTemplate;
+    private static final long TICK_MILLIS = 100;
+    // One revolution spans more than the timeout, so a deadline never lands in an earlier lap
+    private static final int WHEEL_SIZE = (int) (TYPING_TIMEOUT.toMillis() / TICK_MILLIS) + 2;
 
-    public TypingIndicatorService(RedisTemplate<String, String> redisTemplate) {
-        this.redisTemplate = redisTemplate;
+    private final Clock clock;
+    private final Map<TypingKey, Long> deadlines = new ConcurrentHashMap<>();
+    private final Set<TypingKey> changed = ConcurrentHashMap.newKeySet();
+    private final Queue<TypingKey>[] wheel;
+
+    // Only touched under the service's lock
+    private final Map<UUID, Set<UUID>> announced = new HashMap<>();
+    private long processedTick;
+
+    @Autowired
+    public TypingIndicatorService() {
+        this(Clock.systemUTC());
+    }
+
+    @SuppressWarnings("unchecked")
+    public TypingIndicatorService(Clock clock) {
+        this.clock = clock;
+        this.wheel = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.processedTick = clock.millis() / TICK_MILLIS;
     }
 
     public void startTyping(UserId userId, UUID conversationId) {
-        String key = getTypingKey(conversationId, userId);
-        redisTemplate.opsForValue().set(key, "true", TYPING_TIMEOUT);
+        TypingKey key = new TypingKey(conversationId, userId.getValue());
+        long deadline = clock.millis() + TYPING_TIMEOUT.toMillis();
+        if (deadlines.put(key, deadline) == null) {
+            schedule(key, deadline);
+            changed.add(key);
+        }
     }
 
     public void stopTyping(UserId userId, UUID conversationId) {
-        String key = getTypingKey(conversationId, userId);
-        redisTemplate.delete(key);
+        TypingKey key = new TypingKey(conversationId, userId.getValue());
+        if (deadlines.remove(key) != null) {
+            changed.add(key);
+        }
     }
 
-    private String getTypingKey(UUID conversationId, UserId userId) {
-        return "typing:" + conversationId + ":" + userId.getValue();
+    public boolean isTyping(UserId userId, UUID conversationId) {
+        return deadlines.containsKey(new TypingKey(conversationId, userId.getValue()));
+    }
+
+    /**
+     * Expire overdue typing states and return, per conversation, the users who started or stopped
+     * typing since the previous call. A user who started and stopped in between is not reported.
+     */
+    public synchronized List<TypingSnapshot> pollSnapshots() {
+        expire(clock.millis());
+        if (changed.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, List<UUID>> started = new LinkedHashMap<>();
+        Map<UUID, List<UUID>> stopped = new LinkedHashMap<>();
+        for (TypingKey key : changed) {
+            changed.remove(key);
+            Set<UUID> typing = announced.get(key.conversationId());
+            boolean wasAnnounced = typing != null && typing.contains(key.userId());
+            boolean isTyping = deadlines.containsKey(key);
+            if (isTyping && !wasAnnounced) {
+                announced.computeIfAbsent(key.conversationId(), id -> new HashSet<>()).add(key.userId());
+                started.computeIfAbsent(key.conversationId(), id -> new ArrayList<>()).add(key.userId());
+            } else if (!isTyping && wasAnnounced) {
+                typing.remove(key.userId());
+                if (typing.isEmpty()) {
+                    announced.remove(key.conversationId());
+                }
+                stopped.computeIfAbsent(key.conversationId(), id -> new ArrayList<>()).add(key.userId());
+            }
+        }
+        Set<UUID> conversations = new HashSet<>(started.keySet());
+        conversations.addAll(stopped.keySet());
+        List<TypingSnapshot> snapshots = new ArrayList<>(conversations.size());
+        for (UUID conversationId : conversations) {
+            snapshots.add(new TypingSnapshot(new ConversationId(conversationId),
+                started.getOrDefault(conversationId, List.of()),
+                stopped.getOrDefault(conversationId, List.of())));
+        }
+        return snapshots;
     }
-}
 
+    /**
+     * Users announced as typing by the last {@link #pollSnapshots()}, per conversation id.
+     */
+    public synchronized Map<UUID, Set<UUID>> announcedTypers() {
+        Map<UUID, Set<UUID>> typers = new HashMap<>(announced.size());
+        announced.forEach((conversationId, users) -> typers.put(conversationId, Set.copyOf(users)));
+        return typers;
+    }
+
+    private void expire(long now) {
+        long currentTick = now / TICK_MILLIS;
+        long lastTick = Math.min(currentTick, processedTick + WHEEL_SIZE);
+        for (long tick = processedTick + 1; tick <= lastTick; tick++) {
+            Queue<TypingKey> slot = wheel[(int) (tick % WHEEL_SIZE)];
+            // Drain first: entries rescheduled below may land in this same slot
+            List<TypingKey> due = new ArrayList<>();
+            for (TypingKey key = slot.poll(); key != null; key = slot.poll()) {
+                due.add(key);
+            }
+            for (TypingKey key : due) {
+                Long deadline = deadlines.get(key);
+                if (deadline == null) {
+                    continue;
+                }
+                if (deadline <= now && deadlines.remove(key, deadline)) {
+                    changed.add(key);
+                } else {
+                    // Deadline was pushed back by a repeated start event
+                    schedule(key, Math.max(deadline, now + 1));
+                }
+            }
+        }
+        processedTick = Math.max(processedTick, currentTick);
+    }
+
+    private void schedule(TypingKey key, long deadline) {
+        long tick = (deadline + TICK_MILLIS - 1) / TICK_MILLIS;
+        wheel[(int) (tick % WHEEL_SIZE)].add(key);
+    }
+
+    private record TypingKey(UUID conversationId, UUID userId) {}
+}
@@ -1,10 +1,30 @@
 package com.realtime.communication.chat.infrastructure.config;
 
+import com.realtime.communication.chat.adapter.in.websocket.BroadcastFrameCachingStompEncoder;
+import com.realtime.communication.chat.adapter.in.websocket.ConversationSubscriptionRegistry;
+import com.realtime.communication.chat.adapter.in.websocket.StompAuthenticationInterceptor;
+import com.realtime.communication.chat.adapter.in.websocket.UserIdArgumentResolver;
+import com.realtime.communication.chat.adapter.in.websocket.WebSocketSessionSweeper;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.handler.invocation.HandlerMethodArgumentResolver;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.util.List;
 
 /**
  * WebSocket configuration for STOMP messaging
@@ -13,6 +33,15 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompAuthenticationInterceptor stompAuthenticationInterceptor;
+    private final WebSocketSessionSweeper webSocketSessionSweeper;
+
+    public WebSocketConfig(StompAuthenticationInterceptor stompAuthenticationInterceptor,
+                           WebSocketSessionSweeper webSocketSessionSweeper) {
+        this.stompAuthenticationInterceptor = stompAuthenticationInterceptor;
+        this.webSocketSessionSweeper = webSocketSessionSweeper;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // Enable simple broker for /topic and /queue destinations
@@ -32,4 +61,55 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
             .setAllowedOriginPatterns("*")
             .withSockJS();
     }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // Authenticate CONNECT once per session
+        registration.interceptors(stompAuthenticationInterceptor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(webSocketSessionSweeper);
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> argumentResolvers) {
+        argumentResolvers.add(new UserIdArgumentResolver());
+    }
+
+    /**
+     * Swaps the simple broker's subscription registry for one that indexes conversation topics,
+     * since the broker registration API does not expose the registry.
+     */
+    @Bean
+    public static BeanPostProcessor conversationSubscriptionRegistryPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof SimpleBrokerMessageHandler brokerHandler) {
+                    brokerHandler.setSubscriptionRegistry(new ConversationSubscriptionRegistry());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Installs a frame-caching STOMP encoder once the endpoint registry has added its protocol handler,
+     * since the endpoint registration API does not expose the encoder.
+     */
+    @Bean
+    public SmartInitializingSingleton broadcastFrameEncoderInstaller(
+            @Qualifier("subProtocolWebSocketHandler") WebSocketHandler subProtocolWebSocketHandler,
+            @Value("${app.websocket.frame-cache.max-bytes:33554432}") long frameCacheMaxBytes) {
+        return () -> {
+            if (subProtocolWebSocketHandler instanceof SubProtocolWebSocketHandler handler) {
+                StompEncoder encoder = new BroadcastFrameCachingStompEncoder(frameCacheMaxBytes);
+                handler.getProtocolHandlers().stream()
+                    .filter(StompSubProtocolHandler.class::isInstance)
+                    .forEach(protocolHandler -> ((StompSubProtocolHandler) protocolHandler).setEncoder(encoder));
+            }
+        };
+    }
 }
@@ -17,8 +17,15 @@ public abstract class Event {
     private final String eventType;
 
     protected Event() {
-        this.eventId = UUID.randomUUID().toString();
-        this.occurredOn = Instant.now();
+        this(UUID.randomUUID().toString(), Instant.now());
+    }
+
+    /**
+     * Rebuild an event that was serialized elsewhere, keeping its identity and time.
+     */
+    protected Event(String eventId, Instant occurredOn) {
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
         this.eventType = this.getClass().getSimpleName();
     }
 }
@@ -0,0 +1,16 @@
+package com.realtime.communication.shared.domain.exception;
+
+/**
+ * Exception thrown when a request is shed because a bounded resource is saturated.
+ * Clients should retry with backoff.
+ */
+public class ServiceUnavailableException extends DomainException {
+
+    public ServiceUnavailableException(String message) {
+        super(message, "SERVICE_UNAVAILABLE");
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, "SERVICE_UNAVAILABLE", cause);
+    }
+}
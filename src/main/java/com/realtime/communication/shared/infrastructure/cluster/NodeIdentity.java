@@ -0,0 +1,24 @@
+package com.realtime.communication.shared.infrastructure.cluster;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Identity of this application instance within the cluster.
+ * Configured via app.cluster.node-id; a random id is generated per process when unset.
+ */
+@Component
+public class NodeIdentity {
+
+    private final String nodeId;
+
+    public NodeIdentity(@Value("${app.cluster.node-id:}") String configuredNodeId) {
+        this.nodeId = configuredNodeId.isBlank() ? UUID.randomUUID().toString() : configuredNodeId;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,49 @@
+package com.realtime.communication.shared.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * Scheduler configuration for background jobs.
+ * The STOMP broker registers its own TaskScheduler, so Boot's auto-configured scheduler (and
+ * spring.task.scheduling) does not apply; @Scheduled jobs are bound to taskScheduler explicitly.
+ * Its pool has a thread per job, so a job blocked on Kafka or a long batch only delays itself.
+ * The presence heartbeat runs on a scheduler of its own: a missed heartbeat gets the node's
+ * users marked offline by the other nodes.
+ */
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    private final int poolSize;
+
+    public SchedulingConfig(@Value("${app.scheduling.pool-size:10}") int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        return scheduler("scheduled-", poolSize);
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler presenceHeartbeatScheduler() {
+        return scheduler("presence-heartbeat-", 1);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.setTaskScheduler(taskScheduler());
+    }
+
+    private static ThreadPoolTaskScheduler scheduler(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        scheduler.setDaemon(true);
+        return scheduler;
+    }
+}
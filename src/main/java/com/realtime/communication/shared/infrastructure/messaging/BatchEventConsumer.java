@@ -0,0 +1,353 @@
+package com.realtime.communication.shared.infrastructure.messaging;
+
+import com.realtime.communication.shared.application.event.Event;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base class for batch Kafka consumers of typed events.
+ * Subclasses declare listeners on batchEventListenerContainerFactory, one for the topic and one for
+ * its ".retry" topic, and pass each polled batch to {@link #consume}. Records are grouped by key and
+ * the groups run in parallel, so records with the same key are handled in offset order. Offsets are
+ * committed once per batch, after every record was handled or forwarded.
+ *
+ * <p>A record whose handler fails is forwarded to the retry topic, and to the ".dlt" topic after
+ * maxAttempts; later records with the same key in the batch follow it to the retry topic. Keys with
+ * records in the retry topic are tracked in PendingRetries, and their records in later batches are
+ * diverted to the retry topic as well until the retries are done, so a key's order is kept across
+ * batches too (best effort: see the PendingRetries implementation). Records that cannot be
+ * deserialized go straight to the dead-letter topic. Delivery is at least once (a batch is
+ * redelivered if forwarding fails), so handlers must be idempotent.
+ */
+public abstract class BatchEventConsumer {
+
+    public static final String RETRY_SUFFIX = ".retry";
+    public static final String DLT_SUFFIX = ".dlt";
+    static final String ATTEMPTS_HEADER = "x-attempts";
+    static final String NOT_BEFORE_HEADER = "x-not-before";
+    static final String EXCEPTION_HEADER = "x-exception";
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchEventConsumer.class);
+    private static final long FORWARD_TIMEOUT_MILLIS = 10_000;
+
+    private final String name;
+    private final Deserializer<Event> deserializer;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final PendingRetries pendingRetries;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final Map<TopicPartition, AtomicLong> partitionLag = new ConcurrentHashMap<>();
+    private final Timer batchTimer;
+    private final Counter processedCounter;
+    private final Counter retriedCounter;
+    private final Counter deadLetteredCounter;
+
+    protected BatchEventConsumer(String name,
+                                 Deserializer<Event> deserializer,
+                                 KafkaTemplate<String, byte[]> kafkaTemplate,
+                                 PendingRetries pendingRetries,
+                                 MeterRegistry meterRegistry,
+                                 int parallelism,
+                                 int maxAttempts,
+                                 long retryBackoffMillis) {
+        this.name = name;
+        this.deserializer = deserializer;
+        this.kafkaTemplate = kafkaTemplate;
+        this.pendingRetries = pendingRetries;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, name + "-consumer-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchTimer = Timer.builder("kafka.consumer.batch").tag("consumer", name).register(meterRegistry);
+        this.processedCounter = outcomeCounter("processed");
+        this.retriedCounter = outcomeCounter("retried");
+        this.deadLetteredCounter = outcomeCounter("dead-lettered");
+    }
+
+    /**
+     * Dead-letter topic of a topic or of its retry topic.
+     */
+    public static String deadLetterTopicOf(String topic) {
+        return baseTopicOf(topic) + DLT_SUFFIX;
+    }
+
+    /**
+     * Handle one event. Throwing sends the record to the retry topic.
+     */
+    protected abstract void handle(Event event);
+
+    /**
+     * Handle a polled batch. Must be called on the listener thread, which owns the consumer.
+     */
+    protected void consume(List<ConsumerRecord<String, byte[]>> records, Consumer<?, ?> consumer) {
+        if (records.isEmpty()) {
+            return;
+        }
+        batchTimer.record(() -> {
+            awaitRetryDeadline(records);
+            List<FailedRecord> failed = processInLanes(records, keysInRetry(records));
+            forward(failed);
+            trackPendingRetries(records, failed);
+        });
+        recordLag(records, consumer);
+    }
+
+    @PreDestroy
+    public void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    private List<FailedRecord> processInLanes(List<ConsumerRecord<String, byte[]>> records, Set<String> keysInRetry) {
+        Map<String, List<ConsumerRecord<String, byte[]>>> lanes = new LinkedHashMap<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            String lane = record.key() != null ? record.key() : record.topic() + "-" + record.partition();
+            lanes.computeIfAbsent(lane, key -> new ArrayList<>()).add(record);
+        }
+        List<CompletableFuture<List<FailedRecord>>> results = lanes.values().stream()
+            .map(lane -> CompletableFuture.supplyAsync(() -> processLane(lane, keysInRetry), executor))
+            .toList();
+        List<FailedRecord> failed = new ArrayList<>();
+        results.forEach(result -> failed.addAll(result.join()));
+        // Forward in offset order so a key's records reach the retry topic in their original order
+        failed.sort(Comparator.comparingInt((FailedRecord f) -> f.record().partition())
+            .thenComparingLong(f -> f.record().offset()));
+        return failed;
+    }
+
+    private List<FailedRecord> processLane(List<ConsumerRecord<String, byte[]>> lane, Set<String> keysInRetry) {
+        List<FailedRecord> failed = new ArrayList<>();
+        for (ConsumerRecord<String, byte[]> record : lane) {
+            if (!failed.isEmpty() || isDiverted(record, keysInRetry)) {
+                failed.add(new FailedRecord(record, Outcome.DEFERRED, null));
+                continue;
+            }
+            Event event;
+            try {
+                event = deserializer.deserialize(record.topic(), record.value());
+            } catch (RuntimeException e) {
+                logger.warn("Cannot deserialize record {}-{}@{}", record.topic(), record.partition(),
+                    record.offset(), e);
+                failed.add(new FailedRecord(record, Outcome.POISON, e));
+                continue;
+            }
+            try {
+                handle(event);
+                processedCounter.increment();
+            } catch (RuntimeException e) {
+                logger.warn("Consumer {} failed to handle {} {}", name, event.getEventType(), event.getEventId(), e);
+                failed.add(new FailedRecord(record, Outcome.FAILED, e));
+            }
+        }
+        return failed;
+    }
+
+    private void forward(List<FailedRecord> failed) {
+        if (failed.isEmpty()) {
+            return;
+        }
+        List<CompletableFuture<?>> sends = new ArrayList<>(failed.size());
+        for (FailedRecord failure : failed) {
+            ProducerRecord<String, byte[]> redirected = redirect(failure);
+            if (redirected.topic().endsWith(DLT_SUFFIX)) {
+                deadLetteredCounter.increment();
+            } else {
+                retriedCounter.increment();
+            }
+            sends.add(kafkaTemplate.send(redirected));
+        }
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                .get(FORWARD_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while forwarding failed records", e);
+        } catch (ExecutionException | TimeoutException e) {
+            // Nothing is committed; the container's error handler redelivers the batch
+            throw new KafkaException("Failed to forward " + failed.size() + " records", e);
+        }
+    }
+
+    private ProducerRecord<String, byte[]> redirect(FailedRecord failure) {
+        ConsumerRecord<String, byte[]> record = failure.record();
+        String topic = baseTopicOf(record.topic()) + (isDead(failure) ? DLT_SUFFIX : RETRY_SUFFIX);
+        ProducerRecord<String, byte[]> redirected = new ProducerRecord<>(topic, record.key(), record.value());
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith("x-")) {
+                redirected.headers().add(header);
+            }
+        }
+        redirected.headers()
+            .add(ATTEMPTS_HEADER, utf8(Integer.toString(attemptsAfter(failure))))
+            .add(NOT_BEFORE_HEADER, utf8(Long.toString(System.currentTimeMillis() + retryBackoffMillis)));
+        if (failure.error() != null) {
+            redirected.headers().add(EXCEPTION_HEADER, utf8(failure.error().toString()));
+        }
+        return redirected;
+    }
+
+    private int attemptsAfter(FailedRecord failure) {
+        return attemptsOf(failure.record()) + (failure.outcome() == Outcome.DEFERRED ? 0 : 1);
+    }
+
+    private boolean isDead(FailedRecord failure) {
+        return failure.outcome() == Outcome.POISON
+            || (failure.outcome() == Outcome.FAILED && attemptsAfter(failure) >= maxAttempts);
+    }
+
+    private static boolean isDiverted(ConsumerRecord<String, byte[]> record, Set<String> keysInRetry) {
+        return record.key() != null && !isRetry(record) && keysInRetry.contains(record.key());
+    }
+
+    private Set<String> keysInRetry(List<ConsumerRecord<String, byte[]>> records) {
+        Set<String> keys = new HashSet<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            if (record.key() != null && !isRetry(record)) {
+                keys.add(record.key());
+            }
+        }
+        return pendingRetries.inRetry(keys);
+    }
+
+    /**
+     * A key enters retry with each of its records forwarded from the topic to the retry topic, and
+     * leaves it with each of its retry records that was handled or dead-lettered.
+     */
+    private void trackPendingRetries(List<ConsumerRecord<String, byte[]>> records, List<FailedRecord> failed) {
+        Set<ConsumerRecord<String, byte[]>> retried = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<String> entered = new ArrayList<>();
+        for (FailedRecord failure : failed) {
+            if (!isDead(failure)) {
+                retried.add(failure.record());
+                if (failure.record().key() != null && !isRetry(failure.record())) {
+                    entered.add(failure.record().key());
+                }
+            }
+        }
+        List<String> left = new ArrayList<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            if (record.key() != null && isRetry(record) && !retried.contains(record)) {
+                left.add(record.key());
+            }
+        }
+        pendingRetries.enter(entered);
+        pendingRetries.leave(left);
+    }
+
+    /**
+     * Retry records carry the time they may be retried; waits for the latest one in the batch.
+     * This blocks only the retry topic's listener.
+     */
+    private void awaitRetryDeadline(List<ConsumerRecord<String, byte[]>> records) {
+        long notBefore = 0;
+        for (ConsumerRecord<String, byte[]> record : records) {
+            Header header = record.headers().lastHeader(NOT_BEFORE_HEADER);
+            if (header != null && isRetry(record)) {
+                notBefore = Math.max(notBefore, Long.parseLong(new String(header.value(), StandardCharsets.UTF_8)));
+            }
+        }
+        long delay = Math.min(notBefore - System.currentTimeMillis(), retryBackoffMillis);
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void recordLag(List<ConsumerRecord<String, byte[]>> records, Consumer<?, ?> consumer) {
+        if (consumer == null) {
+            return;
+        }
+        records.stream()
+            .map(record -> new TopicPartition(record.topic(), record.partition()))
+            .distinct()
+            .forEach(partition -> {
+                OptionalLong lag = consumer.currentLag(partition);
+                if (lag.isPresent()) {
+                    partitionLag.computeIfAbsent(partition, this::registerLagGauge).set(lag.getAsLong());
+                }
+            });
+    }
+
+    private AtomicLong registerLagGauge(TopicPartition partition) {
+        AtomicLong lag = new AtomicLong();
+        Gauge.builder("kafka.consumer.partition.lag", lag, AtomicLong::get)
+            .description("Records behind the end of the partition after the last batch")
+            .tag("consumer", name)
+            .tag("topic", partition.topic())
+            .tag("partition", Integer.toString(partition.partition()))
+            .register(meterRegistry);
+        return lag;
+    }
+
+    private Counter outcomeCounter(String outcome) {
+        return Counter.builder("kafka.consumer.events")
+            .tag("consumer", name)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private static int attemptsOf(ConsumerRecord<String, byte[]> record) {
+        Header header = record.headers().lastHeader(ATTEMPTS_HEADER);
+        return header == null ? 0 : Integer.parseInt(new String(header.value(), StandardCharsets.UTF_8));
+    }
+
+    private static boolean isRetry(ConsumerRecord<String, byte[]> record) {
+        return record.topic().endsWith(RETRY_SUFFIX);
+    }
+
+    private static String baseTopicOf(String topic) {
+        return topic.endsWith(RETRY_SUFFIX) ? topic.substring(0, topic.length() - RETRY_SUFFIX.length()) : topic;
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private enum Outcome { FAILED, POISON, DEFERRED }
+
+    private record FailedRecord(ConsumerRecord<String, byte[]> record, Outcome outcome, Exception error) {
+    }
+}
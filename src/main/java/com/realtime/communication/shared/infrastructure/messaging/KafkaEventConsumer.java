@@ -9,6 +9,7 @@ import org.springframework.messaging.handler.annotation.Payload;
 /**
  * Base class for Kafka event consumers.
  * Provides common logging and error handling for event consumption.
+ * Consumers of typed events that need retries and ordering per key should extend BatchEventConsumer.
  */
 public abstract class KafkaEventConsumer {
 
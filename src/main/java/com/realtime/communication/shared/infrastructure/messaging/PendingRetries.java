@@ -0,0 +1,23 @@
+package com.realtime.communication.shared.infrastructure.messaging;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tracks which record keys of a BatchEventConsumer have records waiting in its retry topic, so later
+ * records with those keys can follow them there instead of overtaking them.
+ * Keys are counted once per record: entered when a record is forwarded from the topic to the retry
+ * topic, left when a retry record is handled or dead-lettered.
+ */
+public interface PendingRetries {
+
+    /**
+     * The subset of keys that have records in the retry topic.
+     */
+    Set<String> inRetry(Collection<String> keys);
+
+    void enter(List<String> keys);
+
+    void leave(List<String> keys);
+}
@@ -0,0 +1,112 @@
+package com.realtime.communication.shared.infrastructure.messaging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis implementation of PendingRetries, shared by all instances of a consumer group: the retry
+ * topic's partitions need not be assigned to the instance that forwarded a key's records.
+ * Each key is a counter that expires after ttlMillis without new retries, so a count left behind by
+ * a redelivered batch cannot divert its key forever. Tracking is best effort: when Redis is
+ * unavailable, records are handled as if none of their keys were in retry.
+ *
+ * <p>Keys: kafka:retry-pending:{consumer}:{recordKey}. The scripts write several keys, so this
+ * assumes a non-clustered Redis.
+ */
+public class RedisPendingRetries implements PendingRetries {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisPendingRetries.class);
+    private static final String KEY_PREFIX = "kafka:retry-pending:";
+
+    // KEYS: counters; ARGV: TTL in milliseconds, then the increment of each key
+    private static final RedisScript<Long> ENTER_SCRIPT = new DefaultRedisScript<>("""
+        for i, key in ipairs(KEYS) do
+          redis.call('INCRBY', key, ARGV[i + 1])
+          redis.call('PEXPIRE', key, ARGV[1])
+        end
+        return #KEYS
+        """, Long.class);
+
+    // KEYS: counters; ARGV: the decrement of each key
+    private static final RedisScript<Long> LEAVE_SCRIPT = new DefaultRedisScript<>("""
+        for i, key in ipairs(KEYS) do
+          if redis.call('DECRBY', key, ARGV[i]) <= 0 then
+            redis.call('DEL', key)
+          end
+        end
+        return #KEYS
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final long ttlMillis;
+
+    public RedisPendingRetries(StringRedisTemplate redisTemplate, String consumerName, long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = KEY_PREFIX + consumerName + ":";
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    public Set<String> inRetry(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        List<String> recordKeys = List.copyOf(keys);
+        try {
+            List<String> counts = redisTemplate.opsForValue()
+                .multiGet(recordKeys.stream().map(this::redisKeyOf).toList());
+            Set<String> pending = new HashSet<>();
+            for (int i = 0; i < recordKeys.size(); i++) {
+                if (counts != null && counts.get(i) != null && Long.parseLong(counts.get(i)) > 0) {
+                    pending.add(recordKeys.get(i));
+                }
+            }
+            return pending;
+        } catch (DataAccessException e) {
+            logger.warn("Cannot read keys in retry, records are not diverted", e);
+            return Set.of();
+        }
+    }
+
+    @Override
+    public void enter(List<String> keys) {
+        update(ENTER_SCRIPT, keys, List.of(Long.toString(ttlMillis)));
+    }
+
+    @Override
+    public void leave(List<String> keys) {
+        update(LEAVE_SCRIPT, keys, List.of());
+    }
+
+    private void update(RedisScript<Long> script, List<String> keys, List<String> leadingArgs) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        keys.forEach(key -> counts.merge(redisKeyOf(key), 1, Integer::sum));
+        List<String> args = new ArrayList<>(leadingArgs);
+        counts.values().forEach(count -> args.add(Integer.toString(count)));
+        try {
+            redisTemplate.execute(script, List.copyOf(counts.keySet()), args.toArray());
+        } catch (DataAccessException e) {
+            logger.warn("Cannot update {} keys in retry", counts.size(), e);
+        }
+    }
+
+    private String redisKeyOf(String recordKey) {
+        return keyPrefix + recordKey;
+    }
+}
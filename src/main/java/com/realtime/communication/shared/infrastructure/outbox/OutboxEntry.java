@@ -0,0 +1,7 @@
+package com.realtime.communication.shared.infrastructure.outbox;
+
+/**
+ * An event waiting in the outbox: the Kafka topic and key it goes to and its serialized form.
+ */
+public record OutboxEntry(String topic, String key, String eventType, byte[] payload) {
+}
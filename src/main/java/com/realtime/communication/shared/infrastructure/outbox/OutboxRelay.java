@@ -0,0 +1,183 @@
+package com.realtime.communication.shared.infrastructure.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relays outbox rows to Kafka in id order and deletes them once acknowledged.
+ * Only one node relays at a time (a session-level advisory lock), so events with the same
+ * key reach their partition in the order they were committed. The lock is held on one pinned
+ * connection whose statements run in autocommit, so no transaction stays open while Kafka
+ * acknowledges: the batch is read, sent and then deleted in separate short statements.
+ * A batch is sent without waiting per record and awaited against a single deadline; only the
+ * acknowledged prefix is deleted, so a failed event is retried before anything behind it.
+ * Delivery is at least once: consumers must tolerate duplicates.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final long RELAY_LOCK_ID = 0x6F7574626F78L;
+    private static final String EVENT_TYPE_HEADER = "eventType";
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_lock(?)";
+    private static final String UNLOCK_SQL = "SELECT pg_advisory_unlock(?)";
+    private static final String SELECT_SQL =
+        "SELECT id, topic, message_key, event_type, payload FROM outbox_events ORDER BY id LIMIT ?";
+    private static final String DELETE_SQL = "DELETE FROM outbox_events WHERE id = ANY (?)";
+    private static final String OLDEST_SQL = "SELECT created_at FROM outbox_events ORDER BY id LIMIT 1";
+    private static final RowMapper<OutboxRow> ROW_MAPPER = (rs, rowNum) -> new OutboxRow(
+        rs.getLong("id"),
+        new OutboxEntry(rs.getString("topic"), rs.getString("message_key"), rs.getString("event_type"),
+            rs.getBytes("payload")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final int batchSize;
+    private final long sendTimeoutMillis;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Timer batchTimer;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+
+    OutboxRelay(JdbcTemplate jdbcTemplate,
+                KafkaTemplate<String, byte[]> kafkaTemplate,
+                MeterRegistry meterRegistry,
+                @Value("${app.outbox.relay.batch-size:500}") int batchSize,
+                @Value("${app.outbox.relay.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+
+        Gauge.builder("outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+            .baseUnit("seconds")
+            .description("Age of the oldest event not yet relayed to Kafka")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+            .description("Time taken to relay one batch of outbox events")
+            .register(meterRegistry);
+        this.publishedCounter = Counter.builder("outbox.published")
+            .description("Outbox events acknowledged by Kafka")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.publish.failed")
+            .description("Outbox events that failed to publish and will be retried")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval-ms:100}")
+    public void relay() {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                relayWhileLocked(new JdbcTemplate(new SingleConnectionDataSource(connection, true)));
+                return null;
+            });
+            updateLag();
+        } catch (DataAccessException e) {
+            logger.error("Failed to relay outbox events, will retry", e);
+        }
+    }
+
+    private void relayWhileLocked(JdbcTemplate session) {
+        if (!Boolean.TRUE.equals(session.queryForObject(LOCK_SQL, Boolean.class, RELAY_LOCK_ID))) {
+            return;
+        }
+        try {
+            int relayed;
+            do {
+                relayed = batchTimer.record(() -> relayBatch(session));
+            } while (relayed == batchSize);
+        } finally {
+            session.queryForObject(UNLOCK_SQL, Boolean.class, RELAY_LOCK_ID);
+        }
+    }
+
+    private int relayBatch(JdbcTemplate session) {
+        List<OutboxRow> batch = session.query(SELECT_SQL, ROW_MAPPER, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<SendResult<String, byte[]>>> sends = new ArrayList<>(batch.size());
+        for (OutboxRow row : batch) {
+            ProducerRecord<String, byte[]> record =
+                new ProducerRecord<>(row.entry().topic(), row.entry().key(), row.entry().payload());
+            record.headers().add(EVENT_TYPE_HEADER, row.entry().eventType().getBytes(StandardCharsets.UTF_8));
+            sends.add(kafkaTemplate.send(record));
+        }
+
+        int acknowledged = awaitAcknowledgedPrefix(sends);
+        if (acknowledged > 0) {
+            Long[] ids = batch.subList(0, acknowledged).stream().map(OutboxRow::id).toArray(Long[]::new);
+            session.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(DELETE_SQL);
+                ps.setArray(1, connection.createArrayOf("bigint", ids));
+                return ps;
+            });
+            publishedCounter.increment(acknowledged);
+        }
+        if (acknowledged < batch.size()) {
+            // Ends this round with less than a full batch; the rest is retried on the next tick
+            failedCounter.increment(batch.size() - acknowledged);
+        }
+        return acknowledged;
+    }
+
+    private int awaitAcknowledgedPrefix(List<CompletableFuture<SendResult<String, byte[]>>> sends) {
+        // One deadline for the whole batch, so a stalled broker costs sendTimeoutMillis per round
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        int acknowledged = 0;
+        for (CompletableFuture<SendResult<String, byte[]>> send : sends) {
+            try {
+                send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                acknowledged++;
+            } catch (ExecutionException | TimeoutException e) {
+                logger.warn("Failed to publish outbox event, {} of {} acknowledged", acknowledged, sends.size(), e);
+                break;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return acknowledged;
+    }
+
+    private void updateLag() {
+        List<LocalDateTime> oldest = jdbcTemplate.queryForList(OLDEST_SQL, LocalDateTime.class);
+        lagMillis.set(oldest.isEmpty()
+            ? 0
+            : Math.max(0, Duration.between(oldest.get(0), LocalDateTime.now(ZoneOffset.UTC)).toMillis()));
+    }
+
+    private record OutboxRow(long id, OutboxEntry entry) {
+    }
+}
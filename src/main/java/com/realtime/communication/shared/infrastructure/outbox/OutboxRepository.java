@@ -0,0 +1,43 @@
+package com.realtime.communication.shared.infrastructure.outbox;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Appends events to the outbox_events table.
+ * Appending requires an active transaction: an outbox row is only useful if it commits or
+ * rolls back together with the change it describes. OutboxRelay publishes and removes the rows.
+ */
+@Repository
+public class OutboxRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO outbox_events "
+        + "(topic, message_key, event_type, payload, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(List<OutboxEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.topic());
+            ps.setString(2, entry.key());
+            ps.setString(3, entry.eventType());
+            ps.setBytes(4, entry.payload());
+            ps.setObject(5, now);
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.realtime.communication.shared.infrastructure.persistence;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+/**
+ * Base class for JPA entities whose UUID id is assigned by the domain before they are stored.
+ * Spring Data treats an entity with a non-null id as existing and merges it, which costs a
+ * SELECT before every INSERT. An entity built by an adapter is new until it was persisted or
+ * loaded, so saving it persists directly.
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity implements Persistable<UUID> {
+
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,35 @@
+package com.realtime.communication.shared.infrastructure.web;
+
+import com.realtime.communication.shared.domain.exception.ServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps domain exceptions to HTTP responses for the REST controllers.
+ * The domain package stays free of web annotations; the status of each exception type is decided here.
+ * Only load shedding is mapped so far; other exceptions keep their existing handling.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(ServiceUnavailableException e) {
+        logger.warn("Request shed: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+            .body(new ErrorResponse(e.getErrorCode(), e.getMessage()));
+    }
+
+    /**
+     * Error body
+     */
+    public record ErrorResponse(String errorCode, String message) {}
+}
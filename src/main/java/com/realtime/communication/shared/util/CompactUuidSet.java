@@ -0,0 +1,79 @@
+package com.realtime.communication.shared.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Immutable set of UUIDs packed into a sorted long array, two longs per element.
+ * Avoids a UUID object and a hash entry per member; lookups are a binary search.
+ */
+public final class CompactUuidSet {
+
+    private static final CompactUuidSet EMPTY = new CompactUuidSet(new long[0]);
+
+    // Interleaved (mostSigBits, leastSigBits) pairs, sorted in UUID.compareTo order, no duplicates
+    private final long[] bits;
+
+    private CompactUuidSet(long[] bits) {
+        this.bits = bits;
+    }
+
+    public static CompactUuidSet of(Collection<UUID> uuids) {
+        if (uuids.isEmpty()) {
+            return EMPTY;
+        }
+        UUID[] sorted = uuids.toArray(new UUID[0]);
+        Arrays.sort(sorted);
+
+        long[] bits = new long[sorted.length * 2];
+        int size = 0;
+        for (UUID uuid : sorted) {
+            if (size > 0 && uuid.equals(sorted[size - 1])) {
+                continue;
+            }
+            sorted[size] = uuid;
+            bits[size * 2] = uuid.getMostSignificantBits();
+            bits[size * 2 + 1] = uuid.getLeastSignificantBits();
+            size++;
+        }
+        return new CompactUuidSet(size * 2 == bits.length ? bits : Arrays.copyOf(bits, size * 2));
+    }
+
+    public boolean contains(UUID uuid) {
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Long.compare(bits[mid * 2], msb);
+            if (cmp == 0) {
+                cmp = Long.compare(bits[mid * 2 + 1], lsb);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return bits.length / 2;
+    }
+
+    public boolean isEmpty() {
+        return bits.length == 0;
+    }
+
+    public void forEach(Consumer<UUID> action) {
+        for (int i = 0; i < bits.length; i += 2) {
+            action.accept(new UUID(bits[i], bits[i + 1]));
+        }
+    }
+}
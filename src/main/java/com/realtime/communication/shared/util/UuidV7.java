@@ -0,0 +1,58 @@
+package com.realtime.communication.shared.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generator of time-ordered version 7 UUIDs (RFC 9562).
+ * The top 48 bits are the Unix time in milliseconds and the 12 rand_a bits are a counter, so ids
+ * generated later sort higher, both with UUID.compareTo and with PostgreSQL's byte order, and new
+ * rows land at the right edge of a UUID primary-key index. The remaining 62 bits are random.
+ *
+ * <p>Ids are strictly increasing within the JVM. The (millisecond, counter) pair is one AtomicLong
+ * advanced by compare-and-set, with no lock; when more than 4096 ids are generated in a millisecond,
+ * or the clock steps back, the counter carries into the timestamp, which then runs slightly ahead
+ * of the clock until it catches up. Across nodes ids are ordered to the millisecond only.
+ */
+public final class UuidV7 {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    // (millis << 12) | counter of the last id handed out
+    private static final AtomicLong lastTick = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        long tick = nextTick(System.currentTimeMillis() << COUNTER_BITS);
+        long mostSigBits = ((tick >>> COUNTER_BITS) << 16) | VERSION | (tick & COUNTER_MASK);
+        long leastSigBits = VARIANT | (ThreadLocalRandom.current().nextLong() & RANDOM_MASK);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Unix time in milliseconds embedded in a version 7 UUID.
+     */
+    public static long timestampOf(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static long nextTick(long now) {
+        while (true) {
+            long last = lastTick.get();
+            long next = Math.max(now, last + 1);
+            if (lastTick.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
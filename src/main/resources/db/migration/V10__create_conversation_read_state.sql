@@ -0,0 +1,15 @@
+-- Per-participant delivery and read watermarks: the (sent_at, id) position of the newest message
+-- delivered to and read by the user in the conversation. Unread counts are the messages after the
+-- read position. '-infinity' and the nil UUID mean nothing was delivered or read yet.
+-- No foreign keys: rows are only written for current participants, and a coalesced batch must
+-- not fail because someone left the conversation in the meantime.
+CREATE TABLE conversation_read_state (
+    conversation_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    delivered_sent_at TIMESTAMP NOT NULL DEFAULT '-infinity',
+    delivered_message_id UUID NOT NULL DEFAULT '00000000-0000-0000-0000-000000000000',
+    read_sent_at TIMESTAMP NOT NULL DEFAULT '-infinity',
+    read_message_id UUID NOT NULL DEFAULT '00000000-0000-0000-0000-000000000000',
+    updated_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (conversation_id, user_id)
+);
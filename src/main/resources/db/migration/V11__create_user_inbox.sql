@@ -0,0 +1,35 @@
+-- Per-user inbox projection: one row per conversation the user participates in, carrying the
+-- last message preview so the conversation list is one index range scan with no joins.
+-- last_message_at is the conversation's creation time until its first message; the nil UUID
+-- means there is no last message yet.
+-- No foreign keys: rows follow conversation_participants asynchronously.
+CREATE TABLE user_inbox (
+    user_id UUID NOT NULL,
+    conversation_id UUID NOT NULL,
+    conversation_type VARCHAR(50) NOT NULL,
+    last_message_id UUID NOT NULL DEFAULT '00000000-0000-0000-0000-000000000000',
+    last_message_sender_id UUID,
+    last_message_preview TEXT,
+    last_message_type VARCHAR(50),
+    last_message_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (user_id, conversation_id)
+);
+
+-- Keyset pagination of a user's inbox, most recent first
+CREATE INDEX idx_user_inbox_recent ON user_inbox(user_id, last_message_at DESC, conversation_id DESC);
+
+-- Fan-out of a new message to every participant's row
+CREATE INDEX idx_user_inbox_conversation ON user_inbox(conversation_id);
+
+INSERT INTO user_inbox (user_id, conversation_id, conversation_type, last_message_id, last_message_sender_id,
+                        last_message_preview, last_message_type, last_message_at)
+SELECT p.user_id, c.id, c.type, COALESCE(m.id, '00000000-0000-0000-0000-000000000000'), m.sender_id,
+       left(m.content, 100), m.type, COALESCE(m.sent_at, c.created_at)
+FROM conversations c
+JOIN conversation_participants p ON p.conversation_id = c.id
+LEFT JOIN LATERAL (
+    SELECT id, sender_id, content, type, sent_at FROM messages
+    WHERE conversation_id = c.id AND NOT deleted
+    ORDER BY sent_at DESC, id DESC
+    LIMIT 1
+) m ON TRUE;
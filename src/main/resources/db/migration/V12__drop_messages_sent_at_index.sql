@@ -0,0 +1,5 @@
+-- Messages are only read per conversation in (sent_at, id) order, which
+-- idx_messages_conversation_keyset serves; no query filters or sorts on sent_at alone.
+-- New ids are time-ordered (UUIDv7), so inserts append at the right edge of the primary key;
+-- dropping this one removes an index write per insert that nothing reads.
+DROP INDEX IF EXISTS idx_messages_sent_at;
@@ -0,0 +1,6 @@
+-- Composite index backing keyset (cursor) pagination of conversation history.
+-- Matches ORDER BY sent_at DESC, id DESC and is scanned backwards for "after" cursors.
+CREATE INDEX idx_messages_conversation_keyset ON messages(conversation_id, sent_at DESC, id DESC);
+
+-- Fully covered by the composite index above
+DROP INDEX IF EXISTS idx_messages_conversation;
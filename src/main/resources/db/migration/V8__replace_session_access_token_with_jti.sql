@@ -0,0 +1,13 @@
+-- Sessions keep only the jti of their access token instead of the whole signed JWT.
+-- Expired rows are dropped first so the rewrite below only copies live sessions.
+-- expires_at holds UTC wall-clock time, so compare against UTC whatever the server TimeZone is.
+DELETE FROM user_sessions WHERE expires_at < (now() AT TIME ZONE 'UTC');
+
+ALTER TABLE user_sessions DROP COLUMN access_token;
+
+-- NULL for sessions created before this migration; their tokens cannot be denylisted
+ALTER TABLE user_sessions ADD COLUMN access_token_id VARCHAR(36);
+
+-- DROP COLUMN only hides the data; the old tokens' heap and TOAST space is freed by rewriting the
+-- table out of band (pg_repack, or VACUUM FULL in a maintenance window), not here, since a rewrite
+-- holds an ACCESS EXCLUSIVE lock and would block every login for its duration.
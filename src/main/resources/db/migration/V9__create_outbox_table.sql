@@ -0,0 +1,10 @@
+-- Transactional outbox: events are inserted in the transaction that makes the change they
+-- describe and relayed to Kafka afterwards, in id order, then deleted.
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    topic VARCHAR(255) NOT NULL,
+    message_key VARCHAR(255),
+    event_type VARCHAR(100) NOT NULL,
+    payload BYTEA NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,106 @@
+package com.realtime.communication.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.realtime.communication.chat.adapter.in.websocket.BroadcastFrameCachingStompEncoder;
+import com.realtime.communication.chat.adapter.out.messaging.ConversationDestinations;
+import com.realtime.communication.chat.adapter.out.messaging.PreEncodedMessage;
+import com.realtime.communication.chat.application.dto.MessageDTO;
+import com.realtime.communication.chat.domain.model.MessageStatus;
+import com.realtime.communication.chat.domain.model.MessageType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.util.MimeTypeUtils;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the outbound cost of one conversation broadcast delivered to N sessions.
+ * "perSession" serializes the DTO once and encodes a frame per session with a session-specific
+ * message-id, as convertAndSend does; "preEncoded" uses PreEncodedMessage with the frame-caching
+ * encoder. Sessions use a handful of subscription ids, as stomp.js clients do ("sub-0", ...).
+ * Run with the GC profiler to compare bytes allocated per broadcast.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BroadcastEncodingBenchmark {
+
+    private static final int SUBSCRIPTION_IDS = 4;
+
+    @Param({"10", "100", "1000"})
+    private int recipients;
+
+    @Param({"perSession", "preEncoded"})
+    private String strategy;
+
+    private ObjectMapper objectMapper;
+    private StompEncoder encoder;
+    private MessageDTO payload;
+    private String destination;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        encoder = "preEncoded".equals(strategy) ? new BroadcastFrameCachingStompEncoder() : new StompEncoder();
+        UUID conversationId = UUID.randomUUID();
+        destination = ConversationDestinations.messages(conversationId);
+        payload = new MessageDTO(UUID.randomUUID(), conversationId, UUID.randomUUID(),
+            "Hello there, this is a fairly ordinary chat message of moderate length.",
+            MessageType.TEXT, MessageStatus.SENT, Instant.now(), null, null, false, null);
+    }
+
+    @Benchmark
+    public void broadcast(Blackhole blackhole) {
+        PreEncodedMessage encoded = PreEncodedMessage.encode(objectMapper, payload);
+        boolean shared = "preEncoded".equals(strategy);
+        for (int r = 0; r < recipients; r++) {
+            String messageId = shared ? encoded.getMessageId() : "session-" + r + "-" + sequence++;
+            blackhole.consume(encoder.encode(frameHeaders(messageId, "sub-" + (r % SUBSCRIPTION_IDS), shared)
+                .getMessageHeaders(), encoded.getBody()));
+        }
+    }
+
+    private StompHeaderAccessor frameHeaders(String messageId, String subscriptionId, boolean shared) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setMessageId(messageId);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        if (shared) {
+            accessor.setHeader(PreEncodedMessage.PRE_ENCODED_HEADER, Boolean.TRUE);
+        }
+        return accessor;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(BroadcastEncodingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
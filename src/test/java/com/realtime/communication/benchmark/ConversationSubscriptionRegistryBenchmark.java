@@ -0,0 +1,98 @@
+package com.realtime.communication.benchmark;
+
+import com.realtime.communication.chat.adapter.in.websocket.ConversationSubscriptionRegistry;
+import com.realtime.communication.chat.adapter.out.messaging.ConversationDestinations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.DefaultSubscriptionRegistry;
+import org.springframework.messaging.simp.broker.SubscriptionRegistry;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MultiValueMap;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares resolving a conversation broadcast's subscribers in the simple broker's default
+ * registry against the indexed ConversationSubscriptionRegistry.
+ * Every session subscribes to one conversation (10 sessions per conversation) and to a user
+ * queue; broadcasts rotate over all conversations, as live traffic does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConversationSubscriptionRegistryBenchmark {
+
+    private static final int SESSIONS_PER_CONVERSATION = 10;
+
+    @Param({"1000", "10000", "100000"})
+    private int subscriptions;
+
+    @Param({"default", "indexed"})
+    private String registryType;
+
+    private SubscriptionRegistry registry;
+    private Message<?>[] broadcasts;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = "indexed".equals(registryType)
+            ? new ConversationSubscriptionRegistry()
+            : new DefaultSubscriptionRegistry();
+
+        int conversations = Math.max(1, subscriptions / SESSIONS_PER_CONVERSATION);
+        broadcasts = new Message<?>[conversations];
+        for (int c = 0; c < conversations; c++) {
+            String destination = ConversationDestinations.messages(UUID.randomUUID());
+            broadcasts[c] = message(SimpMessageType.MESSAGE, null, null, destination);
+            for (int s = 0; s < SESSIONS_PER_CONVERSATION; s++) {
+                String sessionId = "session-" + c + "-" + s;
+                registry.registerSubscription(message(SimpMessageType.SUBSCRIBE, sessionId, "sub-0", destination));
+                registry.registerSubscription(
+                    message(SimpMessageType.SUBSCRIBE, sessionId, "sub-1", "/user/queue/messages-" + sessionId));
+            }
+        }
+    }
+
+    @Benchmark
+    public MultiValueMap<String, String> findSubscribers() {
+        Message<?> broadcast = broadcasts[next];
+        next = next + 1 == broadcasts.length ? 0 : next + 1;
+        return registry.findSubscriptions(broadcast);
+    }
+
+    private static Message<byte[]> message(SimpMessageType type, String sessionId,
+                                           String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ConversationSubscriptionRegistryBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,86 @@
+package com.realtime.communication.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.adapter.out.messaging.BinaryEventCodec;
+import com.realtime.communication.chat.domain.event.MessageSentEvent;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.MessageId;
+import com.realtime.communication.chat.domain.model.MessageType;
+import com.realtime.communication.shared.application.event.Event;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Serializer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares serializing one MessageSentEvent for the message-events topic.
+ * "json" is Spring Kafka's JsonSerializer with type headers, as the default producer does;
+ * "binary" is BinaryEventCodec. The "bytes" counter reports the average payload size per event
+ * (divide by the op count), and the GC profiler reports bytes allocated per event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+    @Param({"json", "binary"})
+    private String format;
+
+    @Param({"16", "256"})
+    private int contentLength;
+
+    private Serializer<Event> serializer;
+    private Event event;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long bytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        serializer = "binary".equals(format)
+            ? new BinaryEventCodec()
+            : new JsonSerializer<>(new ObjectMapper().registerModule(new JavaTimeModule()));
+        event = new MessageSentEvent(MessageId.generate(), ConversationId.generate(), UserId.generate(),
+            "x".repeat(contentLength), MessageType.TEXT);
+    }
+
+    @Benchmark
+    public byte[] serialize(PayloadSize size) {
+        byte[] payload = serializer.serialize("message-events", new RecordHeaders(), event);
+        size.bytes += payload.length;
+        return payload;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(EventSerializationBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
@@ -0,0 +1,78 @@
+package com.realtime.communication.benchmark;
+
+import com.realtime.communication.auth.infrastructure.security.JwtTokenProvider;
+import com.realtime.communication.auth.infrastructure.security.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of authenticating a bearer token.
+ * "twoParses" reproduces the former filter (validate, then parse again for the subject, each with
+ * a freshly built parser); "singleParse" verifies once with a shared parser and no cache hits;
+ * "cached" is a client repeating the same token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "mySecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLong";
+
+    private SecretKey secretKey;
+    private JwtTokenProvider uncachedProvider;
+    private JwtTokenProvider cachedProvider;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        uncachedProvider = new JwtTokenProvider(SECRET, 3600000, 604800000, 0, 300);
+        cachedProvider = new JwtTokenProvider(SECRET, 3600000, 604800000, 100000, 300);
+        token = cachedProvider.generateAccessToken(UUID.randomUUID().toString());
+    }
+
+    @Benchmark
+    public String twoParses() {
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> singleParse() {
+        return uncachedProvider.verify(token);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> cached() {
+        return cachedProvider.verify(token);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(JwtValidationBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
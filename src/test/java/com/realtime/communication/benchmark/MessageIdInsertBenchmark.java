@@ -0,0 +1,141 @@
+package com.realtime.communication.benchmark;
+
+import com.realtime.communication.shared.util.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares inserting messages keyed by random (v4) and time-ordered (v7) UUIDs into PostgreSQL.
+ * The table has the messages primary key and keyset index and is prefilled so the primary key is
+ * larger than shared_buffers; random keys then dirty and split pages all over the index, while
+ * time-ordered keys append at its right edge. One op is a committed batch of BATCH_SIZE rows.
+ * At the end of a trial, WAL bytes per row and the primary key's size are printed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MessageIdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int CONVERSATIONS = 1000;
+    private static final String INSERT_SQL =
+        "INSERT INTO messages (id, conversation_id, sender_id, content, sent_at) VALUES (?, ?, ?, ?, ?)";
+
+    @Param({"v4", "v7"})
+    private String idVersion;
+
+    @Param({"1000000"})
+    private int prefilledRows;
+
+    private PostgreSQLContainer<?> postgres;
+    private Connection connection;
+    private PreparedStatement insert;
+    private UUID[] conversationIds;
+    private long insertedRows;
+    private String startLsn;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withCommand("postgres", "-c", "shared_buffers=32MB", "-c", "max_wal_size=4GB");
+        postgres.start();
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(),
+            postgres.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE messages (id UUID PRIMARY KEY, conversation_id UUID NOT NULL, "
+                + "sender_id UUID NOT NULL, content TEXT NOT NULL, sent_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX idx_messages_conversation_keyset "
+                + "ON messages(conversation_id, sent_at DESC, id DESC)");
+        }
+        connection.setAutoCommit(false);
+        insert = connection.prepareStatement(INSERT_SQL);
+        conversationIds = new UUID[CONVERSATIONS];
+        for (int i = 0; i < CONVERSATIONS; i++) {
+            conversationIds[i] = UUID.randomUUID();
+        }
+        for (int i = 0; i < prefilledRows / BATCH_SIZE; i++) {
+            insertBatch();
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CHECKPOINT");
+            startLsn = queryString(statement, "SELECT pg_current_wal_lsn()::text");
+        }
+        connection.commit();
+        insertedRows = 0;
+    }
+
+    @Benchmark
+    public void insertBatch() throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Timestamp sentAt = Timestamp.from(Instant.now());
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            insert.setObject(1, "v7".equals(idVersion) ? UuidV7.generate() : UUID.randomUUID());
+            insert.setObject(2, conversationIds[random.nextInt(CONVERSATIONS)]);
+            insert.setObject(3, conversationIds[random.nextInt(CONVERSATIONS)]);
+            insert.setString(4, "benchmark message");
+            insert.setTimestamp(5, sentAt);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+        insertedRows += BATCH_SIZE;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            String walBytes = queryString(statement,
+                "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '" + startLsn + "')::bigint::text");
+            String pkeySize = queryString(statement,
+                "SELECT pg_size_pretty(pg_relation_size('messages_pkey'))");
+            System.out.printf("%n%s: %d WAL bytes per row, primary key %s%n",
+                idVersion, Long.parseLong(walBytes) / Math.max(1, insertedRows), pkeySize);
+        } finally {
+            connection.close();
+            postgres.stop();
+        }
+    }
+
+    private static String queryString(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(MessageIdInsertBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,225 @@
+package com.realtime.communication.chat.adapter.out.persistence;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.domain.event.ConversationParticipantsChangedEvent;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.shared.domain.exception.NotFoundException;
+import com.realtime.communication.shared.infrastructure.monitoring.MetricsCollector;
+import com.realtime.communication.shared.util.CompactUuidSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CachedConversationMembership.
+ * Lives in the adapter's package because the adapter is package-private.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachedConversationMembership Tests")
+class CachedConversationMembershipTest {
+
+    private static final String REQUESTS = "chat.membership.cache.requests";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachedConversationMembership membership;
+
+    private ConversationId conversationId;
+    private UserId member;
+    private UserId outsider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        membership = new CachedConversationMembership(jdbcTemplate, new MetricsCollector(meterRegistry),
+            redisTemplate, listenerContainer, 1000, 300);
+
+        conversationId = ConversationId.generate();
+        member = new UserId(UUID.randomUUID());
+        outsider = new UserId(UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("Should serve lookups after the first one from the cache")
+    void shouldHitCacheAfterFirstLoad() {
+        // Given
+        givenParticipants(conversationId, member);
+
+        // When
+        assertTrue(membership.isMember(conversationId, member));
+        assertFalse(membership.isMember(conversationId, outsider));
+        assertEquals(List.of(member), membership.participantsOf(conversationId));
+
+        // Then - one query, one miss, two hits
+        verify(jdbcTemplate, times(1)).query(anyString(), extractor(), eq(conversationId.getValue()));
+        assertEquals(1, requests("miss"));
+        assertEquals(2, requests("hit"));
+    }
+
+    @Test
+    @DisplayName("Should reload participants after they changed")
+    void shouldInvalidateOnParticipantsChanged() {
+        // Given
+        givenParticipants(conversationId, member);
+        assertFalse(membership.isMember(conversationId, outsider));
+        givenParticipants(conversationId, member, outsider);
+
+        // When
+        membership.onParticipantsChanged(new ConversationParticipantsChangedEvent(conversationId));
+
+        // Then
+        assertTrue(membership.isMember(conversationId, outsider));
+        verify(jdbcTemplate, times(2)).query(anyString(), extractor(), eq(conversationId.getValue()));
+        assertEquals(2, requests("miss"));
+        assertEquals(0, requests("hit"));
+    }
+
+    @Test
+    @DisplayName("Should tell the other nodes when participants changed")
+    void shouldPublishInvalidation() {
+        // When
+        membership.onParticipantsChanged(new ConversationParticipantsChangedEvent(conversationId));
+
+        // Then
+        verify(redisTemplate).convertAndSend(CachedConversationMembership.INVALIDATION_CHANNEL,
+            conversationId.getValue().toString());
+    }
+
+    @Test
+    @DisplayName("Should reload participants after another node changed them")
+    void shouldInvalidateOnMessageFromAnotherNode() {
+        // Given
+        givenParticipants(conversationId, member);
+        assertFalse(membership.isMember(conversationId, outsider));
+        givenParticipants(conversationId, member, outsider);
+
+        // When
+        membership.onMessage(invalidation(conversationId.getValue().toString()), null);
+
+        // Then
+        assertTrue(membership.isMember(conversationId, outsider));
+        assertEquals(2, requests("miss"));
+    }
+
+    @Test
+    @DisplayName("Should still invalidate locally when publishing fails")
+    void shouldInvalidateLocallyWhenPublishFails() {
+        // Given
+        givenParticipants(conversationId, member);
+        assertFalse(membership.isMember(conversationId, outsider));
+        givenParticipants(conversationId, member, outsider);
+        when(redisTemplate.convertAndSend(anyString(), anyString()))
+            .thenThrow(new RedisConnectionFailureException("Redis is down"));
+
+        // When
+        membership.onParticipantsChanged(new ConversationParticipantsChangedEvent(conversationId));
+
+        // Then
+        assertTrue(membership.isMember(conversationId, outsider));
+        assertEquals(1, meterRegistry.counter("chat.membership.invalidation.publish.failed").count());
+    }
+
+    @Test
+    @DisplayName("Should ignore a malformed invalidation message")
+    void shouldIgnoreMalformedInvalidation() {
+        // Given
+        givenParticipants(conversationId, member);
+        membership.isMember(conversationId, member);
+
+        // When
+        membership.onMessage(invalidation("not-a-uuid"), null);
+
+        // Then - still cached
+        assertTrue(membership.isMember(conversationId, member));
+        assertEquals(1, requests("miss"));
+    }
+
+    @Test
+    @DisplayName("Should not cache an unknown conversation")
+    void shouldNotCacheUnknownConversation() {
+        // Given - the conversation does not exist yet
+        when(jdbcTemplate.query(anyString(), extractor(), eq(conversationId.getValue())))
+            .thenReturn(null);
+
+        // When & Then
+        assertThrows(NotFoundException.class, () -> membership.isMember(conversationId, member));
+
+        // When - it is created
+        givenParticipants(conversationId, member);
+
+        // Then - the next lookup loads it again
+        assertTrue(membership.isMember(conversationId, member));
+        verify(jdbcTemplate, times(2)).query(anyString(), extractor(), eq(conversationId.getValue()));
+        assertEquals(2, requests("miss"));
+    }
+
+    @Test
+    @DisplayName("Should count hits and misses per conversation")
+    void shouldCountHitsAndMisses() {
+        // Given
+        ConversationId other = ConversationId.generate();
+        givenParticipants(conversationId, member);
+        givenParticipants(other, member);
+
+        // When
+        membership.isMember(conversationId, member);
+        membership.isMember(other, member);
+        membership.isMember(conversationId, member);
+        membership.isMember(other, member);
+        membership.isMember(other, member);
+
+        // Then
+        assertEquals(2, requests("miss"));
+        assertEquals(3, requests("hit"));
+    }
+
+    private void givenParticipants(ConversationId conversationId, UserId... participants) {
+        CompactUuidSet members = CompactUuidSet.of(Arrays.stream(participants).map(UserId::getValue).toList());
+        when(jdbcTemplate.query(anyString(), extractor(), eq(conversationId.getValue())))
+            .thenReturn(members);
+    }
+
+    private static ResultSetExtractor<CompactUuidSet> extractor() {
+        return ArgumentMatchers.<ResultSetExtractor<CompactUuidSet>>any();
+    }
+
+    private static DefaultMessage invalidation(String body) {
+        return new DefaultMessage(CachedConversationMembership.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+            body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private double requests(String result) {
+        var counter = meterRegistry.find(REQUESTS).tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
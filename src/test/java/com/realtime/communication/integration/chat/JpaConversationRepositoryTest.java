@@ -0,0 +1,113 @@
+package com.realtime.communication.integration.chat;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.port.ConversationRepository;
+import com.realtime.communication.chat.domain.model.Conversation;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.ConversationType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for JpaConversationRepository
+ * Counts the statements Hibernate prepares so N+1 loading and collection recreation are caught
+ */
+@SpringBootTest
+@Testcontainers
+@DisplayName("JpaConversationRepository Integration Tests")
+class JpaConversationRepositoryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @Autowired
+    private ConversationRepository conversationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UserId userId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        userId = UserId.generate();
+    }
+
+    @Test
+    @DisplayName("Should load all of a user's conversations and their participants with one query")
+    void shouldLoadConversationsOfParticipantWithOneQuery() {
+        // Given
+        for (int i = 0; i < 30; i++) {
+            conversationRepository.save(new Conversation(ConversationId.generate(), ConversationType.GROUP,
+                Set.of(userId, UserId.generate(), UserId.generate())));
+        }
+        statistics.clear();
+
+        // When
+        List<Conversation> conversations = conversationRepository.findByParticipant(userId);
+
+        // Then
+        assertEquals(30, conversations.size());
+        assertTrue(conversations.stream().allMatch(c -> c.getParticipants().size() == 3));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should write only the changed participant rows when saving an existing conversation")
+    void shouldDiffParticipantsOnSave() {
+        // Given
+        UserId leaving = UserId.generate();
+        UserId joining = UserId.generate();
+        Conversation conversation = new Conversation(ConversationId.generate(), ConversationType.GROUP,
+            Set.of(userId, leaving, UserId.generate(), UserId.generate()));
+        conversationRepository.save(conversation);
+        Conversation loaded = conversationRepository.findById(conversation.getId()).orElseThrow();
+        loaded.removeParticipant(leaving);
+        loaded.addParticipant(joining);
+        statistics.clear();
+
+        // When
+        conversationRepository.save(loaded);
+
+        // Then
+        assertEquals(0, statistics.getCollectionRecreateCount());
+        assertEquals(1, statistics.getCollectionUpdateCount());
+        // One fetch-join select, one delete and one insert
+        assertEquals(3, statistics.getPrepareStatementCount());
+        Set<UserId> participants =
+            conversationRepository.findById(conversation.getId()).orElseThrow().getParticipants();
+        assertTrue(participants.contains(joining));
+        assertFalse(participants.contains(leaving));
+        assertEquals(4, participants.size());
+    }
+}
@@ -1,6 +1,7 @@
 package com.realtime.communication.integration.chat;
 
 import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.port.ConversationRepository;
 import com.realtime.communication.chat.application.port.MessageRepository;
 import com.realtime.communication.chat.domain.model.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -17,8 +19,11 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -49,6 +54,9 @@ class JpaMessageRepositoryTest {
     @Autowired
     private MessageRepository messageRepository;
 
+    @Autowired
+    private ConversationRepository conversationRepository;
+
     private ConversationId conversationId;
     private UserId senderId;
     private UserId recipientId;
@@ -387,5 +395,70 @@ class JpaMessageRepositoryTest {
         assertNotNull(retrievedMessage.getReadAt());
         assertNotNull(retrievedMessage.getEditedAt());
     }
-}
 
+    @Test
+    @DisplayName("Should page through history with keyset cursors")
+    void shouldPageThroughHistoryWithKeysetCursors() {
+        // Given - 5 messages saved oldest to newest
+        List<Message> saved = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            saved.add(messageRepository.save(new Message(
+                new MessageId(UUID.randomUUID()),
+                conversationId,
+                senderId,
+                "Message " + i,
+                MessageType.TEXT
+            )));
+            try {
+                Thread.sleep(10); // Small delay to ensure different timestamps
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // When - Load the newest page, then the page before it
+        Slice<Message> latest = messageRepository.findLatest(conversationId, 2);
+        MessageCursor oldestLoaded = MessageCursor.of(latest.getContent().get(1));
+        Slice<Message> older = messageRepository.findBefore(conversationId, oldestLoaded, 2);
+
+        // Then - Newest first, no overlap, more pages remain
+        assertEquals(List.of("Message 4", "Message 3"), latest.map(Message::getContent).getContent());
+        assertTrue(latest.hasNext());
+        assertEquals(List.of("Message 2", "Message 1"), older.map(Message::getContent).getContent());
+        assertTrue(older.hasNext());
+
+        // When - Catch up from the oldest message
+        Slice<Message> newer = messageRepository.findAfter(conversationId, MessageCursor.of(saved.get(0)), 10);
+
+        // Then - Oldest first, cursor row excluded, nothing further
+        assertEquals(4, newer.getContent().size());
+        assertEquals("Message 1", newer.getContent().get(0).getContent());
+        assertFalse(newer.hasNext());
+    }
+
+    @Test
+    @DisplayName("Should record delivery of a group message for every recipient")
+    void shouldMarkGroupMessageDeliveredForEveryRecipient() {
+        // Given - a group of the sender and two recipients
+        UserId otherRecipientId = UserId.generate();
+        Conversation group = conversationRepository.insert(new Conversation(ConversationId.generate(),
+            ConversationType.GROUP, Set.of(senderId, recipientId, otherRecipientId)));
+        Message message = messageRepository.insert(new Message(MessageId.generate(), group.getId(), senderId,
+            "Hello group", MessageType.TEXT));
+        List<MessageId> acknowledged = List.of(message.getId());
+
+        // When - both recipients acknowledge it
+        List<Message> first = messageRepository.markDelivered(acknowledged, recipientId, Instant.now());
+        List<Message> second = messageRepository.markDelivered(acknowledged, otherRecipientId, Instant.now());
+
+        // Then - each acknowledgement is a first delivery to that recipient
+        assertEquals(List.of(message.getId()), first.stream().map(Message::getId).toList());
+        assertEquals(List.of(message.getId()), second.stream().map(Message::getId).toList());
+        assertEquals(MessageStatus.DELIVERED, second.get(0).getStatus());
+        assertEquals(MessageStatus.DELIVERED, messageRepository.findById(message.getId()).orElseThrow().getStatus());
+
+        // And - the sender and non-participants are skipped
+        assertTrue(messageRepository.markDelivered(acknowledged, senderId, Instant.now()).isEmpty());
+        assertTrue(messageRepository.markDelivered(acknowledged, UserId.generate(), Instant.now()).isEmpty());
+    }
+}
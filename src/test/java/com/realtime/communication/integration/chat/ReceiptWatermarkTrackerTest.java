@@ -0,0 +1,187 @@
+package com.realtime.communication.integration.chat;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.port.ReceiptWatermarkTracker;
+import com.realtime.communication.chat.application.port.UnreadCounters;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.MessageCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Integration tests for the coalesced watermark upsert behind ReceiptWatermarkTracker
+ * Runs against the Flyway schema, so conversation_read_state is the production table
+ */
+@SpringBootTest
+@Testcontainers
+@DisplayName("ReceiptWatermarkTracker Integration Tests")
+class ReceiptWatermarkTrackerTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("app.chat.receipts.flush-interval-ms", () -> "50");
+        registry.add("app.outbox.relay.enabled", () -> "false");
+    }
+
+    @MockBean
+    private UnreadCounters unreadCounters;
+
+    @Autowired
+    private ReceiptWatermarkTracker receiptWatermarkTracker;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ConversationId conversationId;
+    private UserId reader;
+    private UserId sender;
+    private List<MessageCursor> messages;
+    private int readEventsBefore;
+
+    @BeforeEach
+    void setUp() {
+        reader = user();
+        sender = user();
+        conversationId = ConversationId.generate();
+        jdbcTemplate.update("INSERT INTO conversations (id, type) VALUES (?, 'GROUP')", conversationId.getValue());
+        participant(reader);
+        participant(sender);
+
+        // Three messages from the sender, a second apart
+        Instant first = Instant.now().truncatedTo(ChronoUnit.MICROS).minusSeconds(10);
+        messages = List.of(message(first), message(first.plusSeconds(1)), message(first.plusSeconds(2)));
+        readEventsBefore = readEvents();
+    }
+
+    @Test
+    @DisplayName("Should store the read position, imply delivery and reset the unread counter")
+    void shouldStoreReadWatermark() throws InterruptedException {
+        // When
+        receiptWatermarkTracker.recordRead(conversationId, reader, messages.get(1));
+
+        // Then
+        await(() -> readMessageId(reader) != null);
+        Map<String, Object> row = stateOf(reader);
+        assertEquals(messages.get(1).getMessageId(), row.get("read_message_id"));
+        assertEquals(messages.get(1).getMessageId(), row.get("delivered_message_id"));
+        assertEquals(utc(messages.get(1).getSentAt()), ((Timestamp) row.get("read_sent_at")).toLocalDateTime());
+        // One message after the watermark is still unread
+        verify(unreadCounters, timeout(5_000)).reset(reader, conversationId, 1);
+        assertEquals(readEventsBefore + 1, readEvents());
+    }
+
+    @Test
+    @DisplayName("Should never move a watermark backwards")
+    void shouldOnlyMoveForward() throws InterruptedException {
+        // Given
+        receiptWatermarkTracker.recordRead(conversationId, reader, messages.get(1));
+        await(() -> messages.get(1).getMessageId().equals(readMessageId(reader)));
+
+        // When - an older read arrives together with a newer delivery
+        receiptWatermarkTracker.recordRead(conversationId, reader, messages.get(0));
+        receiptWatermarkTracker.recordDelivered(conversationId, reader, messages.get(2));
+
+        // Then - delivery advanced, the read position stayed, and no read event was recorded for it
+        await(() -> messages.get(2).getMessageId().equals(stateOf(reader).get("delivered_message_id")));
+        assertEquals(messages.get(1).getMessageId(), readMessageId(reader));
+        assertEquals(readEventsBefore + 1, readEvents());
+    }
+
+    @Test
+    @DisplayName("Should skip users that are not participants of the conversation")
+    void shouldSkipNonParticipants() throws InterruptedException {
+        // Given
+        UserId outsider = user();
+
+        // When - both are flushed in one batch
+        receiptWatermarkTracker.recordRead(conversationId, outsider, messages.get(2));
+        receiptWatermarkTracker.recordRead(conversationId, reader, messages.get(2));
+
+        // Then
+        await(() -> readMessageId(reader) != null);
+        assertEquals(0, jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM conversation_read_state WHERE user_id = ?", Integer.class, outsider.getValue()));
+        verify(unreadCounters, timeout(5_000)).reset(reader, conversationId, 0);
+        verify(unreadCounters, never()).reset(eq(outsider), any(), anyLong());
+    }
+
+    private UserId user() {
+        UserId userId = UserId.generate();
+        jdbcTemplate.update("INSERT INTO users (id, username, email, password_hash) VALUES (?, ?, ?, 'x')",
+            userId.getValue(), userId.getValue().toString(), userId.getValue() + "@example.com");
+        return userId;
+    }
+
+    private void participant(UserId userId) {
+        jdbcTemplate.update("INSERT INTO conversation_participants (conversation_id, user_id) VALUES (?, ?)",
+            conversationId.getValue(), userId.getValue());
+    }
+
+    private MessageCursor message(Instant sentAt) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO messages (id, conversation_id, sender_id, content, type, sent_at) "
+            + "VALUES (?, ?, ?, 'hello', 'TEXT', ?)", id, conversationId.getValue(), sender.getValue(), utc(sentAt));
+        return new MessageCursor(sentAt, id);
+    }
+
+    private Map<String, Object> stateOf(UserId userId) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+            "SELECT * FROM conversation_read_state WHERE conversation_id = ? AND user_id = ?",
+            conversationId.getValue(), userId.getValue());
+        return rows.isEmpty() ? Map.of() : rows.get(0);
+    }
+
+    private UUID readMessageId(UserId userId) {
+        return (UUID) stateOf(userId).get("read_message_id");
+    }
+
+    private int readEvents() {
+        return jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM outbox_events WHERE event_type = 'MessageReadEvent'", Integer.class);
+    }
+
+    private static LocalDateTime utc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for the flush");
+            Thread.sleep(50);
+        }
+    }
+}
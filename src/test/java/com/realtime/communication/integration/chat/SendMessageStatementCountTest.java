@@ -0,0 +1,86 @@
+package com.realtime.communication.integration.chat;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.port.ConversationRepository;
+import com.realtime.communication.chat.application.port.UnreadCounters;
+import com.realtime.communication.chat.application.usecase.SendMessageUseCase;
+import com.realtime.communication.chat.domain.model.Conversation;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.ConversationType;
+import com.realtime.communication.chat.domain.model.MessageType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the statements SendMessageUseCase issues through JPA
+ * The outbox row is written with JdbcTemplate and is not part of Hibernate's statistics
+ */
+@SpringBootTest
+@Testcontainers
+@DisplayName("SendMessageUseCase Statement Count Tests")
+class SendMessageStatementCountTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+        registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @MockBean
+    private UnreadCounters unreadCounters;
+
+    @Autowired
+    private SendMessageUseCase sendMessageUseCase;
+
+    @Autowired
+    private ConversationRepository conversationRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("Should insert a new message without selecting it first")
+    void shouldInsertMessageWithoutSelect() {
+        // Given
+        UserId sender = UserId.generate();
+        Conversation conversation = conversationRepository.insert(new Conversation(ConversationId.generate(),
+            ConversationType.ONE_TO_ONE, Set.of(sender, UserId.generate())));
+        // The first send loads the participants into the membership cache
+        sendMessageUseCase.execute(conversation.getId(), sender, "warm-up", MessageType.TEXT);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        sendMessageUseCase.execute(conversation.getId(), sender, "hello", MessageType.TEXT);
+
+        // Then
+        assertEquals(1, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        // The message INSERT only
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -2,6 +2,7 @@ package com.realtime.communication.integration.contracts;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.port.ConversationMembership;
 import com.realtime.communication.chat.application.port.ConversationRepository;
 import com.realtime.communication.chat.application.port.MessageRepository;
 import com.realtime.communication.chat.domain.model.*;
@@ -48,6 +49,9 @@ class ChatWebSocketContractTest {
     @MockBean
     private MessageRepository messageRepository;
 
+    @MockBean
+    private ConversationMembership conversationMembership;
+
     private WebSocketStompClient stompClient;
     private String wsUrl;
     private ConversationId conversationId;
@@ -74,6 +78,8 @@ class ChatWebSocketContractTest {
         conversation = new Conversation(conversationId, ConversationType.ONE_TO_ONE, participants);
 
         when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
+        when(conversationMembership.isMember(any(ConversationId.class), any(UserId.class)))
+            .thenAnswer(invocation -> conversation.hasParticipant(invocation.getArgument(1)));
     }
 
     @Test
@@ -142,7 +148,7 @@ class ChatWebSocketContractTest {
             MessageType.TEXT
         );
 
-        when(messageRepository.save(any(Message.class))).thenReturn(message);
+        when(messageRepository.insert(any(Message.class))).thenReturn(message);
         when(conversationRepository.save(any(Conversation.class))).thenReturn(conversation);
 
         // When & Then - Should not throw exception
@@ -183,7 +189,7 @@ class ChatWebSocketContractTest {
             MessageType.TEXT
         );
 
-        when(messageRepository.save(any(Message.class))).thenReturn(message);
+        when(messageRepository.insert(any(Message.class))).thenReturn(message);
         when(conversationRepository.save(any(Conversation.class))).thenReturn(conversation);
 
         // When
@@ -245,7 +251,7 @@ class ChatWebSocketContractTest {
             MessageType.TEXT
         );
 
-        when(messageRepository.save(any(Message.class))).thenReturn(message);
+        when(messageRepository.insert(any(Message.class))).thenReturn(message);
         when(conversationRepository.save(any(Conversation.class))).thenReturn(conversation);
 
         // When & Then
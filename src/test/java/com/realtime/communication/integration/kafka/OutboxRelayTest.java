@@ -0,0 +1,158 @@
+package com.realtime.communication.integration.kafka;
+
+import com.realtime.communication.shared.infrastructure.outbox.OutboxEntry;
+import com.realtime.communication.shared.infrastructure.outbox.OutboxRepository;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * Integration tests for OutboxRelay
+ * Rows live in PostgreSQL; the Kafka producer is mocked to control which sends are acknowledged
+ */
+@SpringBootTest
+@Testcontainers
+@DisplayName("OutboxRelay Integration Tests")
+class OutboxRelayTest {
+
+    private static final String TOPIC = "message-events";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("app.outbox.relay.poll-interval-ms", () -> "50");
+        registry.add("app.outbox.relay.send-timeout-ms", () -> "500");
+    }
+
+    @MockBean
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Queue<String> sent = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        sent.clear();
+    }
+
+    @Test
+    @DisplayName("Should send events in id order and delete them once acknowledged")
+    void shouldSendInOrderAndDeleteAcknowledged() throws InterruptedException {
+        // Given
+        acknowledge(payload -> CompletableFuture.completedFuture(null));
+
+        // When
+        append("1", "2", "3");
+
+        // Then
+        await(() -> remainingPayloads().isEmpty());
+        assertEquals(List.of("1", "2", "3"), List.copyOf(sent));
+    }
+
+    @Test
+    @DisplayName("Should delete only the acknowledged prefix and retry from the first failed event")
+    void shouldDeleteOnlyAcknowledgedPrefix() throws InterruptedException {
+        // Given - the third event is acknowledged, but only after the failed second one
+        acknowledge(payload -> "2".equals(payload)
+            ? CompletableFuture.failedFuture(new KafkaException("Broker unavailable"))
+            : CompletableFuture.completedFuture(null));
+
+        // When
+        append("1", "2", "3");
+
+        // Then
+        await(() -> sent.size() >= 5);
+        assertEquals(List.of("2", "3"), remainingPayloads());
+        // Every round resends the failed event before anything behind it
+        assertEquals(List.of("1", "2", "3", "2", "3"), List.copyOf(sent).subList(0, 5));
+    }
+
+    @Test
+    @DisplayName("Should keep all events when Kafka does not acknowledge before the deadline")
+    void shouldKeepEventsOnTimeout() throws InterruptedException {
+        // Given
+        acknowledge(payload -> new CompletableFuture<>());
+
+        // When
+        append("1", "2");
+
+        // Then
+        await(() -> sent.size() >= 4);
+        assertEquals(List.of("1", "2"), remainingPayloads());
+    }
+
+    private void acknowledge(Function<String, CompletableFuture<SendResult<String, byte[]>>> result) {
+        doAnswer(invocation -> {
+            ProducerRecord<String, byte[]> record = invocation.getArgument(0);
+            String payload = new String(record.value(), StandardCharsets.UTF_8);
+            sent.add(payload);
+            return result.apply(payload);
+        }).when(kafkaTemplate).send(any(ProducerRecord.class));
+    }
+
+    private void append(String... payloads) {
+        List<OutboxEntry> entries = Arrays.stream(payloads)
+            .map(payload -> new OutboxEntry(TOPIC, "key", "MessageSentEvent",
+                payload.getBytes(StandardCharsets.UTF_8)))
+            .toList();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> outboxRepository.append(entries));
+    }
+
+    private List<String> remainingPayloads() {
+        return jdbcTemplate.query("SELECT payload FROM outbox_events ORDER BY id",
+            (rs, rowNum) -> new String(rs.getBytes("payload"), StandardCharsets.UTF_8));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for the relay");
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.realtime.communication.integration.redis;
+
+import com.realtime.communication.CommunicationPlatformApplication;
+import com.realtime.communication.chat.adapter.out.messaging.ConversationDestinations;
+import com.realtime.communication.chat.application.port.ConversationBroadcaster;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Multi-node integration tests for Redis-backed conversation fan-out.
+ * Starts two application contexts sharing one Redis and one Postgres.
+ */
+@Testcontainers
+@DisplayName("Redis Conversation Fan-out Integration Tests")
+class RedisConversationFanoutTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    private UUID conversationId;
+    private String destination;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        conversationId = UUID.randomUUID();
+        destination = ConversationDestinations.messages(conversationId);
+    }
+
+    @Test
+    @DisplayName("Should deliver a broadcast from one node to subscribers on another")
+    void shouldDeliverBroadcastAcrossNodes() throws Exception {
+        // Given
+        BlockingQueue<Map<String, Object>> received = new LinkedBlockingQueue<>();
+        StompSession session = connect(nodeA);
+        session.subscribe(destination, new QueueingFrameHandler(received));
+        awaitChannelSubscribers(1);
+
+        // When
+        broadcaster(nodeB).broadcast(new ConversationId(conversationId), Map.of("content", "hello from B"));
+
+        // Then
+        Map<String, Object> message = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(message, "Subscriber on node A should receive the broadcast from node B");
+        assertEquals("hello from B", message.get("content"));
+
+        session.disconnect();
+    }
+
+    @Test
+    @DisplayName("Should deliver exactly once to subscribers on the publishing node")
+    void shouldDeliverExactlyOnceOnPublishingNode() throws Exception {
+        // Given - subscribers on both nodes
+        BlockingQueue<Map<String, Object>> receivedOnA = new LinkedBlockingQueue<>();
+        BlockingQueue<Map<String, Object>> receivedOnB = new LinkedBlockingQueue<>();
+        StompSession sessionA = connect(nodeA);
+        StompSession sessionB = connect(nodeB);
+        sessionA.subscribe(destination, new QueueingFrameHandler(receivedOnA));
+        sessionB.subscribe(destination, new QueueingFrameHandler(receivedOnB));
+        awaitChannelSubscribers(2);
+
+        // When
+        broadcaster(nodeA).broadcast(new ConversationId(conversationId), Map.of("content", "hello from A"));
+
+        // Then - each subscriber sees the message once
+        assertNotNull(receivedOnA.poll(5, TimeUnit.SECONDS));
+        assertNotNull(receivedOnB.poll(5, TimeUnit.SECONDS));
+        assertNull(receivedOnA.poll(500, TimeUnit.MILLISECONDS), "Publishing node must ignore its own echo");
+        assertNull(receivedOnB.poll(500, TimeUnit.MILLISECONDS));
+
+        sessionA.disconnect();
+        sessionB.disconnect();
+    }
+
+    @Test
+    @DisplayName("Should only subscribe to channels with local subscribers")
+    void shouldOnlySubscribeToChannelsWithLocalSubscribers() throws Exception {
+        // Given
+        StompSession session = connect(nodeA);
+        StompSession.Subscription subscription =
+            session.subscribe(destination, new QueueingFrameHandler(new LinkedBlockingQueue<>()));
+
+        // Then - only node A listens on the channel
+        awaitChannelSubscribers(1);
+
+        // When - the last local subscriber goes away
+        subscription.unsubscribe();
+
+        // Then - node A drops the channel
+        awaitChannelSubscribers(0);
+
+        session.disconnect();
+    }
+
+    private static ConfigurableApplicationContext startNode(String nodeId) {
+        return new SpringApplicationBuilder(CommunicationPlatformApplication.class)
+            .properties(
+                "server.port=0",
+                "spring.datasource.url=" + postgres.getJdbcUrl(),
+                "spring.datasource.username=" + postgres.getUsername(),
+                "spring.datasource.password=" + postgres.getPassword(),
+                "spring.jpa.hibernate.ddl-auto=none",
+                "spring.data.redis.host=" + redis.getHost(),
+                "spring.data.redis.port=" + redis.getMappedPort(6379),
+                "app.websocket.fanout=redis",
+                "app.cluster.node-id=" + nodeId
+            )
+            .run();
+    }
+
+    private static ConversationBroadcaster broadcaster(ConfigurableApplicationContext node) {
+        return node.getBean(ConversationBroadcaster.class);
+    }
+
+    private static StompSession connect(ConfigurableApplicationContext node) throws Exception {
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        String port = node.getEnvironment().getProperty("local.server.port");
+        return stompClient.connectAsync("ws://localhost:" + port + "/ws/websocket", new StompSessionHandlerAdapter() {})
+            .get(10, TimeUnit.SECONDS);
+    }
+
+    private void awaitChannelSubscribers(long expected) throws InterruptedException {
+        StringRedisTemplate redisTemplate = nodeA.getBean(StringRedisTemplate.class);
+        byte[] channel = ("ws:conversation:" + conversationId).getBytes(StandardCharsets.UTF_8);
+        long deadline = System.currentTimeMillis() + 5000;
+        long actual = -1;
+        while (System.currentTimeMillis() < deadline) {
+            actual = redisTemplate.execute((RedisCallback<Long>) connection -> numSub(connection, channel));
+            if (actual == expected) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("Expected " + expected + " node(s) subscribed to the conversation channel but found " + actual);
+    }
+
+    private static Long numSub(RedisConnection connection, byte[] channel) {
+        // PUBSUB NUMSUB replies with [channel, count]
+        List<?> reply = (List<?>) connection.execute("PUBSUB", "NUMSUB".getBytes(StandardCharsets.UTF_8), channel);
+        return (Long) reply.get(1);
+    }
+
+    private static class QueueingFrameHandler implements StompFrameHandler {
+        private final BlockingQueue<Map<String, Object>> messageQueue;
+
+        QueueingFrameHandler(BlockingQueue<Map<String, Object>> messageQueue) {
+            this.messageQueue = messageQueue;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Map.class;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void handleFrame(StompHeaders headers, Object payload) {
+            messageQueue.offer((Map<String, Object>) payload);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.realtime.communication.integration.redis;
+
+import com.realtime.communication.shared.infrastructure.messaging.RedisPendingRetries;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for RedisPendingRetries
+ */
+@SpringBootTest
+@Testcontainers
+@DisplayName("RedisPendingRetries Integration Tests")
+class RedisPendingRetriesTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379).toString());
+    }
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("Should keep a key in retry until each of its records has left")
+    void shouldCountRecordsPerKey() {
+        // Given
+        RedisPendingRetries pendingRetries = new RedisPendingRetries(redisTemplate, "test", 60_000);
+        pendingRetries.enter(List.of("a", "a", "b"));
+
+        // When
+        pendingRetries.leave(List.of("a", "b"));
+
+        // Then
+        assertEquals(Set.of("a"), pendingRetries.inRetry(List.of("a", "b", "c")));
+
+        // When - the last record of a leaves
+        pendingRetries.leave(List.of("a"));
+
+        // Then
+        assertTrue(pendingRetries.inRetry(List.of("a", "b")).isEmpty());
+        assertTrue(redisTemplate.keys("kafka:retry-pending:test:*").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should forget keys that had no new retries within the TTL")
+    void shouldExpireKeys() throws InterruptedException {
+        // Given
+        RedisPendingRetries pendingRetries = new RedisPendingRetries(redisTemplate, "test", 200);
+        pendingRetries.enter(List.of("a"));
+
+        // When
+        Thread.sleep(400);
+
+        // Then
+        assertTrue(pendingRetries.inRetry(List.of("a")).isEmpty());
+    }
+}
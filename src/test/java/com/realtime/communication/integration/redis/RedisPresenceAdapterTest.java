@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.GenericContainer;
@@ -15,6 +16,8 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.utility.DockerImageName;
 
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -44,193 +47,71 @@ class RedisPresenceAdapterTest {
     @Autowired
     private RedisTemplate<String, Object> redisTemplate;
 
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
     private UserId userId;
-    private UUID conversationId;
 
     @BeforeEach
     void setUp() {
         userId = new UserId(UUID.randomUUID());
-        conversationId = UUID.randomUUID();
 
         // Clear Redis before each test
         redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
     }
 
     @Test
-    @DisplayName("Should mark user as typing")
-    void shouldMarkUserAsTyping() {
-        // When
-        presenceAdapter.setTyping(userId, conversationId);
-
-        // Then
-        assertTrue(presenceAdapter.isTyping(userId, conversationId));
-    }
-
-    @Test
-    @DisplayName("Should stop user typing")
-    void shouldStopUserTyping() {
-        // Given
-        presenceAdapter.setTyping(userId, conversationId);
-        assertTrue(presenceAdapter.isTyping(userId, conversationId));
-
-        // When
-        presenceAdapter.stopTyping(userId, conversationId);
-
-        // Then
-        assertFalse(presenceAdapter.isTyping(userId, conversationId));
-    }
-
-    @Test
-    @DisplayName("Should return false for user not typing")
-    void shouldReturnFalseForUserNotTyping() {
-        // When
-        boolean isTyping = presenceAdapter.isTyping(userId, conversationId);
-
-        // Then
-        assertFalse(isTyping);
-    }
-
-    @Test
-    @DisplayName("Should track typing for multiple users")
-    void shouldTrackTypingForMultipleUsers() {
-        // Given
-        UserId user1 = new UserId(UUID.randomUUID());
-        UserId user2 = new UserId(UUID.randomUUID());
-        UserId user3 = new UserId(UUID.randomUUID());
-
-        // When
-        presenceAdapter.setTyping(user1, conversationId);
-        presenceAdapter.setTyping(user2, conversationId);
-        // user3 doesn't set typing
-
-        // Then
-        assertTrue(presenceAdapter.isTyping(user1, conversationId));
-        assertTrue(presenceAdapter.isTyping(user2, conversationId));
-        assertFalse(presenceAdapter.isTyping(user3, conversationId));
-    }
-
-    @Test
-    @DisplayName("Should isolate typing by conversation")
-    void shouldIsolateTypingByConversation() {
-        // Given
-        UUID conversation1 = UUID.randomUUID();
-        UUID conversation2 = UUID.randomUUID();
-
-        // When
-        presenceAdapter.setTyping(userId, conversation1);
-
-        // Then
-        assertTrue(presenceAdapter.isTyping(userId, conversation1));
-        assertFalse(presenceAdapter.isTyping(userId, conversation2));
-    }
-
-    @Test
-    @DisplayName("Should allow user to type in multiple conversations")
-    void shouldAllowUserToTypeInMultipleConversations() {
+    @DisplayName("Should keep user online until the last session disconnects")
+    void shouldKeepUserOnlineUntilLastSessionDisconnects() {
         // Given
-        UUID conversation1 = UUID.randomUUID();
-        UUID conversation2 = UUID.randomUUID();
+        presenceAdapter.sessionConnected(userId, "session-1");
+        presenceAdapter.sessionConnected(userId, "session-2");
 
         // When
-        presenceAdapter.setTyping(userId, conversation1);
-        presenceAdapter.setTyping(userId, conversation2);
+        presenceAdapter.sessionDisconnected(userId, "session-1");
 
         // Then
-        assertTrue(presenceAdapter.isTyping(userId, conversation1));
-        assertTrue(presenceAdapter.isTyping(userId, conversation2));
-    }
-
-    @Test
-    @DisplayName("Should stop typing in specific conversation only")
-    void shouldStopTypingInSpecificConversationOnly() {
-        // Given
-        UUID conversation1 = UUID.randomUUID();
-        UUID conversation2 = UUID.randomUUID();
-
-        presenceAdapter.setTyping(userId, conversation1);
-        presenceAdapter.setTyping(userId, conversation2);
+        assertTrue(presenceAdapter.isOnline(userId));
 
         // When
-        presenceAdapter.stopTyping(userId, conversation1);
+        presenceAdapter.sessionDisconnected(userId, "session-2");
 
         // Then
-        assertFalse(presenceAdapter.isTyping(userId, conversation1));
-        assertTrue(presenceAdapter.isTyping(userId, conversation2));
+        assertFalse(presenceAdapter.isOnline(userId));
     }
 
     @Test
-    @DisplayName("Should handle typing indicator TTL")
-    void shouldHandleTypingIndicatorTtl() {
+    @DisplayName("Should resolve online users among a list of ids")
+    void shouldResolveOnlineUsersAmongIds() {
         // Given
-        presenceAdapter.setTyping(userId, conversationId);
-        assertTrue(presenceAdapter.isTyping(userId, conversationId));
-
-        // When - Check TTL is set
-        String typingKey = "presence:typing:" + conversationId + ":" + userId.getValue();
-        Long ttl = redisTemplate.getExpire(typingKey);
-
-        // Then
-        assertNotNull(ttl);
-        assertTrue(ttl > 0, "TTL should be set for typing indicator");
-    }
-
-    @Test
-    @DisplayName("Should handle concurrent typing updates")
-    void shouldHandleConcurrentTypingUpdates() throws InterruptedException {
-        // When - Rapid typing sets and stops
-        presenceAdapter.setTyping(userId, conversationId);
-        presenceAdapter.stopTyping(userId, conversationId);
-        presenceAdapter.setTyping(userId, conversationId);
-
-        Thread.sleep(50); // Small delay to ensure updates are processed
-
-        // Then - Last action should be reflected
-        assertTrue(presenceAdapter.isTyping(userId, conversationId));
-    }
-
-    @Test
-    @DisplayName("Should clear typing when stopping")
-    void shouldClearTypingWhenStopping() {
-        // Given
-        presenceAdapter.setTyping(userId, conversationId);
+        UserId offlineUser = new UserId(UUID.randomUUID());
+        presenceAdapter.sessionConnected(userId, "session-1");
 
         // When
-        presenceAdapter.stopTyping(userId, conversationId);
+        Set<UserId> online = presenceAdapter.onlineAmong(List.of(userId, offlineUser));
 
         // Then
-        assertFalse(presenceAdapter.isTyping(userId, conversationId));
+        assertEquals(Set.of(userId), online);
+        presenceAdapter.sessionDisconnected(userId, "session-1");
     }
 
     @Test
-    @DisplayName("Should handle stop typing when not typing")
-    void shouldHandleStopTypingWhenNotTyping() {
-        // When & Then - Should not throw exception
-        assertDoesNotThrow(() -> presenceAdapter.stopTyping(userId, conversationId));
-        assertFalse(presenceAdapter.isTyping(userId, conversationId));
-    }
-
-    @Test
-    @DisplayName("Should track typing for different users in same conversation")
-    void shouldTrackTypingForDifferentUsersInSameConversation() {
-        // Given
-        UserId user1 = new UserId(UUID.randomUUID());
-        UserId user2 = new UserId(UUID.randomUUID());
-        UserId user3 = new UserId(UUID.randomUUID());
+    @DisplayName("Should mark users of a node with an expired heartbeat offline")
+    void shouldMarkUsersOfExpiredNodeOffline() {
+        // Given - a node that stopped heartbeating while holding the user
+        String deadNode = "dead-node";
+        String user = userId.getValue().toString();
+        stringRedisTemplate.opsForZSet().add("presence:nodes", deadNode, 1);
+        stringRedisTemplate.opsForSet().add("presence:node:" + deadNode, user);
+        stringRedisTemplate.opsForSet().add("presence:user:" + user, deadNode);
+        stringRedisTemplate.opsForSet().add("presence:online", user);
+        assertTrue(presenceAdapter.isOnline(userId));
 
         // When
-        presenceAdapter.setTyping(user1, conversationId);
-        presenceAdapter.setTyping(user2, conversationId);
-
-        // Then
-        assertTrue(presenceAdapter.isTyping(user1, conversationId));
-        assertTrue(presenceAdapter.isTyping(user2, conversationId));
-        assertFalse(presenceAdapter.isTyping(user3, conversationId));
-
-        // When - Stop one user
-        presenceAdapter.stopTyping(user1, conversationId);
+        presenceAdapter.heartbeat();
 
         // Then
-        assertFalse(presenceAdapter.isTyping(user1, conversationId));
-        assertTrue(presenceAdapter.isTyping(user2, conversationId));
+        assertFalse(presenceAdapter.isOnline(userId));
+        assertFalse(Boolean.TRUE.equals(stringRedisTemplate.hasKey("presence:node:" + deadNode)));
     }
 }
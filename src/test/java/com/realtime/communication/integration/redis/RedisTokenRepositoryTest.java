@@ -0,0 +1,121 @@
+package com.realtime.communication.integration.redis;
+
+import com.realtime.communication.auth.application.port.TokenRepository;
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.auth.domain.model.UserSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the Redis TokenRepository
+ * Tests actual Redis operations using Testcontainers
+ */
+@SpringBootTest(properties = {"app.auth.session-store=redis", "app.auth.session-audit.enabled=false"})
+@Testcontainers
+@DisplayName("RedisTokenRepository Integration Tests")
+class RedisTokenRepositoryTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379).toString());
+    }
+
+    @Autowired
+    private TokenRepository tokenRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private UserId userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = new UserId(UUID.randomUUID());
+
+        // Clear Redis before each test
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("Should find a saved session by its refresh token")
+    void shouldFindSavedSessionByRefreshToken() {
+        // Given
+        UserSession session = newSession("refresh-1");
+
+        // When
+        tokenRepository.save(session);
+        Optional<UserSession> found = tokenRepository.findByRefreshToken("refresh-1");
+
+        // Then
+        assertTrue(found.isPresent());
+        assertEquals(session.getId(), found.get().getId());
+        assertEquals(userId, found.get().getUserId());
+        assertEquals(session.getExpiresAt().toEpochMilli(), found.get().getExpiresAt().toEpochMilli());
+        Long ttl = redisTemplate.getExpire("auth:session:refresh-1");
+        assertNotNull(ttl);
+        assertTrue(ttl > 0 && ttl <= 3600);
+    }
+
+    @Test
+    @DisplayName("Should rotate a refresh token only once")
+    void shouldRotateRefreshTokenOnlyOnce() {
+        // Given
+        tokenRepository.save(newSession("refresh-1"));
+
+        // When
+        boolean first = tokenRepository.rotate("refresh-1", newSession("refresh-2"));
+        boolean second = tokenRepository.rotate("refresh-1", newSession("refresh-3"));
+
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        assertTrue(tokenRepository.findByRefreshToken("refresh-1").isEmpty());
+        assertTrue(tokenRepository.findByRefreshToken("refresh-2").isPresent());
+        assertTrue(tokenRepository.findByRefreshToken("refresh-3").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should revoke all sessions of a user")
+    void shouldRevokeAllSessionsOfUser() {
+        // Given
+        tokenRepository.save(newSession("refresh-1"));
+        tokenRepository.save(newSession("refresh-2"));
+
+        // When
+        List<UserSession> revoked = tokenRepository.revokeByUserId(userId.getValue());
+
+        // Then
+        assertEquals(2, revoked.size());
+        assertTrue(revoked.stream().allMatch(session -> session.getAccessTokenId() != null));
+        assertTrue(tokenRepository.findByRefreshToken("refresh-1").isEmpty());
+        assertTrue(tokenRepository.findByRefreshToken("refresh-2").isEmpty());
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey("auth:user-sessions:" + userId.getValue())));
+    }
+
+    private UserSession newSession(String refreshToken) {
+        return new UserSession(UUID.randomUUID(), userId, UUID.randomUUID().toString(), refreshToken, "web",
+            Instant.now().plusSeconds(3600));
+    }
+}
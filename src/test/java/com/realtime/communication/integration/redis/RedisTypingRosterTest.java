@@ -0,0 +1,91 @@
+package com.realtime.communication.integration.redis;
+
+import com.realtime.communication.chat.application.port.TypingRoster;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.TypingSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for RedisTypingRoster
+ */
+@SpringBootTest
+@Testcontainers
+@DisplayName("RedisTypingRoster Integration Tests")
+class RedisTypingRosterTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379).toString());
+        registry.add("app.chat.typing.roster-ttl-ms", () -> "1000");
+    }
+
+    @Autowired
+    private TypingRoster typingRoster;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private ConversationId conversationId;
+
+    @BeforeEach
+    void setUp() {
+        conversationId = ConversationId.generate();
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @Test
+    @DisplayName("Should list typers after applying started and stopped changes")
+    void shouldApplyChanges() {
+        // Given
+        UUID typing = UUID.randomUUID();
+        UUID stopped = UUID.randomUUID();
+        typingRoster.apply(List.of(new TypingSnapshot(conversationId, List.of(typing, stopped), List.of())));
+
+        // When
+        typingRoster.apply(List.of(new TypingSnapshot(conversationId, List.of(), List.of(stopped))));
+
+        // Then
+        assertEquals(List.of(typing), typingRoster.typingIn(conversationId));
+        assertTrue(typingRoster.typingIn(ConversationId.generate()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should drop typers that are not refreshed within the TTL")
+    void shouldExpireUnrefreshedTypers() throws InterruptedException {
+        // Given
+        UUID refreshed = UUID.randomUUID();
+        UUID abandoned = UUID.randomUUID();
+        typingRoster.apply(List.of(new TypingSnapshot(conversationId, List.of(refreshed, abandoned), List.of())));
+
+        // When
+        Thread.sleep(600);
+        typingRoster.refresh(Map.of(conversationId.getValue(), Set.of(refreshed)));
+        Thread.sleep(600);
+
+        // Then
+        assertEquals(List.of(refreshed), typingRoster.typingIn(conversationId));
+    }
+}
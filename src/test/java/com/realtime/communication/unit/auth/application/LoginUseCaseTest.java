@@ -6,8 +6,10 @@ import com.realtime.communication.auth.application.port.TokenRepository;
 import com.realtime.communication.auth.application.port.UserRepository;
 import com.realtime.communication.auth.application.usecase.LoginUseCase;
 import com.realtime.communication.auth.domain.model.*;
+import com.realtime.communication.auth.infrastructure.security.BoundedPasswordHasher;
 import com.realtime.communication.auth.infrastructure.security.JwtTokenProvider;
 import com.realtime.communication.shared.domain.exception.UnauthorizedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +17,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -49,7 +53,9 @@ class LoginUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        loginUseCase = new LoginUseCase(userRepository, tokenRepository, jwtTokenProvider);
+        BoundedPasswordHasher passwordHasher = new BoundedPasswordHasher(10, 2, 16, 5000, new SimpleMeterRegistry());
+        loginUseCase = new LoginUseCase(userRepository, tokenRepository, jwtTokenProvider,
+            passwordHasher, TransactionOperations.withoutTransaction());
 
         // Create a test user with hashed password
         passwordHash = HashedPassword.fromPlainText(plainPassword).getHash();
@@ -73,7 +79,7 @@ class LoginUseCaseTest {
 
         when(userRepository.findByUsername(any(Username.class))).thenReturn(Optional.of(testUser));
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(jwtTokenProvider.generateAccessToken(anyString())).thenReturn(accessToken);
+        when(jwtTokenProvider.generateAccessToken(anyString(), anyString())).thenReturn(accessToken);
         when(jwtTokenProvider.generateRefreshToken()).thenReturn(refreshToken);
         when(jwtTokenProvider.getAccessTokenExpirationMs()).thenReturn(expiresIn);
         when(tokenRepository.save(any(UserSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -89,7 +95,7 @@ class LoginUseCaseTest {
 
         verify(userRepository).findByUsername(any(Username.class));
         verify(userRepository).save(any(User.class));
-        verify(jwtTokenProvider).generateAccessToken(anyString());
+        verify(jwtTokenProvider).generateAccessToken(anyString(), anyString());
         verify(jwtTokenProvider).generateRefreshToken();
         verify(tokenRepository).save(any(UserSession.class));
     }
@@ -101,7 +107,7 @@ class LoginUseCaseTest {
         LoginRequest request = new LoginRequest("testuser", plainPassword);
 
         when(userRepository.findByUsername(any(Username.class))).thenReturn(Optional.of(testUser));
-        when(jwtTokenProvider.generateAccessToken(anyString())).thenReturn("token");
+        when(jwtTokenProvider.generateAccessToken(anyString(), anyString())).thenReturn("token");
         when(jwtTokenProvider.generateRefreshToken()).thenReturn("refresh");
         when(jwtTokenProvider.getAccessTokenExpirationMs()).thenReturn(3600000L);
 
@@ -129,7 +135,7 @@ class LoginUseCaseTest {
 
         when(userRepository.findByUsername(any(Username.class))).thenReturn(Optional.of(testUser));
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(jwtTokenProvider.generateAccessToken(anyString())).thenReturn(accessToken);
+        when(jwtTokenProvider.generateAccessToken(anyString(), anyString())).thenReturn(accessToken);
         when(jwtTokenProvider.generateRefreshToken()).thenReturn(refreshToken);
         when(jwtTokenProvider.getAccessTokenExpirationMs()).thenReturn(expiresIn);
 
@@ -143,7 +149,8 @@ class LoginUseCaseTest {
         UserSession savedSession = sessionCaptor.getValue();
         assertNotNull(savedSession);
         assertEquals(testUser.getId(), savedSession.getUserId());
-        assertEquals(accessToken, savedSession.getAccessToken());
+        assertNotNull(savedSession.getAccessTokenId());
+        verify(jwtTokenProvider).generateAccessToken(anyString(), eq(savedSession.getAccessTokenId()));
         assertEquals(refreshToken, savedSession.getRefreshToken());
         assertNotNull(savedSession.getExpiresAt());
     }
@@ -164,7 +171,7 @@ class LoginUseCaseTest {
         assertTrue(exception.getMessage().contains("Invalid credentials"));
         verify(userRepository).findByUsername(any(Username.class));
         verify(userRepository, never()).save(any(User.class));
-        verify(jwtTokenProvider, never()).generateAccessToken(anyString());
+        verify(jwtTokenProvider, never()).generateAccessToken(anyString(), anyString());
         verify(tokenRepository, never()).save(any(UserSession.class));
     }
 
@@ -184,7 +191,7 @@ class LoginUseCaseTest {
         assertTrue(exception.getMessage().contains("Invalid credentials"));
         verify(userRepository).findByUsername(any(Username.class));
         verify(userRepository, never()).save(any(User.class));
-        verify(jwtTokenProvider, never()).generateAccessToken(anyString());
+        verify(jwtTokenProvider, never()).generateAccessToken(anyString(), anyString());
         verify(tokenRepository, never()).save(any(UserSession.class));
     }
 
@@ -205,7 +212,7 @@ class LoginUseCaseTest {
         assertTrue(exception.getMessage().contains("blocked"));
         verify(userRepository).findByUsername(any(Username.class));
         verify(userRepository, never()).save(any(User.class));
-        verify(jwtTokenProvider, never()).generateAccessToken(anyString());
+        verify(jwtTokenProvider, never()).generateAccessToken(anyString(), anyString());
         verify(tokenRepository, never()).save(any(UserSession.class));
     }
 
@@ -218,7 +225,7 @@ class LoginUseCaseTest {
 
         when(userRepository.findByUsername(any(Username.class))).thenReturn(Optional.of(testUser));
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(jwtTokenProvider.generateAccessToken(userId)).thenReturn("access.token");
+        when(jwtTokenProvider.generateAccessToken(eq(userId), anyString())).thenReturn("access.token");
         when(jwtTokenProvider.generateRefreshToken()).thenReturn("refresh.token");
         when(jwtTokenProvider.getAccessTokenExpirationMs()).thenReturn(3600000L);
         when(tokenRepository.save(any(UserSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -227,7 +234,7 @@ class LoginUseCaseTest {
         loginUseCase.execute(request);
 
         // Then
-        verify(jwtTokenProvider).generateAccessToken(userId);
+        verify(jwtTokenProvider).generateAccessToken(eq(userId), anyString());
     }
 
     @Test
@@ -239,7 +246,7 @@ class LoginUseCaseTest {
 
         when(userRepository.findByUsername(any(Username.class))).thenReturn(Optional.of(testUser));
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(jwtTokenProvider.generateAccessToken(anyString())).thenReturn("token");
+        when(jwtTokenProvider.generateAccessToken(anyString(), anyString())).thenReturn("token");
         when(jwtTokenProvider.generateRefreshToken()).thenReturn("refresh");
         when(jwtTokenProvider.getAccessTokenExpirationMs()).thenReturn(expectedExpiresIn);
         when(tokenRepository.save(any(UserSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -276,7 +283,7 @@ class LoginUseCaseTest {
 
         when(userRepository.findByUsername(any(Username.class))).thenReturn(Optional.of(testUser));
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(jwtTokenProvider.generateAccessToken(anyString())).thenReturn("token");
+        when(jwtTokenProvider.generateAccessToken(anyString(), anyString())).thenReturn("token");
         when(jwtTokenProvider.generateRefreshToken()).thenReturn("refresh");
         when(jwtTokenProvider.getAccessTokenExpirationMs()).thenReturn(3600000L);
         when(tokenRepository.save(any(UserSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
@@ -303,5 +310,36 @@ class LoginUseCaseTest {
         // Should fail due to blocked status, not password
         assertTrue(exception.getMessage().contains("blocked"));
     }
-}
 
+    @Test
+    @DisplayName("Should re-hash the password when the stored cost factor differs")
+    void shouldRehashPasswordWhenCostFactorDiffers() {
+        // Given
+        String weakHash = HashedPassword.fromPlainText(plainPassword, new BCryptPasswordEncoder(4)::encode).getHash();
+        User weakUser = new User(
+            new UserId(UUID.randomUUID()),
+            new Username("weakuser"),
+            new Email("weak@example.com"),
+            weakHash
+        );
+        weakUser.verifyEmail();
+        LoginRequest request = new LoginRequest("weakuser", plainPassword);
+
+        when(userRepository.findByUsername(any(Username.class))).thenReturn(Optional.of(weakUser));
+        when(jwtTokenProvider.generateAccessToken(anyString(), anyString())).thenReturn("token");
+        when(jwtTokenProvider.generateRefreshToken()).thenReturn("refresh");
+        when(jwtTokenProvider.getAccessTokenExpirationMs()).thenReturn(3600000L);
+
+        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
+        when(userRepository.save(userCaptor.capture())).thenReturn(weakUser);
+        when(tokenRepository.save(any(UserSession.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        loginUseCase.execute(request);
+
+        // Then
+        String storedHash = userCaptor.getValue().getPasswordHash();
+        assertTrue(storedHash.startsWith("$2a$10$"));
+        assertTrue(new BCryptPasswordEncoder().matches(plainPassword, storedHash));
+    }
+}
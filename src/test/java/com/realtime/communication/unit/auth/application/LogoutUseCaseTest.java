@@ -0,0 +1,68 @@
+package com.realtime.communication.unit.auth.application;
+
+import com.realtime.communication.auth.application.port.AccessTokenDenylist;
+import com.realtime.communication.auth.application.port.ConnectionTerminator;
+import com.realtime.communication.auth.application.port.TokenRepository;
+import com.realtime.communication.auth.application.port.UserRepository;
+import com.realtime.communication.auth.application.usecase.LogoutUseCase;
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.auth.domain.model.UserSession;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LogoutUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogoutUseCase Tests")
+class LogoutUseCaseTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TokenRepository tokenRepository;
+
+    @Mock
+    private AccessTokenDenylist accessTokenDenylist;
+
+    @Mock
+    private ConnectionTerminator connectionTerminator;
+
+    private LogoutUseCase logoutUseCase;
+
+    @BeforeEach
+    void setUp() {
+        logoutUseCase = new LogoutUseCase(userRepository, tokenRepository, accessTokenDenylist, connectionTerminator);
+    }
+
+    @Test
+    @DisplayName("Should denylist the sessions' access tokens and close the user's open connections")
+    void shouldDenyTokensAndTerminateConnections() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        UserSession session = new UserSession(UUID.randomUUID(), new UserId(userId), "token-id", "refresh",
+            "device", expiresAt);
+        when(userRepository.findById(new UserId(userId))).thenReturn(Optional.empty());
+        when(tokenRepository.revokeByUserId(userId)).thenReturn(List.of(session));
+
+        // When
+        logoutUseCase.execute(userId);
+
+        // Then
+        verify(accessTokenDenylist).deny("token-id", expiresAt);
+        verify(connectionTerminator).terminateConnections(new UserId(userId));
+    }
+}
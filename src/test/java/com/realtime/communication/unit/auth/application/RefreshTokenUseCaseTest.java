@@ -0,0 +1,82 @@
+package com.realtime.communication.unit.auth.application;
+
+import com.realtime.communication.auth.application.dto.LoginResponse;
+import com.realtime.communication.auth.application.port.AccessTokenDenylist;
+import com.realtime.communication.auth.application.port.TokenRepository;
+import com.realtime.communication.auth.application.usecase.RefreshTokenUseCase;
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.auth.domain.model.UserSession;
+import com.realtime.communication.auth.infrastructure.security.JwtTokenProvider;
+import com.realtime.communication.shared.domain.exception.UnauthorizedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RefreshTokenUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenUseCase Tests")
+class RefreshTokenUseCaseTest {
+
+    @Mock
+    private TokenRepository tokenRepository;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private AccessTokenDenylist accessTokenDenylist;
+
+    private RefreshTokenUseCase refreshTokenUseCase;
+    private UserSession session;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenUseCase = new RefreshTokenUseCase(tokenRepository, jwtTokenProvider, accessTokenDenylist);
+        session = new UserSession(UUID.randomUUID(), new UserId(UUID.randomUUID()), "old-token-id", "refresh",
+            "device", Instant.now().plusSeconds(600));
+        when(tokenRepository.findByRefreshToken("refresh")).thenReturn(Optional.of(session));
+        when(jwtTokenProvider.generateAccessToken(anyString(), anyString())).thenReturn("access");
+        when(jwtTokenProvider.generateRefreshToken()).thenReturn("new-refresh");
+        when(jwtTokenProvider.getAccessTokenExpirationMs()).thenReturn(3_600_000L);
+    }
+
+    @Test
+    @DisplayName("Should denylist the replaced session's access token")
+    void shouldDenyOldAccessToken() {
+        // Given
+        when(tokenRepository.rotate(eq("refresh"), any(UserSession.class))).thenReturn(true);
+
+        // When
+        LoginResponse response = refreshTokenUseCase.execute("refresh");
+
+        // Then
+        assertEquals("new-refresh", response.refreshToken());
+        verify(accessTokenDenylist).deny("old-token-id", session.getExpiresAt());
+    }
+
+    @Test
+    @DisplayName("Should keep the old access token when the rotation lost a race")
+    void shouldNotDenyWhenRotationFails() {
+        // Given
+        when(tokenRepository.rotate(eq("refresh"), any(UserSession.class))).thenReturn(false);
+
+        // When & Then
+        assertThrows(UnauthorizedException.class, () -> refreshTokenUseCase.execute("refresh"));
+        verifyNoInteractions(accessTokenDenylist);
+    }
+}
@@ -4,7 +4,9 @@ import com.realtime.communication.auth.application.dto.RegisterRequest;
 import com.realtime.communication.auth.application.port.UserRepository;
 import com.realtime.communication.auth.application.usecase.RegisterUserUseCase;
 import com.realtime.communication.auth.domain.model.*;
+import com.realtime.communication.auth.infrastructure.security.BoundedPasswordHasher;
 import com.realtime.communication.shared.domain.exception.ValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,7 +37,8 @@ class RegisterUserUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        registerUserUseCase = new RegisterUserUseCase(userRepository);
+        registerUserUseCase = new RegisterUserUseCase(userRepository,
+            new BoundedPasswordHasher(10, 2, 16, 5000, new SimpleMeterRegistry()));
     }
 
     @Test
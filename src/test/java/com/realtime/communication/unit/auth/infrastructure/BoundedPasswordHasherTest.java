@@ -0,0 +1,66 @@
+package com.realtime.communication.unit.auth.infrastructure;
+
+import com.realtime.communication.auth.infrastructure.security.BoundedPasswordHasher;
+import com.realtime.communication.shared.domain.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BoundedPasswordHasher
+ */
+@DisplayName("BoundedPasswordHasher Tests")
+class BoundedPasswordHasherTest {
+
+    private static final String PASSWORD = "SecurePassword123!";
+
+    private BoundedPasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should verify a password against its own hash")
+    void shouldVerifyPasswordAgainstItsHash() {
+        // Given
+        hasher = new BoundedPasswordHasher(4, 1, 4, 5000, new SimpleMeterRegistry());
+
+        // When
+        String hash = hasher.hash(PASSWORD);
+
+        // Then
+        assertTrue(hash.startsWith("$2a$04$"));
+        assertTrue(hasher.matches(PASSWORD, hash));
+        assertFalse(hasher.matches("WrongPassword123!", hash));
+    }
+
+    @Test
+    @DisplayName("Should require a rehash only when the cost factor differs")
+    void shouldRequireRehashWhenCostFactorDiffers() {
+        // Given
+        hasher = new BoundedPasswordHasher(4, 1, 4, 5000, new SimpleMeterRegistry());
+
+        // When / Then
+        assertFalse(hasher.needsRehash(new BCryptPasswordEncoder(4).encode(PASSWORD)));
+        assertTrue(hasher.needsRehash(new BCryptPasswordEncoder(5).encode(PASSWORD)));
+        assertTrue(hasher.needsRehash("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    @DisplayName("Should reject with ServiceUnavailableException when hashing exceeds the timeout")
+    void shouldRejectWhenHashingTimesOut() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        hasher = new BoundedPasswordHasher(14, 1, 4, 1, meterRegistry);
+
+        // When / Then
+        assertThrows(ServiceUnavailableException.class, () -> hasher.hash(PASSWORD));
+        assertEquals(1.0, meterRegistry.get("auth.password.rejected").counter().count());
+    }
+}
@@ -0,0 +1,113 @@
+package com.realtime.communication.unit.auth.infrastructure;
+
+import com.realtime.communication.auth.infrastructure.security.JwtTokenProvider;
+import com.realtime.communication.auth.infrastructure.security.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JwtTokenProvider
+ */
+@DisplayName("JwtTokenProvider Tests")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "mySecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLong";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3600000, 604800000, 1000, 300);
+    }
+
+    @Test
+    @DisplayName("Should return subject and expiry of a valid token")
+    void shouldVerifyValidToken() {
+        // Given
+        String userId = UUID.randomUUID().toString();
+        String token = jwtTokenProvider.generateAccessToken(userId);
+
+        // When
+        Optional<VerifiedToken> verified = jwtTokenProvider.verify(token);
+
+        // Then
+        assertTrue(verified.isPresent());
+        assertEquals(userId, verified.get().userId());
+        assertTrue(verified.get().expiresAt().isAfter(Instant.now()));
+    }
+
+    @Test
+    @DisplayName("Should carry the token id as the jti claim")
+    void shouldCarryTokenIdAsJti() {
+        // Given
+        String tokenId = UUID.randomUUID().toString();
+        String token = jwtTokenProvider.generateAccessToken(UUID.randomUUID().toString(), tokenId);
+
+        // When
+        VerifiedToken verified = jwtTokenProvider.verify(token).orElseThrow();
+
+        // Then
+        assertEquals(tokenId, verified.tokenId());
+    }
+
+    @Test
+    @DisplayName("Should return the cached claims for a repeated token")
+    void shouldReturnCachedClaimsForRepeatedToken() {
+        // Given
+        String token = jwtTokenProvider.generateAccessToken(UUID.randomUUID().toString());
+        VerifiedToken first = jwtTokenProvider.verify(token).orElseThrow();
+
+        // When
+        VerifiedToken second = jwtTokenProvider.verify(token).orElseThrow();
+
+        // Then
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("Should reject a token with a tampered signature")
+    void shouldRejectTamperedToken() {
+        // Given
+        String token = jwtTokenProvider.generateAccessToken(UUID.randomUUID().toString());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        // When & Then
+        assertTrue(jwtTokenProvider.verify(tampered).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject a token signed with another key")
+    void shouldRejectTokenSignedWithAnotherKey() {
+        // Given
+        JwtTokenProvider otherProvider = new JwtTokenProvider(
+            "anotherSecretKeyForJWTTokenGenerationThatIsAtLeast256Bits", 3600000, 604800000, 1000, 300);
+        String token = otherProvider.generateAccessToken(UUID.randomUUID().toString());
+
+        // When & Then
+        assertTrue(jwtTokenProvider.verify(token).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject an expired token")
+    void shouldRejectExpiredToken() {
+        // Given
+        JwtTokenProvider expiringProvider = new JwtTokenProvider(SECRET, -60000, 604800000, 1000, 300);
+        String token = expiringProvider.generateAccessToken(UUID.randomUUID().toString());
+
+        // When & Then
+        assertTrue(jwtTokenProvider.verify(token).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed input")
+    void shouldRejectMalformedInput() {
+        assertTrue(jwtTokenProvider.verify("not-a-jwt").isEmpty());
+    }
+}
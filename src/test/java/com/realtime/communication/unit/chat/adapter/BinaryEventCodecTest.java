@@ -0,0 +1,121 @@
+package com.realtime.communication.unit.chat.adapter;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.adapter.out.messaging.BinaryEventCodec;
+import com.realtime.communication.chat.domain.event.MessageDeliveredEvent;
+import com.realtime.communication.chat.domain.event.MessageReadEvent;
+import com.realtime.communication.chat.domain.event.MessageSentEvent;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.MessageId;
+import com.realtime.communication.chat.domain.model.MessageType;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BinaryEventCodec
+ */
+@DisplayName("BinaryEventCodec Tests")
+class BinaryEventCodecTest {
+
+    private BinaryEventCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        codec = new BinaryEventCodec();
+    }
+
+    @Test
+    @DisplayName("Should round-trip a sent event including its identity")
+    void shouldRoundTripSentEvent() {
+        // Given
+        MessageSentEvent event = new MessageSentEvent(MessageId.generate(), ConversationId.generate(),
+            UserId.generate(), "héllo 👋", MessageType.TEXT, Instant.parse("2026-01-02T03:04:05.123456789Z"));
+
+        // When
+        byte[] encoded = codec.encode(event);
+        MessageSentEvent decoded = (MessageSentEvent) codec.decode(encoded);
+
+        // Then
+        assertTrue(BinaryEventCodec.isBinary(encoded));
+        assertEquals(event.getEventId(), decoded.getEventId());
+        assertEquals(event.getOccurredOn(), decoded.getOccurredOn());
+        assertEquals(event.getMessageId(), decoded.getMessageId());
+        assertEquals(event.getConversationId(), decoded.getConversationId());
+        assertEquals(event.getSenderId(), decoded.getSenderId());
+        assertEquals(event.getContent(), decoded.getContent());
+        assertEquals(event.getMessageType(), decoded.getMessageType());
+        assertEquals(event.getSentAt(), decoded.getSentAt());
+    }
+
+    @Test
+    @DisplayName("Should round-trip delivered and read events")
+    void shouldRoundTripReceiptEvents() {
+        // Given
+        MessageDeliveredEvent delivered = new MessageDeliveredEvent(MessageId.generate(),
+            ConversationId.generate(), UserId.generate(), Instant.now());
+        MessageReadEvent read = new MessageReadEvent(MessageId.generate(),
+            ConversationId.generate(), UserId.generate(), Instant.now());
+
+        // When
+        MessageDeliveredEvent decodedDelivered = (MessageDeliveredEvent) codec.decode(codec.encode(delivered));
+        MessageReadEvent decodedRead = (MessageReadEvent) codec.decode(codec.encode(read));
+
+        // Then
+        assertEquals(delivered.getMessageId(), decodedDelivered.getMessageId());
+        assertEquals(delivered.getRecipientId(), decodedDelivered.getRecipientId());
+        assertEquals(delivered.getDeliveredAt(), decodedDelivered.getDeliveredAt());
+        assertEquals(read.getReaderId(), decodedRead.getReaderId());
+        assertEquals(read.getReadAt(), decodedRead.getReadAt());
+    }
+
+    @Test
+    @DisplayName("Should preserve null instants")
+    void shouldPreserveNullInstants() {
+        // Given
+        MessageReadEvent read = new MessageReadEvent(MessageId.generate(),
+            ConversationId.generate(), UserId.generate(), null);
+
+        // When
+        MessageReadEvent decoded = (MessageReadEvent) codec.decode(codec.encode(read));
+
+        // Then
+        assertNull(decoded.getReadAt());
+    }
+
+    @Test
+    @DisplayName("Should reject JSON and truncated payloads")
+    void shouldRejectForeignAndTruncatedPayloads() {
+        // Given
+        byte[] json = "{\"eventType\":\"MessageSentEvent\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = codec.encode(new MessageSentEvent(MessageId.generate(), ConversationId.generate(),
+            UserId.generate(), "hi", MessageType.TEXT));
+
+        // When / Then
+        assertFalse(BinaryEventCodec.isBinary(json));
+        assertThrows(SerializationException.class, () -> codec.decode(json));
+        assertThrows(SerializationException.class,
+            () -> codec.decode(Arrays.copyOf(encoded, encoded.length - 1)));
+    }
+
+    @Test
+    @DisplayName("Should be smaller than the JSON form")
+    void shouldBeCompact() {
+        // Given
+        MessageDeliveredEvent delivered = new MessageDeliveredEvent(MessageId.generate(),
+            ConversationId.generate(), UserId.generate(), Instant.now());
+
+        // When
+        byte[] encoded = codec.encode(delivered);
+
+        // Then: 3-byte header, event id and four 16-byte ids, two 12-byte instants (91 bytes)
+        assertTrue(encoded.length < 120, "Encoded size was " + encoded.length);
+    }
+}
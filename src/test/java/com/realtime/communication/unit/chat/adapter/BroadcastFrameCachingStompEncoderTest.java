@@ -0,0 +1,79 @@
+package com.realtime.communication.unit.chat.adapter;
+
+import com.realtime.communication.chat.adapter.in.websocket.BroadcastFrameCachingStompEncoder;
+import com.realtime.communication.chat.adapter.out.messaging.PreEncodedMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BroadcastFrameCachingStompEncoder
+ */
+@DisplayName("BroadcastFrameCachingStompEncoder Tests")
+class BroadcastFrameCachingStompEncoderTest {
+
+    private static final byte[] BODY = "{\"content\":\"hi\"}".getBytes(StandardCharsets.UTF_8);
+
+    private BroadcastFrameCachingStompEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new BroadcastFrameCachingStompEncoder();
+    }
+
+    @Test
+    @DisplayName("Should share frame bytes between recipients with the same subscription id")
+    void shouldShareFrameBytesForSameSubscription() {
+        // When
+        byte[] first = encoder.encode(frame("m-1", "sub-0", true), BODY);
+        byte[] second = encoder.encode(frame("m-1", "sub-0", true), BODY);
+
+        // Then
+        assertSame(first, second);
+        assertTrue(new String(first, StandardCharsets.UTF_8).contains("subscription:sub-0"));
+    }
+
+    @Test
+    @DisplayName("Should encode a separate frame per subscription id")
+    void shouldEncodeSeparateFramePerSubscription() {
+        // When
+        byte[] first = encoder.encode(frame("m-1", "sub-0", true), BODY);
+        byte[] second = encoder.encode(frame("m-1", "sub-1", true), BODY);
+
+        // Then
+        assertNotSame(first, second);
+        assertTrue(new String(second, StandardCharsets.UTF_8).contains("subscription:sub-1"));
+    }
+
+    @Test
+    @DisplayName("Should not cache frames of regular messages")
+    void shouldNotCacheRegularFrames() {
+        // When
+        byte[] first = encoder.encode(frame("m-1", "sub-0", false), BODY);
+        byte[] second = encoder.encode(frame("m-1", "sub-0", false), BODY);
+
+        // Then
+        assertNotSame(first, second);
+        assertArrayEquals(first, second);
+    }
+
+    private static Map<String, Object> frame(String messageId, String subscriptionId, boolean preEncoded) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination("/topic/conversation/1");
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setMessageId(messageId);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        if (preEncoded) {
+            accessor.setHeader(PreEncodedMessage.PRE_ENCODED_HEADER, Boolean.TRUE);
+        }
+        return accessor.getMessageHeaders();
+    }
+}
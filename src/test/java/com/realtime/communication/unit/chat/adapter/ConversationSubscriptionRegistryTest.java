@@ -0,0 +1,160 @@
+package com.realtime.communication.unit.chat.adapter;
+
+import com.realtime.communication.chat.adapter.in.websocket.ConversationSubscriptionRegistry;
+import com.realtime.communication.chat.adapter.out.messaging.ConversationDestinations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MultiValueMap;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ConversationSubscriptionRegistry
+ */
+@DisplayName("ConversationSubscriptionRegistry Tests")
+class ConversationSubscriptionRegistryTest {
+
+    private ConversationSubscriptionRegistry registry;
+    private String conversationTopic;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ConversationSubscriptionRegistry();
+        conversationTopic = ConversationDestinations.messages(UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("Should find indexed subscribers of a conversation topic")
+    void shouldFindIndexedSubscribers() {
+        // Given
+        registry.registerSubscription(subscribe("s1", "sub-1", conversationTopic));
+        registry.registerSubscription(subscribe("s2", "sub-1", conversationTopic));
+        registry.registerSubscription(subscribe("s3", "sub-1", ConversationDestinations.messages(UUID.randomUUID())));
+
+        // When
+        MultiValueMap<String, String> subscribers = registry.findSubscriptions(broadcast(conversationTopic));
+
+        // Then
+        assertEquals(2, subscribers.size());
+        assertEquals(List.of("sub-1"), subscribers.get("s1"));
+        assertEquals(List.of("sub-1"), subscribers.get("s2"));
+    }
+
+    @Test
+    @DisplayName("Should drop subscribers on unsubscribe and disconnect")
+    void shouldDropSubscribersOnUnsubscribeAndDisconnect() {
+        // Given
+        registry.registerSubscription(subscribe("s1", "sub-1", conversationTopic));
+        registry.registerSubscription(subscribe("s2", "sub-1", conversationTopic));
+
+        // When
+        registry.unregisterSubscription(unsubscribe("s1", "sub-1"));
+        registry.unregisterAllSubscriptions("s2");
+
+        // Then
+        assertTrue(registry.findSubscriptions(broadcast(conversationTopic)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should delegate other destinations to the default registry")
+    void shouldDelegateOtherDestinations() {
+        // Given
+        registry.registerSubscription(subscribe("s1", "sub-1", "/topic/announcements"));
+
+        // When
+        MultiValueMap<String, String> subscribers = registry.findSubscriptions(broadcast("/topic/announcements"));
+
+        // Then
+        assertEquals(List.of("sub-1"), subscribers.get("s1"));
+    }
+
+    @Test
+    @DisplayName("Should include pattern subscriptions when resolving a conversation topic")
+    void shouldIncludePatternSubscriptions() {
+        // Given
+        registry.registerSubscription(subscribe("s1", "sub-1", conversationTopic));
+        registry.registerSubscription(subscribe("s2", "sub-9", "/topic/conversation/*"));
+
+        // When
+        MultiValueMap<String, String> subscribers = registry.findSubscriptions(broadcast(conversationTopic));
+
+        // Then
+        assertEquals(List.of("sub-1"), subscribers.get("s1"));
+        assertEquals(List.of("sub-9"), subscribers.get("s2"));
+
+        // When - the pattern subscriber disconnects
+        registry.unregisterAllSubscriptions("s2");
+
+        // Then
+        assertNull(registry.findSubscriptions(broadcast(conversationTopic)).get("s2"));
+    }
+
+    @Test
+    @DisplayName("Should deliver to selector subscriptions on a conversation topic without pattern subscribers")
+    void shouldIncludeSelectorSubscriptionsOnConversationTopic() {
+        // Given
+        registry.setSelectorHeaderName("selector");
+        registry.registerSubscription(subscribe("s1", "sub-1", conversationTopic));
+        registry.registerSubscription(subscribe("s2", "sub-2", conversationTopic, "headers['priority'] == 'high'"));
+
+        // When
+        MultiValueMap<String, String> matching = registry.findSubscriptions(broadcast(conversationTopic, "high"));
+        MultiValueMap<String, String> notMatching = registry.findSubscriptions(broadcast(conversationTopic, "low"));
+
+        // Then
+        assertEquals(List.of("sub-1"), matching.get("s1"));
+        assertEquals(List.of("sub-2"), matching.get("s2"));
+        assertEquals(List.of("sub-1"), notMatching.get("s1"));
+        assertNull(notMatching.get("s2"));
+
+        // When - the selector subscription is removed
+        registry.unregisterSubscription(unsubscribe("s2", "sub-2"));
+
+        // Then
+        assertNull(registry.findSubscriptions(broadcast(conversationTopic, "high")).get("s2"));
+    }
+
+    private static Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        return subscribe(sessionId, subscriptionId, destination, null);
+    }
+
+    private static Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination,
+                                             String selector) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        if (selector != null) {
+            accessor.setNativeHeader("selector", selector);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<byte[]> unsubscribe(String sessionId, String subscriptionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<byte[]> broadcast(String destination) {
+        return broadcast(destination, null);
+    }
+
+    private static Message<byte[]> broadcast(String destination, String priority) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(destination);
+        if (priority != null) {
+            accessor.setHeader("priority", priority);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
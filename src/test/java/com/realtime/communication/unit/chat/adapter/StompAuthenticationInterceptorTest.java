@@ -0,0 +1,147 @@
+package com.realtime.communication.unit.chat.adapter;
+
+import com.realtime.communication.auth.application.port.AccessTokenDenylist;
+import com.realtime.communication.auth.infrastructure.security.JwtTokenProvider;
+import com.realtime.communication.auth.infrastructure.security.VerifiedToken;
+import com.realtime.communication.chat.adapter.in.websocket.StompAuthenticationInterceptor;
+import com.realtime.communication.chat.adapter.in.websocket.StompPrincipal;
+import com.realtime.communication.chat.adapter.in.websocket.WebSocketSessionSweeper;
+import com.realtime.communication.shared.domain.exception.UnauthorizedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for StompAuthenticationInterceptor
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StompAuthenticationInterceptor Tests")
+class StompAuthenticationInterceptorTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private AccessTokenDenylist accessTokenDenylist;
+
+    @Mock
+    private WebSocketSessionSweeper sessionSweeper;
+
+    private StompAuthenticationInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new StompAuthenticationInterceptor(jwtTokenProvider, accessTokenDenylist, sessionSweeper);
+    }
+
+    @Test
+    @DisplayName("Should bind a parsed principal on CONNECT with a valid token")
+    void shouldBindPrincipalOnConnect() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+        when(jwtTokenProvider.verify("valid.token"))
+            .thenReturn(Optional.of(new VerifiedToken(userId.toString(), "token-id", expiresAt)));
+        Message<byte[]> connect = frame(StompCommand.CONNECT, "Bearer valid.token");
+
+        // When
+        Message<?> result = interceptor.preSend(connect, null);
+
+        // Then
+        StompPrincipal principal = (StompPrincipal) StompHeaderAccessor.wrap(result).getUser();
+        assertNotNull(principal);
+        assertEquals(userId, principal.userId().getValue());
+        verify(sessionSweeper).track("session-1", principal);
+    }
+
+    @Test
+    @DisplayName("Should reject CONNECT with an invalid token")
+    void shouldRejectConnectWithInvalidToken() {
+        // Given
+        when(jwtTokenProvider.verify("bad.token")).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(UnauthorizedException.class, () ->
+            interceptor.preSend(frame(StompCommand.CONNECT, "Bearer bad.token"), null)
+        );
+        verifyNoInteractions(sessionSweeper);
+    }
+
+    @Test
+    @DisplayName("Should reject CONNECT with a denylisted token")
+    void shouldRejectConnectWithDenylistedToken() {
+        // Given
+        when(jwtTokenProvider.verify("revoked.token")).thenReturn(Optional.of(
+            new VerifiedToken(UUID.randomUUID().toString(), "revoked-id", Instant.now().plusSeconds(3600))));
+        when(accessTokenDenylist.isDenied("revoked-id")).thenReturn(true);
+
+        // When & Then
+        assertThrows(UnauthorizedException.class, () ->
+            interceptor.preSend(frame(StompCommand.CONNECT, "Bearer revoked.token"), null)
+        );
+        verifyNoInteractions(sessionSweeper);
+    }
+
+    @Test
+    @DisplayName("Should leave CONNECT without a token anonymous")
+    void shouldLeaveConnectWithoutTokenAnonymous() {
+        // When
+        Message<?> result = interceptor.preSend(frame(StompCommand.CONNECT, null), null);
+
+        // Then
+        assertNull(StompHeaderAccessor.wrap(result).getUser());
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
+    @Test
+    @DisplayName("Should reject CONNECT that relies on the handshake principal alone")
+    void shouldRejectConnectWithHandshakePrincipalOnly() {
+        // Given - authenticated by the HTTP handshake, which the sweeper does not track
+        Message<byte[]> connect = frame(StompCommand.CONNECT, null, () -> UUID.randomUUID().toString());
+
+        // When & Then
+        assertThrows(UnauthorizedException.class, () -> interceptor.preSend(connect, null));
+        verifyNoInteractions(jwtTokenProvider, sessionSweeper);
+    }
+
+    @Test
+    @DisplayName("Should not touch tokens on SEND frames")
+    void shouldNotTouchTokensOnSend() {
+        // When
+        interceptor.preSend(frame(StompCommand.SEND, "Bearer valid.token"), null);
+
+        // Then
+        verify(jwtTokenProvider, never()).verify(anyString());
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String authorization) {
+        return frame(command, authorization, null);
+    }
+
+    private static Message<byte[]> frame(StompCommand command, String authorization, Principal handshakeUser) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session-1");
+        accessor.setUser(handshakeUser);
+        if (authorization != null) {
+            accessor.setNativeHeader("Authorization", authorization);
+        }
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
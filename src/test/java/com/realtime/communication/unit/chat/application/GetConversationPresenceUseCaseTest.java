@@ -0,0 +1,117 @@
+package com.realtime.communication.unit.chat.application;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.dto.ConversationPresenceDTO;
+import com.realtime.communication.chat.application.port.ConversationMembership;
+import com.realtime.communication.chat.application.port.PresenceGateway;
+import com.realtime.communication.chat.application.usecase.GetConversationPresenceUseCase;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.shared.domain.exception.UnauthorizedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GetConversationPresenceUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetConversationPresenceUseCase Tests")
+class GetConversationPresenceUseCaseTest {
+
+    @Mock
+    private ConversationMembership conversationMembership;
+
+    @Mock
+    private PresenceGateway presenceGateway;
+
+    private GetConversationPresenceUseCase getConversationPresenceUseCase;
+
+    private ConversationId conversationId;
+    private UserId user1Id;
+    private UserId user2Id;
+    private UserId user3Id;
+
+    @BeforeEach
+    void setUp() {
+        getConversationPresenceUseCase = new GetConversationPresenceUseCase(conversationMembership, presenceGateway);
+
+        conversationId = new ConversationId(UUID.randomUUID());
+        user1Id = new UserId(UUID.randomUUID());
+        user2Id = new UserId(UUID.randomUUID());
+        user3Id = new UserId(UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("Should encode online participants as a bitmap in participant order")
+    void shouldEncodeOnlineParticipantsAsBitmap() {
+        // Given
+        List<UserId> participants = List.of(user1Id, user2Id, user3Id);
+        when(conversationMembership.isMember(conversationId, user1Id)).thenReturn(true);
+        when(conversationMembership.participantsOf(conversationId)).thenReturn(participants);
+        when(presenceGateway.onlineAmong(participants)).thenReturn(Set.of(user1Id, user3Id));
+
+        // When
+        ConversationPresenceDTO result = getConversationPresenceUseCase.execute(conversationId, user1Id, null);
+
+        // Then
+        assertEquals(List.of(user1Id.getValue(), user2Id.getValue(), user3Id.getValue()), result.participants());
+        BitSet online = BitSet.valueOf(Base64.getDecoder().decode(result.online()));
+        assertTrue(online.get(0));
+        assertFalse(online.get(1));
+        assertTrue(online.get(2));
+        verify(presenceGateway, times(1)).onlineAmong(participants);
+    }
+
+    @Test
+    @DisplayName("Should omit a known participant list and pad the bitmap to every participant")
+    void shouldOmitKnownParticipantsAndPadBitmap() {
+        // Given - nine participants, only the first online
+        List<UserId> participants = new ArrayList<>(List.of(user1Id));
+        for (int i = 0; i < 8; i++) {
+            participants.add(new UserId(UUID.randomUUID()));
+        }
+        when(conversationMembership.isMember(conversationId, user1Id)).thenReturn(true);
+        when(conversationMembership.participantsOf(conversationId)).thenReturn(participants);
+        when(presenceGateway.onlineAmong(participants)).thenReturn(Set.of(user1Id));
+        String version = getConversationPresenceUseCase.execute(conversationId, user1Id, null).participantsVersion();
+
+        // When
+        ConversationPresenceDTO result = getConversationPresenceUseCase.execute(conversationId, user1Id, version);
+
+        // Then
+        assertEquals(version, result.participantsVersion());
+        assertNull(result.participants());
+        byte[] bitmap = Base64.getDecoder().decode(result.online());
+        assertEquals(2, bitmap.length);
+        assertEquals(1, bitmap[0]);
+        assertEquals(0, bitmap[1]);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when user is not a participant")
+    void shouldThrowExceptionWhenUserNotParticipant() {
+        // Given
+        UserId outsider = new UserId(UUID.randomUUID());
+        when(conversationMembership.isMember(conversationId, outsider)).thenReturn(false);
+
+        // When & Then
+        assertThrows(UnauthorizedException.class, () ->
+            getConversationPresenceUseCase.execute(conversationId, outsider, null)
+        );
+        verify(presenceGateway, never()).onlineAmong(any());
+    }
+}
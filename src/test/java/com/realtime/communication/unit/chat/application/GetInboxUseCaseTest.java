@@ -0,0 +1,99 @@
+package com.realtime.communication.unit.chat.application;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.dto.InboxEntryDTO;
+import com.realtime.communication.chat.application.port.InboxQuery;
+import com.realtime.communication.chat.application.port.InboxQuery.InboxEntry;
+import com.realtime.communication.chat.application.port.UnreadCounters;
+import com.realtime.communication.chat.application.usecase.GetInboxUseCase;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import com.realtime.communication.chat.domain.model.ConversationType;
+import com.realtime.communication.chat.domain.model.InboxCursor;
+import com.realtime.communication.chat.domain.model.MessageId;
+import com.realtime.communication.chat.domain.model.MessageType;
+import com.realtime.communication.shared.domain.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GetInboxUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetInboxUseCase Tests")
+class GetInboxUseCaseTest {
+
+    @Mock
+    private InboxQuery inboxQuery;
+
+    @Mock
+    private UnreadCounters unreadCounters;
+
+    private GetInboxUseCase getInboxUseCase;
+
+    private UserId userId;
+
+    @BeforeEach
+    void setUp() {
+        getInboxUseCase = new GetInboxUseCase(inboxQuery, unreadCounters, 100);
+        userId = UserId.generate();
+    }
+
+    @Test
+    @DisplayName("Should attach capped unread counts and a cursor to every conversation")
+    void shouldCombineInboxWithUnreadCounters() {
+        // Given
+        Instant now = Instant.now();
+        InboxEntry active = new InboxEntry(ConversationId.generate(), ConversationType.GROUP, MessageId.generate(),
+            UserId.generate(), "hi all", MessageType.TEXT, now);
+        InboxEntry empty = new InboxEntry(ConversationId.generate(), ConversationType.ONE_TO_ONE, null, null, null,
+            null, now.minusSeconds(60));
+        when(inboxQuery.findBefore(userId, null, 20))
+            .thenReturn(new SliceImpl<>(List.of(active, empty), PageRequest.ofSize(20), true));
+        when(unreadCounters.countsOf(userId)).thenReturn(Map.of(active.conversationId(), 250L));
+
+        // When
+        Slice<InboxEntryDTO> inbox = getInboxUseCase.execute(userId, null, 20);
+
+        // Then
+        assertTrue(inbox.hasNext());
+        InboxEntryDTO first = inbox.getContent().get(0);
+        assertEquals(active.conversationId().getValue(), first.conversationId());
+        assertEquals("hi all", first.lastMessagePreview());
+        assertEquals(100L, first.unreadCount());
+        assertEquals(active.conversationId().getValue(), InboxCursor.parse(first.cursor()).getConversationId());
+        InboxEntryDTO second = inbox.getContent().get(1);
+        assertNull(second.lastMessageId());
+        assertEquals(0L, second.unreadCount());
+    }
+
+    @Test
+    @DisplayName("Should cap the page size and reject non-positive sizes")
+    void shouldValidatePageSize() {
+        // Given
+        when(inboxQuery.findBefore(eq(userId), any(), anyInt()))
+            .thenReturn(new SliceImpl<>(List.of(), PageRequest.ofSize(100), false));
+
+        // When
+        getInboxUseCase.execute(userId, null, 1000);
+
+        // Then
+        verify(inboxQuery).findBefore(userId, null, 100);
+        assertThrows(ValidationException.class, () -> getInboxUseCase.execute(userId, null, 0));
+    }
+}
@@ -0,0 +1,52 @@
+package com.realtime.communication.unit.chat.application;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.port.UnreadCounters;
+import com.realtime.communication.chat.application.usecase.GetUnreadCountsUseCase;
+import com.realtime.communication.chat.domain.model.ConversationId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GetUnreadCountsUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetUnreadCountsUseCase Tests")
+class GetUnreadCountsUseCaseTest {
+
+    @Mock
+    private UnreadCounters unreadCounters;
+
+    private GetUnreadCountsUseCase getUnreadCountsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        getUnreadCountsUseCase = new GetUnreadCountsUseCase(unreadCounters, 100);
+    }
+
+    @Test
+    @DisplayName("Should return every counter of the user, capped")
+    void shouldReturnCappedCounters() {
+        // Given
+        UserId userId = UserId.generate();
+        ConversationId quiet = ConversationId.generate();
+        ConversationId busy = ConversationId.generate();
+        when(unreadCounters.countsOf(userId)).thenReturn(Map.of(quiet, 3L, busy, 250L));
+
+        // When
+        Map<UUID, Long> counts = getUnreadCountsUseCase.execute(userId);
+
+        // Then
+        assertEquals(Map.of(quiet.getValue(), 3L, busy.getValue(), 100L), counts);
+    }
+}
@@ -2,12 +2,13 @@ package com.realtime.communication.unit.chat.application;
 
 import com.realtime.communication.auth.domain.model.UserId;
 import com.realtime.communication.chat.application.dto.MessageDTO;
-import com.realtime.communication.chat.application.port.ConversationRepository;
+import com.realtime.communication.chat.application.port.ConversationMembership;
 import com.realtime.communication.chat.application.port.MessageRepository;
 import com.realtime.communication.chat.application.usecase.LoadConversationHistoryUseCase;
 import com.realtime.communication.chat.domain.model.*;
 import com.realtime.communication.shared.domain.exception.NotFoundException;
 import com.realtime.communication.shared.domain.exception.UnauthorizedException;
+import com.realtime.communication.shared.domain.exception.ValidationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,12 +19,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.Instant;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -39,7 +43,7 @@ class LoadConversationHistoryUseCaseTest {
     private MessageRepository messageRepository;
 
     @Mock
-    private ConversationRepository conversationRepository;
+    private ConversationMembership conversationMembership;
 
     private LoadConversationHistoryUseCase loadConversationHistoryUseCase;
 
@@ -52,7 +56,7 @@ class LoadConversationHistoryUseCaseTest {
     void setUp() {
         loadConversationHistoryUseCase = new LoadConversationHistoryUseCase(
             messageRepository,
-            conversationRepository
+            conversationMembership
         );
 
         conversationId = new ConversationId(UUID.randomUUID());
@@ -75,7 +79,7 @@ class LoadConversationHistoryUseCaseTest {
         List<Message> messages = createSampleMessages(3);
         Page<Message> messagePage = new PageImpl<>(messages);
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
+        givenParticipantsOf(conversation);
         when(messageRepository.findByConversationId(eq(conversationId), any(Pageable.class)))
             .thenReturn(messagePage);
 
@@ -85,7 +89,7 @@ class LoadConversationHistoryUseCaseTest {
         // Then
         assertNotNull(result);
         assertEquals(3, result.getContent().size());
-        verify(conversationRepository).findById(conversationId);
+        verify(conversationMembership).isMember(eq(conversationId), any(UserId.class));
         verify(messageRepository).findByConversationId(eq(conversationId), any(Pageable.class));
     }
 
@@ -98,7 +102,7 @@ class LoadConversationHistoryUseCaseTest {
         List<Message> messages = createSampleMessages(3);
         Page<Message> messagePage = new PageImpl<>(messages);
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
+        givenParticipantsOf(conversation);
         when(messageRepository.findByConversationId(eq(conversationId), any(Pageable.class)))
             .thenReturn(messagePage);
 
@@ -124,7 +128,8 @@ class LoadConversationHistoryUseCaseTest {
         int page = 0;
         int size = 20;
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.empty());
+        when(conversationMembership.isMember(eq(conversationId), any(UserId.class)))
+            .thenThrow(new NotFoundException("Conversation not found"));
 
         // When & Then
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
@@ -132,7 +137,7 @@ class LoadConversationHistoryUseCaseTest {
         );
 
         assertTrue(exception.getMessage().contains("Conversation not found"));
-        verify(conversationRepository).findById(conversationId);
+        verify(conversationMembership).isMember(eq(conversationId), any(UserId.class));
         verify(messageRepository, never()).findByConversationId(any(), any());
     }
 
@@ -144,7 +149,7 @@ class LoadConversationHistoryUseCaseTest {
         int page = 0;
         int size = 20;
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
+        givenParticipantsOf(conversation);
 
         // When & Then
         UnauthorizedException exception = assertThrows(UnauthorizedException.class, () ->
@@ -152,7 +157,7 @@ class LoadConversationHistoryUseCaseTest {
         );
 
         assertTrue(exception.getMessage().contains("not a participant"));
-        verify(conversationRepository).findById(conversationId);
+        verify(conversationMembership).isMember(eq(conversationId), any(UserId.class));
         verify(messageRepository, never()).findByConversationId(any(), any());
     }
 
@@ -165,7 +170,7 @@ class LoadConversationHistoryUseCaseTest {
         List<Message> messages = createSampleMessages(3);
         Page<Message> messagePage = new PageImpl<>(messages);
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
+        givenParticipantsOf(conversation);
         when(messageRepository.findByConversationId(eq(conversationId), any(Pageable.class)))
             .thenReturn(messagePage);
 
@@ -191,7 +196,7 @@ class LoadConversationHistoryUseCaseTest {
         int size = 20;
         Page<Message> emptyPage = new PageImpl<>(Collections.emptyList());
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
+        givenParticipantsOf(conversation);
         when(messageRepository.findByConversationId(eq(conversationId), any(Pageable.class)))
             .thenReturn(emptyPage);
 
@@ -213,7 +218,7 @@ class LoadConversationHistoryUseCaseTest {
         List<Message> messages = createSampleMessages(10);
         Page<Message> messagePage = new PageImpl<>(messages);
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
+        givenParticipantsOf(conversation);
         when(messageRepository.findByConversationId(eq(conversationId), any(Pageable.class)))
             .thenReturn(messagePage);
 
@@ -240,7 +245,7 @@ class LoadConversationHistoryUseCaseTest {
         Message message = messages.get(0);
         Page<Message> messagePage = new PageImpl<>(messages);
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
+        givenParticipantsOf(conversation);
         when(messageRepository.findByConversationId(eq(conversationId), any(Pageable.class)))
             .thenReturn(messagePage);
 
@@ -274,7 +279,7 @@ class LoadConversationHistoryUseCaseTest {
             org.springframework.data.domain.PageRequest.of(page, size),
             totalElements);
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
+        givenParticipantsOf(conversation);
         when(messageRepository.findByConversationId(eq(conversationId), any(Pageable.class)))
             .thenReturn(messagePage);
 
@@ -311,7 +316,7 @@ class LoadConversationHistoryUseCaseTest {
         List<Message> messages = createSampleMessages(5);
         Page<Message> messagePage = new PageImpl<>(messages);
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(groupConversation));
+        givenParticipantsOf(groupConversation);
         when(messageRepository.findByConversationId(eq(conversationId), any(Pageable.class)))
             .thenReturn(messagePage);
 
@@ -331,17 +336,116 @@ class LoadConversationHistoryUseCaseTest {
         int page = 0;
         int size = 20;
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
+        givenParticipantsOf(conversation);
 
         // When & Then
         assertThrows(UnauthorizedException.class, () ->
             loadConversationHistoryUseCase.execute(conversationId, unauthorizedUserId, page, size)
         );
 
-        verify(conversationRepository).findById(conversationId);
+        verify(conversationMembership).isMember(eq(conversationId), any(UserId.class));
         verify(messageRepository, never()).findByConversationId(any(), any());
     }
 
+    @Test
+    @DisplayName("Should load latest slice when no cursor is given")
+    void shouldLoadLatestSliceWhenNoCursorIsGiven() {
+        // Given
+        List<Message> messages = createSampleMessages(3);
+        givenParticipantsOf(conversation);
+        when(messageRepository.findLatest(conversationId, 20)).thenReturn(new SliceImpl<>(messages));
+
+        // When
+        Slice<MessageDTO> result = loadConversationHistoryUseCase.execute(conversationId, user1Id, null, null, 20);
+
+        // Then
+        assertEquals(3, result.getContent().size());
+        verify(messageRepository).findLatest(conversationId, 20);
+        verify(messageRepository, never()).findByConversationId(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should page backwards from a before cursor")
+    void shouldPageBackwardsFromBeforeCursor() {
+        // Given
+        MessageCursor cursor = new MessageCursor(Instant.now(), UUID.randomUUID());
+        givenParticipantsOf(conversation);
+        when(messageRepository.findBefore(conversationId, cursor, 10))
+            .thenReturn(new SliceImpl<>(createSampleMessages(2)));
+
+        // When
+        Slice<MessageDTO> result = loadConversationHistoryUseCase.execute(conversationId, user1Id, cursor, null, 10);
+
+        // Then
+        assertEquals(2, result.getContent().size());
+        verify(messageRepository).findBefore(conversationId, cursor, 10);
+        verify(messageRepository, never()).findAfter(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should catch up forwards from an after cursor")
+    void shouldCatchUpForwardsFromAfterCursor() {
+        // Given
+        MessageCursor cursor = new MessageCursor(Instant.now(), UUID.randomUUID());
+        givenParticipantsOf(conversation);
+        when(messageRepository.findAfter(conversationId, cursor, 10))
+            .thenReturn(new SliceImpl<>(Collections.emptyList()));
+
+        // When
+        Slice<MessageDTO> result = loadConversationHistoryUseCase.execute(conversationId, user1Id, null, cursor, 10);
+
+        // Then
+        assertTrue(result.getContent().isEmpty());
+        verify(messageRepository).findAfter(conversationId, cursor, 10);
+    }
+
+    @Test
+    @DisplayName("Should cap slice size")
+    void shouldCapSliceSize() {
+        // Given
+        givenParticipantsOf(conversation);
+        when(messageRepository.findLatest(eq(conversationId), anyInt()))
+            .thenReturn(new SliceImpl<>(Collections.emptyList()));
+
+        // When
+        loadConversationHistoryUseCase.execute(conversationId, user1Id, null, null, 10_000);
+
+        // Then
+        verify(messageRepository).findLatest(conversationId, 100);
+    }
+
+    @Test
+    @DisplayName("Should reject both before and after cursors")
+    void shouldRejectBothBeforeAndAfterCursors() {
+        // Given
+        MessageCursor cursor = new MessageCursor(Instant.now(), UUID.randomUUID());
+
+        // When & Then
+        assertThrows(ValidationException.class, () ->
+            loadConversationHistoryUseCase.execute(conversationId, user1Id, cursor, cursor, 20)
+        );
+        verifyNoInteractions(messageRepository);
+    }
+
+    @Test
+    @DisplayName("Should verify participant before loading a slice")
+    void shouldVerifyParticipantBeforeLoadingSlice() {
+        // Given
+        UserId unauthorizedUserId = new UserId(UUID.randomUUID());
+        givenParticipantsOf(conversation);
+
+        // When & Then
+        assertThrows(UnauthorizedException.class, () ->
+            loadConversationHistoryUseCase.execute(conversationId, unauthorizedUserId, null, null, 20)
+        );
+        verify(messageRepository, never()).findLatest(any(), anyInt());
+    }
+
+    private void givenParticipantsOf(Conversation conversation) {
+        when(conversationMembership.isMember(eq(conversationId), any(UserId.class)))
+            .thenAnswer(invocation -> conversation.hasParticipant(invocation.getArgument(1)));
+    }
+
     // Helper method to create sample messages
     private List<Message> createSampleMessages(int count) {
         List<Message> messages = new ArrayList<>();
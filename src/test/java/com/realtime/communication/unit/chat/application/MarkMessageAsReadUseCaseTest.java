@@ -0,0 +1,123 @@
+package com.realtime.communication.unit.chat.application;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.dto.ReadReceiptDTO;
+import com.realtime.communication.chat.application.port.ConversationMembership;
+import com.realtime.communication.chat.application.port.MessageRepository;
+import com.realtime.communication.chat.application.port.ReceiptWatermarkTracker;
+import com.realtime.communication.chat.application.usecase.MarkMessageAsReadUseCase;
+import com.realtime.communication.chat.domain.model.*;
+import com.realtime.communication.shared.domain.exception.UnauthorizedException;
+import com.realtime.communication.shared.domain.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MarkMessageAsReadUseCase
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MarkMessageAsReadUseCase Tests")
+class MarkMessageAsReadUseCaseTest {
+
+    @Mock
+    private ConversationMembership conversationMembership;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private ReceiptWatermarkTracker receiptWatermarkTracker;
+
+    private MarkMessageAsReadUseCase markMessageAsReadUseCase;
+
+    private UserId readerId;
+    private ConversationId conversationId;
+
+    @BeforeEach
+    void setUp() {
+        markMessageAsReadUseCase = new MarkMessageAsReadUseCase(conversationMembership, messageRepository,
+            receiptWatermarkTracker);
+        readerId = UserId.generate();
+        conversationId = ConversationId.generate();
+    }
+
+    @Test
+    @DisplayName("Should advance the read watermark to the stored position of every receipt")
+    void shouldRecordReadPositions() {
+        // Given
+        ConversationId otherConversationId = ConversationId.generate();
+        Message message = message(conversationId, Instant.now().minusSeconds(5));
+        Message otherMessage = message(otherConversationId, Instant.now().minusSeconds(1));
+        when(conversationMembership.isMember(any(ConversationId.class), eq(readerId))).thenReturn(true);
+        when(messageRepository.findAllById(anyCollection())).thenReturn(List.of(otherMessage, message));
+
+        // When
+        markMessageAsReadUseCase.execute(readerId, List.of(
+            new ReadReceiptDTO(conversationId.getValue(), message.getId().getValue()),
+            new ReadReceiptDTO(otherConversationId.getValue(), otherMessage.getId().getValue())));
+
+        // Then
+        verify(receiptWatermarkTracker).recordRead(conversationId, readerId, MessageCursor.of(message));
+        verify(receiptWatermarkTracker).recordRead(otherConversationId, readerId, MessageCursor.of(otherMessage));
+    }
+
+    @Test
+    @DisplayName("Should reject a receipt for a message of another conversation")
+    void shouldRejectMessageOfAnotherConversation() {
+        // Given - the reader is a participant, but the message belongs elsewhere
+        Message elsewhere = message(ConversationId.generate(), Instant.now());
+        when(conversationMembership.isMember(conversationId, readerId)).thenReturn(true);
+        when(messageRepository.findAllById(anyCollection())).thenReturn(List.of(elsewhere));
+        ReadReceiptDTO receipt = new ReadReceiptDTO(conversationId.getValue(), elsewhere.getId().getValue());
+
+        // When & Then
+        assertThrows(ValidationException.class, () -> markMessageAsReadUseCase.execute(readerId, List.of(receipt)));
+        verifyNoInteractions(receiptWatermarkTracker);
+    }
+
+    @Test
+    @DisplayName("Should skip a receipt for an unknown message")
+    void shouldSkipUnknownMessage() {
+        // Given
+        when(conversationMembership.isMember(conversationId, readerId)).thenReturn(true);
+        when(messageRepository.findAllById(anyCollection())).thenReturn(List.of());
+        ReadReceiptDTO receipt = new ReadReceiptDTO(conversationId.getValue(), UUID.randomUUID());
+
+        // When
+        markMessageAsReadUseCase.execute(readerId, List.of(receipt));
+
+        // Then
+        verifyNoInteractions(receiptWatermarkTracker);
+    }
+
+    @Test
+    @DisplayName("Should reject receipts from non-participants")
+    void shouldRejectNonParticipant() {
+        // Given
+        ReadReceiptDTO receipt = new ReadReceiptDTO(conversationId.getValue(), UUID.randomUUID());
+        when(conversationMembership.isMember(conversationId, readerId)).thenReturn(false);
+
+        // When & Then
+        assertThrows(UnauthorizedException.class,
+            () -> markMessageAsReadUseCase.execute(readerId, List.of(receipt)));
+        verifyNoInteractions(messageRepository, receiptWatermarkTracker);
+    }
+
+    private Message message(ConversationId conversationId, Instant sentAt) {
+        return new Message(MessageId.generate(), conversationId, UserId.generate(), "hello", MessageType.TEXT,
+            MessageStatus.SENT, null, sentAt, null, null, false, null);
+    }
+}
@@ -2,12 +2,20 @@ package com.realtime.communication.unit.chat.application;
 
 import com.realtime.communication.auth.domain.model.UserId;
 import com.realtime.communication.chat.application.dto.MessageDTO;
-import com.realtime.communication.chat.application.port.ConversationRepository;
+import com.realtime.communication.chat.application.port.ConversationActivityTracker;
+import com.realtime.communication.chat.application.port.ConversationMembership;
+import com.realtime.communication.chat.application.port.InboxProjection;
+import com.realtime.communication.chat.application.port.MessageEventOutbox;
 import com.realtime.communication.chat.application.port.MessageRepository;
+import com.realtime.communication.chat.application.port.MessageWriteBuffer;
+import com.realtime.communication.chat.application.port.UnreadCounters;
 import com.realtime.communication.chat.application.usecase.SendMessageUseCase;
+import com.realtime.communication.chat.domain.event.MessageSentEvent;
 import com.realtime.communication.chat.domain.model.*;
 import com.realtime.communication.shared.domain.exception.NotFoundException;
 import com.realtime.communication.shared.domain.exception.UnauthorizedException;
+import com.realtime.communication.shared.infrastructure.monitoring.MetricsCollector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,15 +23,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
 import java.util.HashSet;
-import java.util.Optional;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -38,8 +50,24 @@ class SendMessageUseCaseTest {
     private MessageRepository messageRepository;
 
     @Mock
-    private ConversationRepository conversationRepository;
+    private ConversationMembership conversationMembership;
 
+    @Mock
+    private MessageWriteBuffer messageWriteBuffer;
+
+    @Mock
+    private ConversationActivityTracker conversationActivityTracker;
+
+    @Mock
+    private MessageEventOutbox messageEventOutbox;
+
+    @Mock
+    private UnreadCounters unreadCounters;
+
+    @Mock
+    private InboxProjection inboxProjection;
+
+    private SimpleMeterRegistry meterRegistry;
     private SendMessageUseCase sendMessageUseCase;
 
     private ConversationId conversationId;
@@ -49,7 +77,17 @@ class SendMessageUseCaseTest {
 
     @BeforeEach
     void setUp() {
-        sendMessageUseCase = new SendMessageUseCase(messageRepository, conversationRepository);
+        meterRegistry = new SimpleMeterRegistry();
+        sendMessageUseCase = new SendMessageUseCase(
+            messageRepository,
+            conversationMembership,
+            messageWriteBuffer,
+            conversationActivityTracker,
+            messageEventOutbox,
+            unreadCounters,
+            inboxProjection,
+            new MetricsCollector(meterRegistry)
+        );
 
         conversationId = new ConversationId(UUID.randomUUID());
         senderId = new UserId(UUID.randomUUID());
@@ -69,9 +107,8 @@ class SendMessageUseCaseTest {
         String content = "Hello, this is a test message!";
         MessageType messageType = MessageType.TEXT;
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
-        when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(conversationRepository.save(any(Conversation.class))).thenReturn(conversation);
+        givenParticipantsOf(conversation);
+        when(messageRepository.insert(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         MessageDTO result = sendMessageUseCase.execute(conversationId, senderId, content, messageType);
@@ -83,9 +120,10 @@ class SendMessageUseCaseTest {
         assertEquals(MessageStatus.SENT, result.status());
         assertNotNull(result.sentAt());
 
-        verify(conversationRepository).findById(conversationId);
-        verify(messageRepository).save(any(Message.class));
-        verify(conversationRepository).save(conversation);
+        verify(conversationMembership).isMember(eq(conversationId), any(UserId.class));
+        verify(messageRepository).insert(any(Message.class));
+        verify(conversationActivityTracker).recordActivity(eq(conversationId), any(Instant.class));
+        verify(inboxProjection).recordMessage(any(Message.class));
     }
 
     @Test
@@ -95,11 +133,10 @@ class SendMessageUseCaseTest {
         String content = "Test message";
         MessageType messageType = MessageType.TEXT;
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
-        when(conversationRepository.save(any(Conversation.class))).thenReturn(conversation);
+        givenParticipantsOf(conversation);
 
         ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
-        when(messageRepository.save(messageCaptor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(messageRepository.insert(messageCaptor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         sendMessageUseCase.execute(conversationId, senderId, content, messageType);
@@ -113,27 +150,20 @@ class SendMessageUseCaseTest {
     }
 
     @Test
-    @DisplayName("Should update conversation last message timestamp")
-    void shouldUpdateConversationLastMessageTimestamp() {
+    @DisplayName("Should record conversation activity at the message sent time")
+    void shouldRecordConversationActivityAtMessageSentTime() {
         // Given
         String content = "Test message";
         MessageType messageType = MessageType.TEXT;
-        Instant beforeSend = Instant.now();
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
-        when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
-        ArgumentCaptor<Conversation> conversationCaptor = ArgumentCaptor.forClass(Conversation.class);
-        when(conversationRepository.save(conversationCaptor.capture())).thenReturn(conversation);
+        givenParticipantsOf(conversation);
+        when(messageRepository.insert(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
-        sendMessageUseCase.execute(conversationId, senderId, content, messageType);
+        MessageDTO result = sendMessageUseCase.execute(conversationId, senderId, content, messageType);
 
         // Then
-        Conversation savedConversation = conversationCaptor.getValue();
-        assertNotNull(savedConversation.getLastMessageAt());
-        assertTrue(savedConversation.getLastMessageAt().isAfter(beforeSend) ||
-                  savedConversation.getLastMessageAt().equals(beforeSend));
+        verify(conversationActivityTracker).recordActivity(conversationId, result.sentAt());
     }
 
     @Test
@@ -143,7 +173,8 @@ class SendMessageUseCaseTest {
         String content = "Test message";
         MessageType messageType = MessageType.TEXT;
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.empty());
+        when(conversationMembership.isMember(eq(conversationId), any(UserId.class)))
+            .thenThrow(new NotFoundException("Conversation not found"));
 
         // When & Then
         NotFoundException exception = assertThrows(NotFoundException.class, () ->
@@ -151,9 +182,9 @@ class SendMessageUseCaseTest {
         );
 
         assertTrue(exception.getMessage().contains("Conversation not found"));
-        verify(conversationRepository).findById(conversationId);
-        verify(messageRepository, never()).save(any(Message.class));
-        verify(conversationRepository, never()).save(any(Conversation.class));
+        verify(conversationMembership).isMember(eq(conversationId), any(UserId.class));
+        verify(messageRepository, never()).insert(any(Message.class));
+        verify(conversationActivityTracker, never()).recordActivity(any(), any());
     }
 
     @Test
@@ -164,7 +195,7 @@ class SendMessageUseCaseTest {
         String content = "Test message";
         MessageType messageType = MessageType.TEXT;
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
+        givenParticipantsOf(conversation);
 
         // When & Then
         UnauthorizedException exception = assertThrows(UnauthorizedException.class, () ->
@@ -172,9 +203,9 @@ class SendMessageUseCaseTest {
         );
 
         assertTrue(exception.getMessage().contains("not a participant"));
-        verify(conversationRepository).findById(conversationId);
-        verify(messageRepository, never()).save(any(Message.class));
-        verify(conversationRepository, never()).save(any(Conversation.class));
+        verify(conversationMembership).isMember(eq(conversationId), any(UserId.class));
+        verify(messageRepository, never()).insert(any(Message.class));
+        verify(conversationActivityTracker, never()).recordActivity(any(), any());
     }
 
     @Test
@@ -184,11 +215,10 @@ class SendMessageUseCaseTest {
         String content = "Test message";
         MessageType messageType = MessageType.TEXT;
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
-        when(conversationRepository.save(any(Conversation.class))).thenReturn(conversation);
+        givenParticipantsOf(conversation);
 
         ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
-        when(messageRepository.save(messageCaptor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(messageRepository.insert(messageCaptor.capture())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         sendMessageUseCase.execute(conversationId, senderId, content, messageType);
@@ -205,9 +235,8 @@ class SendMessageUseCaseTest {
         String content = "Test message";
         MessageType messageType = MessageType.TEXT;
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
-        when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(conversationRepository.save(any(Conversation.class))).thenReturn(conversation);
+        givenParticipantsOf(conversation);
+        when(messageRepository.insert(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         MessageDTO result = sendMessageUseCase.execute(conversationId, senderId, content, messageType);
@@ -233,9 +262,8 @@ class SendMessageUseCaseTest {
         String content = "Test message";
         MessageType messageType = MessageType.TEXT;
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
-        when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(conversationRepository.save(any(Conversation.class))).thenReturn(conversation);
+        givenParticipantsOf(conversation);
+        when(messageRepository.insert(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When - sender sends message
         MessageDTO result1 = sendMessageUseCase.execute(conversationId, senderId, content, messageType);
@@ -256,9 +284,8 @@ class SendMessageUseCaseTest {
         // Given
         String content = "Test message";
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
-        when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(conversationRepository.save(any(Conversation.class))).thenReturn(conversation);
+        givenParticipantsOf(conversation);
+        when(messageRepository.insert(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When & Then - TEXT message
         MessageDTO textResult = sendMessageUseCase.execute(conversationId, senderId, content, MessageType.TEXT);
@@ -296,9 +323,8 @@ class SendMessageUseCaseTest {
         String content = "Group message";
         MessageType messageType = MessageType.TEXT;
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(groupConversation));
-        when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(conversationRepository.save(any(Conversation.class))).thenReturn(groupConversation);
+        givenParticipantsOf(groupConversation);
+        when(messageRepository.insert(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         MessageDTO result = sendMessageUseCase.execute(conversationId, senderId, content, messageType);
@@ -306,7 +332,7 @@ class SendMessageUseCaseTest {
         // Then
         assertNotNull(result);
         assertEquals(content, result.content());
-        verify(messageRepository).save(any(Message.class));
+        verify(messageRepository).insert(any(Message.class));
     }
 
     @Test
@@ -317,7 +343,7 @@ class SendMessageUseCaseTest {
         String content = "Test message";
         MessageType messageType = MessageType.TEXT;
 
-        when(conversationRepository.findById(conversationId)).thenReturn(Optional.of(conversation));
+        givenParticipantsOf(conversation);
 
         // When & Then
         assertThrows(UnauthorizedException.class, () ->
@@ -325,7 +351,130 @@ class SendMessageUseCaseTest {
         );
 
         // Message should not be created
-        verify(messageRepository, never()).save(any(Message.class));
+        verify(messageRepository, never()).insert(any(Message.class));
+    }
+
+    @Test
+    @DisplayName("Should hand message to write-behind buffer instead of saving")
+    void shouldHandMessageToWriteBehindBufferInsteadOfSaving() {
+        // Given
+        String content = "Buffered message";
+
+        givenParticipantsOf(conversation);
+        when(messageWriteBuffer.offer(any(Message.class))).thenReturn(true);
+
+        // When
+        MessageDTO result = sendMessageUseCase.execute(conversationId, senderId, content, MessageType.TEXT);
+
+        // Then
+        assertEquals(content, result.content());
+        verify(messageWriteBuffer).offer(any(Message.class));
+        verify(messageRepository, never()).insert(any(Message.class));
+        verifyNoInteractions(messageEventOutbox);
+        // The flusher records it in the inbox once the message is committed
+        verifyNoInteractions(inboxProjection);
+    }
+
+    @Test
+    @DisplayName("Should save synchronously when write-behind buffer rejects the message")
+    void shouldSaveSynchronouslyWhenWriteBehindBufferRejects() {
+        // Given
+        givenParticipantsOf(conversation);
+        when(messageWriteBuffer.offer(any(Message.class))).thenReturn(false);
+        when(messageRepository.insert(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        sendMessageUseCase.execute(conversationId, senderId, "Overflow", MessageType.TEXT);
+
+        // Then
+        verify(messageRepository).insert(any(Message.class));
     }
-}
 
+    @Test
+    @DisplayName("Should record MessageSentEvent in the outbox when saving synchronously")
+    void shouldRecordMessageSentEventInOutbox() {
+        // Given
+        givenParticipantsOf(conversation);
+        when(messageRepository.insert(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<MessageSentEvent>> eventsCaptor = ArgumentCaptor.forClass(List.class);
+
+        // When
+        MessageDTO result = sendMessageUseCase.execute(conversationId, senderId, "Hello", MessageType.TEXT);
+
+        // Then
+        verify(messageEventOutbox).append(eventsCaptor.capture());
+        MessageSentEvent event = eventsCaptor.getValue().get(0);
+        assertEquals(result.id(), event.getMessageId().getValue());
+        assertEquals(conversationId, event.getConversationId());
+        assertEquals(result.sentAt(), event.getSentAt());
+    }
+
+    @Test
+    @DisplayName("Should count the message as unread for every participant except the sender")
+    void shouldIncrementUnreadCountersOfOtherParticipants() {
+        // Given
+        givenParticipantsOf(conversation);
+        when(conversationMembership.participantsOf(conversationId)).thenReturn(List.of(senderId, recipientId));
+        when(messageRepository.insert(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        sendMessageUseCase.execute(conversationId, senderId, "Hello", MessageType.TEXT);
+
+        // Then
+        verify(unreadCounters).increment(conversationId, List.of(recipientId));
+    }
+
+    @Test
+    @DisplayName("Should not fail the send when the unread counters cannot be incremented")
+    void shouldNotFailSendWhenUnreadIncrementFails() {
+        // Given
+        givenParticipantsOf(conversation);
+        when(conversationMembership.participantsOf(conversationId)).thenReturn(List.of(senderId, recipientId));
+        when(messageRepository.insert(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new RedisConnectionFailureException("Redis is down"))
+            .when(unreadCounters).increment(any(), any());
+
+        // When
+        MessageDTO result = sendMessageUseCase.execute(conversationId, senderId, "Hello", MessageType.TEXT);
+
+        // Then
+        assertNotNull(result);
+        verify(unreadCounters).increment(conversationId, List.of(recipientId));
+        assertEquals(1, meterRegistry.counter("chat.unread.increment.failed").count());
+    }
+
+    @Test
+    @DisplayName("Should record conversation activity, the inbox and unread counts only after the send commits")
+    void shouldRecordConversationActivityOnlyAfterCommit() {
+        // Given
+        givenParticipantsOf(conversation);
+        when(messageRepository.insert(any(Message.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            MessageDTO result = sendMessageUseCase.execute(conversationId, senderId, "Hello", MessageType.TEXT);
+
+            // Then - nothing before commit
+            verify(conversationActivityTracker, never()).recordActivity(any(), any());
+            verifyNoInteractions(inboxProjection, unreadCounters);
+
+            // When - the transaction commits
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Then
+            verify(conversationActivityTracker).recordActivity(conversationId, result.sentAt());
+            verify(inboxProjection).recordMessage(argThat(message -> message.getId().getValue().equals(result.id())));
+            verify(unreadCounters).increment(eq(conversationId), any());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private void givenParticipantsOf(Conversation conversation) {
+        when(conversationMembership.isMember(eq(conversationId), any(UserId.class)))
+            .thenAnswer(invocation -> conversation.hasParticipant(invocation.getArgument(1)));
+    }
+}
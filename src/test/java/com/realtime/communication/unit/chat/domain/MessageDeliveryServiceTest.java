@@ -0,0 +1,218 @@
+package com.realtime.communication.unit.chat.domain;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.application.port.ConversationMembership;
+import com.realtime.communication.chat.application.port.DeliveryQueue;
+import com.realtime.communication.chat.application.port.DeliveryQueue.PendingDelivery;
+import com.realtime.communication.chat.application.port.MessageEventOutbox;
+import com.realtime.communication.chat.application.port.MessageRepository;
+import com.realtime.communication.chat.application.port.ReceiptWatermarkTracker;
+import com.realtime.communication.chat.domain.event.MessageDeliveredEvent;
+import com.realtime.communication.chat.domain.model.*;
+import com.realtime.communication.chat.domain.service.MessageDeliveryService;
+import com.realtime.communication.shared.infrastructure.monitoring.MetricsCollector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MessageDeliveryService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageDeliveryService Tests")
+class MessageDeliveryServiceTest {
+
+    @Mock
+    private ConversationMembership conversationMembership;
+
+    @Mock
+    private DeliveryQueue deliveryQueue;
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private MessageEventOutbox messageEventOutbox;
+
+    @Mock
+    private ReceiptWatermarkTracker receiptWatermarkTracker;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MessageDeliveryService service;
+    private ConversationId conversationId;
+    private UserId sender;
+    private UserId connectedRecipient;
+    private UserId offlineRecipient;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new MessageDeliveryService(conversationMembership, deliveryQueue,
+            messageRepository, messageEventOutbox, receiptWatermarkTracker, new MetricsCollector(meterRegistry), 100);
+        conversationId = ConversationId.generate();
+        sender = UserId.generate();
+        connectedRecipient = UserId.generate();
+        offlineRecipient = UserId.generate();
+    }
+
+    @Test
+    @DisplayName("Should queue a message for every recipient other than the sender")
+    @SuppressWarnings("unchecked")
+    void shouldQueueForEveryRecipient() {
+        // Given
+        MessageId messageId = MessageId.generate();
+        Instant sentAt = Instant.now();
+        when(conversationMembership.participantsOf(conversationId))
+            .thenReturn(List.of(sender, connectedRecipient, offlineRecipient));
+
+        // When
+        service.enqueueForRecipients(conversationId, sender, messageId, sentAt);
+
+        // Then
+        ArgumentCaptor<Collection<UserId>> recipients = ArgumentCaptor.forClass(Collection.class);
+        verify(deliveryQueue).enqueue(recipients.capture(), eq(messageId), eq(sentAt));
+        assertEquals(List.of(connectedRecipient, offlineRecipient), List.copyOf(recipients.getValue()));
+    }
+
+    @Test
+    @DisplayName("Should count a failed enqueue instead of failing the send")
+    void shouldCountFailedEnqueue() {
+        // Given
+        when(conversationMembership.participantsOf(conversationId)).thenReturn(List.of(sender, offlineRecipient));
+        doThrow(new RedisConnectionFailureException("Redis is down"))
+            .when(deliveryQueue).enqueue(anyCollection(), any(), any());
+
+        // When & Then
+        assertDoesNotThrow(() ->
+            service.enqueueForRecipients(conversationId, sender, MessageId.generate(), Instant.now()));
+        assertEquals(1, meterRegistry.counter("chat.delivery.enqueue.failed").count());
+    }
+
+    @Test
+    @DisplayName("Should replay a message to a recipient whose socket died while presence still showed them online")
+    @SuppressWarnings("unchecked")
+    void shouldReplayToRecipientDisconnectedBeforePresenceNoticed() {
+        // Given - the recipient is still online in presence, but the broadcast never reached them
+        Message sent = message(Instant.now());
+        when(conversationMembership.participantsOf(conversationId)).thenReturn(List.of(sender, connectedRecipient));
+        service.enqueueForRecipients(conversationId, sender, sent.getId(), sent.getSentAt());
+        ArgumentCaptor<Collection<UserId>> recipients = ArgumentCaptor.forClass(Collection.class);
+        verify(deliveryQueue).enqueue(recipients.capture(), eq(sent.getId()), eq(sent.getSentAt()));
+        assertTrue(recipients.getValue().contains(connectedRecipient));
+
+        // When - they reconnect and subscribe to their queue
+        when(deliveryQueue.pending(connectedRecipient, 100))
+            .thenReturn(List.of(new PendingDelivery(sent.getId(), sent.getSentAt())));
+        when(messageRepository.findAllById(anyCollection())).thenReturn(List.of(sent));
+        List<Message> replayed = service.nextBatch(connectedRecipient);
+
+        // Then - the message is replayed, and leaves the queue once acknowledged
+        assertEquals(List.of(sent), replayed);
+        when(messageRepository.markDelivered(anyCollection(), eq(connectedRecipient), any(Instant.class)))
+            .thenReturn(List.of(sent));
+        service.acknowledge(connectedRecipient, List.of(sent.getId()));
+        verify(deliveryQueue).acknowledge(connectedRecipient, List.of(sent.getId()));
+    }
+
+    @Test
+    @DisplayName("Should replay pending messages oldest first and drop long-missing ones")
+    void shouldReplayPendingMessagesInOrder() {
+        // Given
+        Instant now = Instant.now();
+        Message older = message(now.minusSeconds(20));
+        Message newer = message(now.minusSeconds(10));
+        MessageId deleted = MessageId.generate();
+        MessageId buffered = MessageId.generate();
+        when(deliveryQueue.pending(offlineRecipient, 100)).thenReturn(List.of(
+            new PendingDelivery(deleted, now.minus(Duration.ofHours(1))),
+            new PendingDelivery(older.getId(), older.getSentAt()),
+            new PendingDelivery(newer.getId(), newer.getSentAt()),
+            new PendingDelivery(buffered, now)));
+        when(messageRepository.findAllById(anyCollection())).thenReturn(List.of(newer, older));
+
+        // When
+        List<Message> batch = service.nextBatch(offlineRecipient);
+
+        // Then
+        assertEquals(List.of(older, newer), batch);
+        verify(deliveryQueue).acknowledge(offlineRecipient, List.of(deleted));
+    }
+
+    @Test
+    @DisplayName("Should mark acknowledged messages delivered, record one event per change and advance the watermark")
+    @SuppressWarnings("unchecked")
+    void shouldAcknowledgeInBulk() {
+        // Given
+        Message delivered = message(Instant.now());
+        delivered.markAsDelivered();
+        MessageId alreadyDelivered = MessageId.generate();
+        List<MessageId> acknowledged = List.of(delivered.getId(), alreadyDelivered);
+        when(messageRepository.markDelivered(eq(acknowledged), eq(offlineRecipient), any(Instant.class)))
+            .thenReturn(List.of(delivered));
+
+        // When
+        service.acknowledge(offlineRecipient, acknowledged);
+
+        // Then
+        ArgumentCaptor<Collection<MessageDeliveredEvent>> events = ArgumentCaptor.forClass(Collection.class);
+        verify(messageEventOutbox).append(events.capture());
+        MessageDeliveredEvent event = events.getValue().iterator().next();
+        assertEquals(1, events.getValue().size());
+        assertEquals(delivered.getId(), event.getMessageId());
+        assertEquals(offlineRecipient, event.getRecipientId());
+        verify(deliveryQueue).acknowledge(offlineRecipient, acknowledged);
+        verify(receiptWatermarkTracker).recordDelivered(conversationId, offlineRecipient, MessageCursor.of(delivered));
+    }
+
+    @Test
+    @DisplayName("Should keep acknowledged messages queued until the acknowledgement commits")
+    void shouldLeaveQueueOnlyAfterCommit() {
+        // Given
+        Message delivered = message(Instant.now());
+        when(messageRepository.markDelivered(anyCollection(), eq(offlineRecipient), any(Instant.class)))
+            .thenReturn(List.of(delivered));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            service.acknowledge(offlineRecipient, List.of(delivered.getId()));
+
+            // Then - nothing before commit, so a rollback leaves the message to be replayed
+            verify(deliveryQueue, never()).acknowledge(any(), anyCollection());
+            verifyNoInteractions(receiptWatermarkTracker);
+
+            // When - the transaction commits
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Then
+            verify(deliveryQueue).acknowledge(offlineRecipient, List.of(delivered.getId()));
+            verify(receiptWatermarkTracker).recordDelivered(conversationId, offlineRecipient, MessageCursor.of(delivered));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Message message(Instant sentAt) {
+        return new Message(MessageId.generate(), conversationId, sender, "hello", MessageType.TEXT,
+            MessageStatus.SENT, null, sentAt, null, null, false, null);
+    }
+}
@@ -0,0 +1,173 @@
+package com.realtime.communication.unit.chat.domain;
+
+import com.realtime.communication.auth.domain.model.UserId;
+import com.realtime.communication.chat.domain.model.TypingSnapshot;
+import com.realtime.communication.chat.domain.service.TypingIndicatorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TypingIndicatorService
+ */
+@DisplayName("TypingIndicatorService Tests")
+class TypingIndicatorServiceTest {
+
+    private MutableClock clock;
+    private TypingIndicatorService service;
+    private UserId userId;
+    private UUID conversationId;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        service = new TypingIndicatorService(clock);
+        userId = new UserId(UUID.randomUUID());
+        conversationId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should report a started typer once despite repeated start events")
+    void shouldDebounceRepeatedStartEvents() {
+        // Given
+        service.startTyping(userId, conversationId);
+        List<TypingSnapshot> first = service.pollSnapshots();
+
+        // When
+        clock.advance(1000);
+        service.startTyping(userId, conversationId);
+        service.startTyping(userId, conversationId);
+        List<TypingSnapshot> second = service.pollSnapshots();
+
+        // Then
+        assertEquals(1, first.size());
+        assertEquals(List.of(userId.getValue()), first.get(0).started());
+        assertTrue(second.isEmpty());
+        assertTrue(service.isTyping(userId, conversationId));
+    }
+
+    @Test
+    @DisplayName("Should aggregate typers of a conversation into one snapshot")
+    void shouldAggregateTypersIntoOneSnapshot() {
+        // Given
+        UserId otherUser = new UserId(UUID.randomUUID());
+
+        // When
+        service.startTyping(userId, conversationId);
+        service.startTyping(otherUser, conversationId);
+        List<TypingSnapshot> snapshots = service.pollSnapshots();
+
+        // Then
+        assertEquals(1, snapshots.size());
+        assertEquals(conversationId, snapshots.get(0).conversationId().getValue());
+        assertEquals(2, snapshots.get(0).started().size());
+        assertTrue(snapshots.get(0).stopped().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should expire typers after the timeout and report them as stopped")
+    void shouldExpireTypersAfterTimeout() {
+        // Given
+        service.startTyping(userId, conversationId);
+        service.pollSnapshots();
+
+        // When
+        clock.advance(4000);
+        assertTrue(service.pollSnapshots().isEmpty());
+        clock.advance(1100);
+        List<TypingSnapshot> snapshots = service.pollSnapshots();
+
+        // Then
+        assertFalse(service.isTyping(userId, conversationId));
+        assertEquals(1, snapshots.size());
+        assertEquals(List.of(userId.getValue()), snapshots.get(0).stopped());
+    }
+
+    @Test
+    @DisplayName("Should extend the deadline on repeated start events")
+    void shouldExtendDeadlineOnRepeatedStart() {
+        // Given
+        service.startTyping(userId, conversationId);
+        service.pollSnapshots();
+
+        // When
+        clock.advance(4000);
+        service.startTyping(userId, conversationId);
+        clock.advance(4000);
+        List<TypingSnapshot> snapshots = service.pollSnapshots();
+
+        // Then
+        assertTrue(snapshots.isEmpty());
+        assertTrue(service.isTyping(userId, conversationId));
+    }
+
+    @Test
+    @DisplayName("Should not report a typer who stopped before the snapshot")
+    void shouldNotReportShortLivedTyper() {
+        // When
+        service.startTyping(userId, conversationId);
+        service.stopTyping(userId, conversationId);
+
+        // Then
+        assertTrue(service.pollSnapshots().isEmpty());
+        assertFalse(service.isTyping(userId, conversationId));
+    }
+
+    @Test
+    @DisplayName("Should list the typers announced by the last snapshot")
+    void shouldListAnnouncedTypers() {
+        // Given
+        UserId otherUser = new UserId(UUID.randomUUID());
+        service.startTyping(userId, conversationId);
+        service.startTyping(otherUser, conversationId);
+        service.pollSnapshots();
+
+        // When
+        service.stopTyping(otherUser, conversationId);
+        Map<UUID, Set<UUID>> beforePoll = service.announcedTypers();
+        service.pollSnapshots();
+        Map<UUID, Set<UUID>> afterPoll = service.announcedTypers();
+
+        // Then
+        assertEquals(Set.of(userId.getValue(), otherUser.getValue()), beforePoll.get(conversationId));
+        assertEquals(Map.of(conversationId, Set.of(userId.getValue())), afterPoll);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.realtime.communication.unit.shared.infrastructure;
+
+import com.realtime.communication.shared.application.event.Event;
+import com.realtime.communication.shared.infrastructure.messaging.BatchEventConsumer;
+import com.realtime.communication.shared.infrastructure.messaging.PendingRetries;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BatchEventConsumer
+ */
+@DisplayName("BatchEventConsumer Tests")
+class BatchEventConsumerTest {
+
+    private static final String TOPIC = "message-events";
+
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryPendingRetries pendingRetries;
+    private RecordingConsumer consumer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+        meterRegistry = new SimpleMeterRegistry();
+        pendingRetries = new InMemoryPendingRetries();
+        consumer = new RecordingConsumer(kafkaTemplate, pendingRetries, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        consumer.shutdownExecutor();
+    }
+
+    @Test
+    @DisplayName("Should handle records with the same key in offset order")
+    void shouldKeepPerKeyOrder() {
+        // Given
+        List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            records.add(record(i, "key-" + (i % 4), "event-" + i));
+        }
+
+        // When
+        consumer.run(records, null);
+
+        // Then
+        for (int k = 0; k < 4; k++) {
+            List<String> handled = consumer.handledByKey.get("key-" + k);
+            assertEquals(25, handled.size());
+            for (int i = 0; i < handled.size(); i++) {
+                assertEquals("event-" + (k + 4 * i), handled.get(i));
+            }
+        }
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("Should send a failed record and the rest of its key to the retry topic")
+    void shouldRetryFailedRecordAndDeferItsKey() {
+        // Given
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+            record(0, "a", "fail"), record(1, "b", "ok-1"), record(2, "a", "ok-2"));
+
+        // When
+        consumer.run(records, null);
+
+        // Then
+        List<ProducerRecord<String, byte[]>> forwarded = captureForwarded(2);
+        assertEquals(TOPIC + BatchEventConsumer.RETRY_SUFFIX, forwarded.get(0).topic());
+        assertEquals("a:fail", payload(forwarded.get(0)));
+        assertEquals("1", header(forwarded.get(0), "x-attempts"));
+        assertEquals("a:ok-2", payload(forwarded.get(1)));
+        assertEquals("0", header(forwarded.get(1), "x-attempts"));
+        assertEquals(List.of("ok-1"), consumer.handledByKey.get("b"));
+        assertNull(consumer.handledByKey.get("a"));
+    }
+
+    @Test
+    @DisplayName("Should divert later records of a key to the retry topic until its retries are handled")
+    void shouldDivertKeyWhileInRetry() {
+        // Given - a failed record of key a went to the retry topic in an earlier batch
+        consumer.run(List.of(record(0, "a", "fail")), null);
+        assertEquals(Map.of("a", 1), pendingRetries.counts);
+
+        // When
+        consumer.run(List.of(record(1, "a", "ok-1"), record(2, "b", "ok-2")), null);
+
+        // Then - a's record follows the failed one instead of overtaking it
+        List<ProducerRecord<String, byte[]>> forwarded = captureForwarded(2);
+        assertEquals(TOPIC + BatchEventConsumer.RETRY_SUFFIX, forwarded.get(1).topic());
+        assertEquals("a:ok-1", payload(forwarded.get(1)));
+        assertNull(consumer.handledByKey.get("a"));
+        assertEquals(List.of("ok-2"), consumer.handledByKey.get("b"));
+        assertEquals(Map.of("a", 2), pendingRetries.counts);
+    }
+
+    @Test
+    @DisplayName("Should release a key once its retry records are handled")
+    void shouldReleaseKeyWhenRetriesAreHandled() {
+        // Given
+        pendingRetries.enter(List.of("a"));
+        ConsumerRecord<String, byte[]> retry = new ConsumerRecord<>(TOPIC + BatchEventConsumer.RETRY_SUFFIX,
+            0, 0, "a", "a:ok-1".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        consumer.run(List.of(retry), null);
+        consumer.run(List.of(record(1, "a", "ok-2")), null);
+
+        // Then
+        assertTrue(pendingRetries.counts.isEmpty());
+        assertEquals(List.of("ok-1", "ok-2"), consumer.handledByKey.get("a"));
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("Should dead-letter records that cannot be deserialized or exhausted their attempts")
+    void shouldDeadLetterPoisonAndExhaustedRecords() {
+        // Given
+        ConsumerRecord<String, byte[]> exhausted = new ConsumerRecord<>(TOPIC + BatchEventConsumer.RETRY_SUFFIX,
+            0, 5, "a", "a:fail".getBytes(StandardCharsets.UTF_8));
+        exhausted.headers().add("x-attempts", "2".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        consumer.run(List.of(record(0, "b", "poison"), exhausted), null);
+
+        // Then
+        List<ProducerRecord<String, byte[]>> forwarded = captureForwarded(2);
+        assertTrue(forwarded.stream().allMatch(r -> r.topic().equals(TOPIC + BatchEventConsumer.DLT_SUFFIX)));
+        assertEquals(2.0, meterRegistry.get("kafka.consumer.events").tag("outcome", "dead-lettered").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should publish per-partition lag after a batch")
+    @SuppressWarnings("unchecked")
+    void shouldRecordPartitionLag() {
+        // Given
+        Consumer<String, byte[]> kafkaConsumer = mock(Consumer.class);
+        when(kafkaConsumer.currentLag(new TopicPartition(TOPIC, 0))).thenReturn(OptionalLong.of(42));
+
+        // When
+        consumer.run(List.of(record(0, "a", "ok")), kafkaConsumer);
+
+        // Then
+        assertEquals(42.0, meterRegistry.get("kafka.consumer.partition.lag")
+            .tag("topic", TOPIC).tag("partition", "0").gauge().value());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProducerRecord<String, byte[]>> captureForwarded(int count) {
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(count)).send(captor.capture());
+        return captor.getAllValues();
+    }
+
+    /**
+     * Payloads carry their key as "key:name" so the handler can group what it saw.
+     */
+    private static ConsumerRecord<String, byte[]> record(long offset, String key, String name) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, key, (key + ":" + name).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String payload(ProducerRecord<String, byte[]> record) {
+        return new String(record.value(), StandardCharsets.UTF_8);
+    }
+
+    private static String header(ProducerRecord<String, byte[]> record, String key) {
+        return new String(record.headers().lastHeader(key).value(), StandardCharsets.UTF_8);
+    }
+
+    private static final class TestEvent extends Event {
+        private final String key;
+        private final String name;
+
+        private TestEvent(String payload) {
+            int separator = payload.indexOf(':');
+            this.key = payload.substring(0, separator);
+            this.name = payload.substring(separator + 1);
+        }
+    }
+
+    private static final class InMemoryPendingRetries implements PendingRetries {
+        private final Map<String, Integer> counts = new ConcurrentHashMap<>();
+
+        @Override
+        public Set<String> inRetry(Collection<String> keys) {
+            return keys.stream().filter(counts::containsKey).collect(Collectors.toSet());
+        }
+
+        @Override
+        public void enter(List<String> keys) {
+            keys.forEach(key -> counts.merge(key, 1, Integer::sum));
+        }
+
+        @Override
+        public void leave(List<String> keys) {
+            keys.forEach(key -> counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null));
+        }
+    }
+
+    private static final class RecordingConsumer extends BatchEventConsumer {
+        private final Map<String, List<String>> handledByKey = new ConcurrentHashMap<>();
+
+        private RecordingConsumer(KafkaTemplate<String, byte[]> kafkaTemplate, PendingRetries pendingRetries,
+                                  SimpleMeterRegistry meterRegistry) {
+            super("test", RecordingConsumer::deserialize, kafkaTemplate, pendingRetries, meterRegistry, 4, 3, 0);
+        }
+
+        private static Event deserialize(String topic, byte[] data) {
+            TestEvent event = new TestEvent(new String(data, StandardCharsets.UTF_8));
+            if (event.name.equals("poison")) {
+                throw new SerializationException("Bad record");
+            }
+            return event;
+        }
+
+        void run(List<ConsumerRecord<String, byte[]>> records, Consumer<?, ?> kafkaConsumer) {
+            consume(records, kafkaConsumer);
+        }
+
+        @Override
+        protected void handle(Event event) {
+            TestEvent testEvent = (TestEvent) event;
+            if (testEvent.name.equals("fail")) {
+                throw new IllegalStateException("Handler failed");
+            }
+            handledByKey.computeIfAbsent(testEvent.key, k -> Collections.synchronizedList(new ArrayList<>()))
+                .add(testEvent.name);
+        }
+    }
+}
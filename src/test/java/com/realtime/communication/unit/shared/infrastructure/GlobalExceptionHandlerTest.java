@@ -0,0 +1,34 @@
+package com.realtime.communication.unit.shared.infrastructure;
+
+import com.realtime.communication.shared.domain.exception.ServiceUnavailableException;
+import com.realtime.communication.shared.infrastructure.web.GlobalExceptionHandler;
+import com.realtime.communication.shared.infrastructure.web.GlobalExceptionHandler.ErrorResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for GlobalExceptionHandler
+ */
+@DisplayName("GlobalExceptionHandler Tests")
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    @DisplayName("Should map ServiceUnavailableException to 503 with Retry-After")
+    void shouldMapServiceUnavailable() {
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleServiceUnavailable(
+            new ServiceUnavailableException("Too many concurrent logins, retry later"));
+
+        // Then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertNotNull(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals("SERVICE_UNAVAILABLE", response.getBody().errorCode());
+    }
+}
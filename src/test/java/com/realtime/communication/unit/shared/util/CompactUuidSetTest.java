@@ -0,0 +1,86 @@
+package com.realtime.communication.unit.shared.util;
+
+import com.realtime.communication.shared.util.CompactUuidSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CompactUuidSet
+ */
+@DisplayName("CompactUuidSet Tests")
+class CompactUuidSetTest {
+
+    @Test
+    @DisplayName("Should contain exactly the given UUIDs")
+    void shouldContainExactlyTheGivenUuids() {
+        // Given
+        List<UUID> members = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            members.add(UUID.randomUUID());
+        }
+
+        // When
+        CompactUuidSet set = CompactUuidSet.of(members);
+
+        // Then
+        assertEquals(1000, set.size());
+        members.forEach(uuid -> assertTrue(set.contains(uuid)));
+        assertFalse(set.contains(UUID.randomUUID()));
+    }
+
+    @Test
+    @DisplayName("Should order negative and positive bit patterns consistently")
+    void shouldOrderNegativeAndPositiveBitPatternsConsistently() {
+        // Given - UUIDs whose signed halves straddle zero
+        UUID a = new UUID(Long.MIN_VALUE, 1L);
+        UUID b = new UUID(-1L, Long.MAX_VALUE);
+        UUID c = new UUID(0L, -1L);
+        UUID d = new UUID(Long.MAX_VALUE, Long.MIN_VALUE);
+
+        // When
+        CompactUuidSet set = CompactUuidSet.of(List.of(d, b, c, a));
+
+        // Then
+        assertTrue(set.contains(a));
+        assertTrue(set.contains(b));
+        assertTrue(set.contains(c));
+        assertTrue(set.contains(d));
+        assertFalse(set.contains(new UUID(0L, 0L)));
+    }
+
+    @Test
+    @DisplayName("Should drop duplicates")
+    void shouldDropDuplicates() {
+        // Given
+        UUID uuid = UUID.randomUUID();
+
+        // When
+        CompactUuidSet set = CompactUuidSet.of(List.of(uuid, uuid, UUID.randomUUID()));
+
+        // Then
+        assertEquals(2, set.size());
+        Set<UUID> iterated = new HashSet<>();
+        set.forEach(iterated::add);
+        assertEquals(2, iterated.size());
+        assertTrue(iterated.contains(uuid));
+    }
+
+    @Test
+    @DisplayName("Should handle empty input")
+    void shouldHandleEmptyInput() {
+        // When
+        CompactUuidSet set = CompactUuidSet.of(List.of());
+
+        // Then
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(UUID.randomUUID()));
+    }
+}
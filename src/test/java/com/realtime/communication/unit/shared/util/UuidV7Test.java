@@ -0,0 +1,101 @@
+package com.realtime.communication.unit.shared.util;
+
+import com.realtime.communication.shared.util.UuidV7;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for UuidV7
+ */
+@DisplayName("UuidV7 Tests")
+class UuidV7Test {
+
+    @Test
+    @DisplayName("Should set the version and variant and embed the current time")
+    void shouldSetVersionVariantAndTimestamp() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID uuid = UuidV7.generate();
+
+        // Then
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        // The timestamp may run ahead of the clock by a few milliseconds after a burst
+        long timestamp = UuidV7.timestampOf(uuid);
+        assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis() + 1000);
+    }
+
+    @Test
+    @DisplayName("Should generate strictly increasing ids, also beyond 4096 per millisecond")
+    void shouldGenerateIncreasingIds() {
+        // Given
+        UUID previous = UuidV7.generate();
+
+        for (int i = 0; i < 100_000; i++) {
+            // When
+            UUID next = UuidV7.generate();
+
+            // Then - both Java's order and PostgreSQL's unsigned byte order
+            assertTrue(next.compareTo(previous) > 0);
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should generate unique ids that increase on every thread under concurrency")
+    void shouldGenerateUniqueIdsConcurrently() throws Exception {
+        // Given
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        Callable<List<UUID>> task = () -> {
+            List<UUID> ids = new ArrayList<>(perThread);
+            for (int i = 0; i < perThread; i++) {
+                ids.add(UuidV7.generate());
+            }
+            return ids;
+        };
+
+        // When
+        List<Future<List<UUID>>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(task));
+        }
+        Set<UUID> all = new HashSet<>();
+        try {
+            for (Future<List<UUID>> result : results) {
+                List<UUID> ids = result.get();
+                for (int i = 1; i < ids.size(); i++) {
+                    assertTrue(ids.get(i).compareTo(ids.get(i - 1)) > 0);
+                }
+                all.addAll(ids);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertEquals(threads * perThread, all.size());
+    }
+
+    @Test
+    @DisplayName("Should reject reading the timestamp of a random UUID")
+    void shouldRejectTimestampOfRandomUuid() {
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.timestampOf(UUID.randomUUID()));
+    }
+}